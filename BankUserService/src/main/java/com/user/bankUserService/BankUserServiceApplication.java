@@ -2,12 +2,24 @@ package com.user.bankUserService;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.elasticsearch.repository.config.EnableElasticsearchRepositories;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+import com.example.bankCommon.config.IdempotencyConfig;
+import com.example.bankCommon.config.ProfilingConfig;
+import com.example.bankCommon.config.SmileCodecConfig;
+import com.example.bankCommon.config.StartupConfig;
+import com.example.bankCommon.config.TracingConfig;
+import com.user.bankUserService.repository.AccountRepository;
 
-@EnableElasticsearchRepositories(basePackages = "com.user.BankUserService.repository")
-@EnableJpaRepositories(basePackages = "com.user.BankUserService.repository")
+
+@EnableElasticsearchRepositories(basePackageClasses = AccountRepository.class)
+@EnableJpaRepositories(basePackageClasses = AccountRepository.class)
+@EnableScheduling
+@Import({ IdempotencyConfig.class, ProfilingConfig.class, SmileCodecConfig.class, StartupConfig.class,
+        TracingConfig.class })
 @SpringBootApplication
 public class BankUserServiceApplication {
 
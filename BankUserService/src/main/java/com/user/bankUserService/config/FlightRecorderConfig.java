@@ -0,0 +1,20 @@
+package com.user.bankUserService.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.bankCommon.config.RecordingSummary;
+import com.example.bankCommon.service.MoneyMovementEvent;
+
+/**
+ * The service's own Flight Recorder events, so that
+ * {@code /actuator/profiling/summary} groups them by operation and account.
+ */
+@Configuration
+public class FlightRecorderConfig {
+
+    @Bean
+    public RecordingSummary.EventGroup moneyMovementEvents() {
+        return MoneyMovementEvent.EVENT_GROUP;
+    }
+}
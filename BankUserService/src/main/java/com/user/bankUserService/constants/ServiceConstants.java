@@ -1,5 +1,8 @@
 package com.user.bankUserService.constants;
 
 public class ServiceConstants {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
     public static final String TRANSACTION_SERVICE_URL = "http://localhost:9098/api/transaction/saveTransaction";
+    public static final String TRANSACTION_BULK_URL = "http://localhost:9098/api/transaction/saveTransactions";
+    public static final String TRANSACTION_TOTALS_URL = "http://localhost:9098/api/transaction/totals";
 }
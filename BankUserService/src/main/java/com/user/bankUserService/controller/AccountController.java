@@ -7,21 +7,28 @@ import org.apache.http.HttpStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.bankCommon.service.IdempotencyService;
+import com.user.bankUserService.constants.ServiceConstants;
 import com.user.bankUserService.entity.Account;
+import com.user.bankUserService.exception.InsufficientFundsException;
 import com.user.bankUserService.request.DepositeRequest;
 import com.user.bankUserService.request.WithdrawRequest;
 import com.user.bankUserService.service.AccountService;
+import com.user.bankUserService.service.MoneyMovementMetrics;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.micrometer.observation.annotation.Observed;
 
 /**
  * AccountController handles all the operations related to account management,
@@ -30,6 +37,7 @@ import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
  * money.
  * It uses {@link AccountService} to perform business logic.
  */
+@Observed(lowCardinalityKeyValues = { "layer", "controller" })
 @RestController
 @RequestMapping("/account")
 public class AccountController {
@@ -39,6 +47,15 @@ public class AccountController {
     @Autowired
     private AccountService accountService;
 
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private MoneyMovementMetrics moneyMovementMetrics;
+
+    @Value("${account.batch-lookup.max-ids:1000}")
+    private int batchLookupMaxIds;
+
     /**
      * Creates a new account with the given account details.
      *
@@ -67,6 +84,24 @@ public class AccountController {
         return account;
     }
 
+    /**
+     * Fetches the account details for several account IDs in one call.
+     * Accounts that do not exist are left out of the result.
+     *
+     * @param accountNumbers the IDs of the accounts to retrieve
+     * @return ResponseEntity containing the accounts found, or 400 if too many
+     *         IDs were requested
+     */
+    @PostMapping("/getByIds")
+    public ResponseEntity<List<Account>> getAccountsByIds(@RequestBody List<UUID> accountNumbers) {
+        logger.info("Fetching {} accounts by ID", accountNumbers.size());
+        if (accountNumbers.size() > batchLookupMaxIds) {
+            logger.warn("Rejected batch lookup of {} accounts, limit is {}", accountNumbers.size(), batchLookupMaxIds);
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(accountService.getAccountsByIds(accountNumbers));
+    }
+
     /**
      * Retrieves all existing accounts.
      *
@@ -82,50 +117,72 @@ public class AccountController {
 
     /**
      * Deposits the specified amount into the account with the given account ID.
-     * Implements a CircuitBreaker for fault tolerance.
+     * Implements a CircuitBreaker for fault tolerance. A repeated request with
+     * the same Idempotency-Key header returns the original response without
+     * depositing again.
      *
      * @param accountNumber  the ID of the account to deposit into
+     * @param idempotencyKey optional client-supplied idempotency key
      * @param updatedAccount the details of the deposit request
      * @return ResponseEntity containing the updated DepositeRequest object
      */
     @PutMapping("/depositAmount/{accountNumber}")
     @CircuitBreaker(name = "accountServiceCircuitBreaker", fallbackMethod = "fallbackDeposit")
     public ResponseEntity<DepositeRequest> updateAccountBalance(@PathVariable UUID accountNumber,
+            @RequestHeader(value = ServiceConstants.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @RequestBody DepositeRequest updatedAccount) {
         logger.info("Updating balance for account ID: {}", accountNumber);
-        DepositeRequest account = accountService.updateAccountBalance(accountNumber, updatedAccount);
-        logger.info("Account balance updated successfully for ID: {}", accountNumber);
-        return ResponseEntity.ok(account);
+        return idempotencyService.execute("deposit", idempotencyKey,
+                accountNumber + ":" + updatedAccount.getBalance(), DepositeRequest.class, () -> {
+                    DepositeRequest account = accountService.updateAccountBalance(accountNumber, updatedAccount);
+                    logger.info("Account balance updated successfully for ID: {}", accountNumber);
+                    return ResponseEntity.ok(account);
+                });
     }
 
     /**
      * Withdraws the specified amount from the account with the given account ID.
-     * Implements a CircuitBreaker for fault tolerance.
+     * Implements a CircuitBreaker for fault tolerance. A repeated request with
+     * the same Idempotency-Key header returns the original response without
+     * withdrawing again.
      *
      * @param accountNumber  the ID of the account to withdraw from
+     * @param idempotencyKey optional client-supplied idempotency key
      * @param updatedAccount the details of the withdrawal request
      * @return ResponseEntity containing the updated WithdrawRequest object
      */
     @PutMapping("/withdraw/{accountNumber}")
     @CircuitBreaker(name = "accountServiceCircuitBreaker", fallbackMethod = "fallbackWithdraw")
     public ResponseEntity<WithdrawRequest> withdrawFromAccount(@PathVariable UUID accountNumber,
+            @RequestHeader(value = ServiceConstants.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @RequestBody WithdrawRequest updatedAccount) {
         logger.info("Withdrawing from account ID: {}", accountNumber);
-        WithdrawRequest account = accountService.withdrawFromAccount(accountNumber, updatedAccount);
-        logger.info("Withdrawal successful for account ID: {}", accountNumber);
-        return ResponseEntity.ok(account);
+        return idempotencyService.execute("withdraw", idempotencyKey,
+                accountNumber + ":" + updatedAccount.getBalance(), WithdrawRequest.class, () -> {
+                    WithdrawRequest account = accountService.withdrawFromAccount(accountNumber, updatedAccount);
+                    logger.info("Withdrawal successful for account ID: {}", accountNumber);
+                    return ResponseEntity.ok(account);
+                });
     }
 
     /**
      * Fallback method for deposit operations when the service is unavailable.
      *
      * @param accountNumber  the ID of the account
+     * @param idempotencyKey the idempotency key of the request, if any
      * @param updatedAccount the deposit request details
      * @param t              the throwable error that caused the fallback
-     * @return ResponseEntity with an error message and SERVICE_UNAVAILABLE status
+     * @return ResponseEntity with an error message and 400 if the deposit was
+     *         invalid, or SERVICE_UNAVAILABLE status otherwise
      */
-    public ResponseEntity<String> fallbackDeposit(UUID accountNumber, DepositeRequest updatedAccount, Throwable t) {
+    public ResponseEntity<String> fallbackDeposit(UUID accountNumber, String idempotencyKey,
+            DepositeRequest updatedAccount, Throwable t) {
+        ResponseEntity<String> refused = refused(t);
+        if (refused != null) {
+            return refused;
+        }
         logger.error("Deposit service failed for account ID: {}. Reason: {}", accountNumber, t.getMessage());
+        moneyMovementMetrics.fallback("updateAccountBalance");
         return ResponseEntity.status(HttpStatus.SC_SERVICE_UNAVAILABLE)
                 .body("Deposit service is currently unavailable. Please try again later.");
     }
@@ -134,13 +191,36 @@ public class AccountController {
      * Fallback method for withdrawal operations when the service is unavailable.
      *
      * @param accountNumber  the ID of the account
+     * @param idempotencyKey the idempotency key of the request, if any
      * @param updatedAccount the withdrawal request details
      * @param t              the throwable error that caused the fallback
-     * @return ResponseEntity with an error message and SERVICE_UNAVAILABLE status
+     * @return ResponseEntity with an error message and 400 if the withdrawal
+     *         was invalid, 422 if the account has insufficient funds, or
+     *         SERVICE_UNAVAILABLE status otherwise
      */
-    public ResponseEntity<String> fallbackWithdraw(UUID accountNumber, WithdrawRequest updatedAccount, Throwable t) {
+    public ResponseEntity<String> fallbackWithdraw(UUID accountNumber, String idempotencyKey,
+            WithdrawRequest updatedAccount, Throwable t) {
+        ResponseEntity<String> refused = refused(t);
+        if (refused != null) {
+            return refused;
+        }
         logger.error("Withdrawal service failed for account ID: {}. Reason: {}", accountNumber, t.getMessage());
+        moneyMovementMetrics.fallback("withdrawFromAccount");
         return ResponseEntity.status(HttpStatus.SC_SERVICE_UNAVAILABLE)
                 .body("Withdrawal service is currently unavailable. Please try again later.");
     }
+
+    /**
+     * The response to a request refused for a business reason. The circuit
+     * breaker ignores these exceptions, but still hands them to the fallback.
+     */
+    private static ResponseEntity<String> refused(Throwable t) {
+        if (t instanceof InsufficientFundsException) {
+            return ResponseEntity.status(HttpStatus.SC_UNPROCESSABLE_ENTITY).body(t.getMessage());
+        }
+        if (t instanceof IllegalArgumentException) {
+            return ResponseEntity.status(HttpStatus.SC_BAD_REQUEST).body(t.getMessage());
+        }
+        return null;
+    }
 }
@@ -0,0 +1,70 @@
+package com.user.bankUserService.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.user.bankUserService.entity.InterestAccrualReport;
+import com.user.bankUserService.service.InterestAccrualService;
+
+import io.micrometer.observation.annotation.Observed;
+
+/**
+ * InterestAccrualController starts daily interest accrual runs and reports on
+ * their progress.
+ * It uses {@link InterestAccrualService} to perform business logic.
+ */
+@Observed(lowCardinalityKeyValues = { "layer", "controller" })
+@RestController
+@RequestMapping("/interest")
+public class InterestAccrualController {
+
+    private static final Logger logger = LoggerFactory.getLogger(InterestAccrualController.class);
+
+    @Autowired
+    private InterestAccrualService interestAccrualService;
+
+    @Value("${interest.max-partitions:64}")
+    private int maxPartitions;
+
+    /**
+     * Starts today's interest accrual run, or resumes the run with the given
+     * ID.
+     *
+     * @param runId      the ID of the run to resume, if any
+     * @param partitions the number of partitions to process in parallel
+     * @return ResponseEntity containing the run ID, or 400 if the partition
+     *         count is not between 1 and {@code interest.max-partitions}
+     */
+    @PostMapping("/run")
+    public ResponseEntity<String> startAccrual(@RequestParam(required = false) String runId,
+            @RequestParam(defaultValue = "8") int partitions) {
+        logger.info("Starting interest accrual run: {} with {} partitions", runId, partitions);
+        if (partitions < 1 || partitions > maxPartitions) {
+            logger.warn("Rejected interest accrual run with {} partitions, limit is {}", partitions, maxPartitions);
+            return ResponseEntity.badRequest().body("Partitions must be between 1 and " + maxPartitions);
+        }
+        String id = interestAccrualService.startAccrual(runId, partitions);
+        return ResponseEntity.accepted().body(id);
+    }
+
+    /**
+     * Fetches the progress summary for an interest accrual run.
+     *
+     * @param runId the run ID
+     * @return ResponseEntity containing the report, or 404 if the run is unknown
+     */
+    @GetMapping("/{runId}")
+    public ResponseEntity<InterestAccrualReport> getReport(@PathVariable String runId) {
+        InterestAccrualReport report = interestAccrualService.getReport(runId);
+        return report != null ? ResponseEntity.ok(report) : ResponseEntity.notFound().build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.user.bankUserService.controller;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.user.bankUserService.entity.ReconciliationMismatch;
+import com.user.bankUserService.entity.ReconciliationReport;
+import com.user.bankUserService.service.ReconciliationService;
+
+import io.micrometer.observation.annotation.Observed;
+
+/**
+ * ReconciliationController starts balance reconciliation runs and reports on
+ * their progress and the mismatches they find.
+ * It uses {@link ReconciliationService} to perform business logic.
+ */
+@Observed(lowCardinalityKeyValues = { "layer", "controller" })
+@RestController
+@RequestMapping("/reconciliation")
+public class ReconciliationController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReconciliationController.class);
+
+    @Autowired
+    private ReconciliationService reconciliationService;
+
+    @Value("${reconciliation.max-partitions:64}")
+    private int maxPartitions;
+
+    /**
+     * Starts a new reconciliation run, or resumes an interrupted one when a run
+     * ID is given.
+     *
+     * @param runId      the ID of the run to resume, if any
+     * @param partitions the number of partitions to process in parallel
+     * @return ResponseEntity containing the run ID, or 400 if the partition
+     *         count is not between 1 and {@code reconciliation.max-partitions}
+     */
+    @PostMapping("/run")
+    public ResponseEntity<String> startReconciliation(@RequestParam(required = false) String runId,
+            @RequestParam(defaultValue = "8") int partitions) {
+        logger.info("Starting reconciliation run: {} with {} partitions", runId, partitions);
+        if (partitions < 1 || partitions > maxPartitions) {
+            logger.warn("Rejected reconciliation run with {} partitions, limit is {}", partitions, maxPartitions);
+            return ResponseEntity.badRequest().body("Partitions must be between 1 and " + maxPartitions);
+        }
+        String id = reconciliationService.startReconciliation(runId, partitions);
+        return ResponseEntity.accepted().body(id);
+    }
+
+    /**
+     * Fetches the progress summary for a reconciliation run.
+     *
+     * @param runId the run ID
+     * @return ResponseEntity containing the report, or 404 if the run is unknown
+     */
+    @GetMapping("/{runId}")
+    public ResponseEntity<ReconciliationReport> getReport(@PathVariable String runId) {
+        ReconciliationReport report = reconciliationService.getReport(runId);
+        return report != null ? ResponseEntity.ok(report) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Fetches the mismatches found by a reconciliation run, one page at a time.
+     *
+     * @param runId the run ID
+     * @param page  the zero-based page number
+     * @param size  the page size
+     * @return List of mismatches on the requested page
+     */
+    @GetMapping("/{runId}/mismatches")
+    public List<ReconciliationMismatch> getMismatches(@PathVariable String runId,
+            @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "100") int size) {
+        return reconciliationService.getMismatches(runId, page, size);
+    }
+}
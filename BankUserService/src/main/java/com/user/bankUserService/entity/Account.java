@@ -1,17 +1,21 @@
 package com.user.bankUserService.entity;
 
+import com.example.bankCommon.model.Money;
+
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.UUID;
 
 @Entity
 @Data
+@NoArgsConstructor
 @Table(name = "accounts")
 public class Account {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@TimeOrderedUuid
 	UUID accountNumber;
 	String accountHolderName;
 	String accountType;
@@ -19,9 +23,10 @@ public class Account {
 	@Column(name = "pan_card_number")
 	String panCardNumber;
 	String address;
-	double balance;
+	@Column(name = "balance_minor", nullable = false)
+	Money balance = Money.ZERO;
 	public Account(UUID accountNumber, String accountHolderName, String accountType, String panCardNumber,
-			String address, double balance) {
+			String address, Money balance) {
 		super();
 		this.accountNumber = accountNumber;
 		this.accountHolderName = accountHolderName;
@@ -60,10 +65,10 @@ public class Account {
 	public void setAddress(String address) {
 		this.address = address;
 	}
-	public double getBalance() {
+	public Money getBalance() {
 		return balance;
 	}
-	public void setBalance(double balance) {
+	public void setBalance(Money balance) {
 		this.balance = balance;
 	}
 	
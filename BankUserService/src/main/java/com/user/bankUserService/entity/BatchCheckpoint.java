@@ -0,0 +1,43 @@
+package com.user.bankUserService.entity;
+
+import java.util.Date;
+import java.util.UUID;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress marker for one partition of a batch job run. The last processed
+ * account number is stored so a restarted run resumes after it. The version
+ * makes new checkpoints inserts rather than merges, and is bumped each time
+ * a checkpoint advances.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "batch_checkpoints")
+public class BatchCheckpoint {
+
+	@Id
+	private String id;
+	private String jobName;
+	private String runId;
+	private int partitionIndex;
+	private int partitionCount;
+	private UUID lastKey;
+	private UUID upperKey;
+	private long processed;
+	private boolean completed;
+	private Date updatedAt;
+	@Version
+	private Long version;
+
+	public static String idFor(String jobName, String runId, int partitionIndex) {
+		return jobName + ":" + runId + ":" + partitionIndex;
+	}
+
+}
@@ -0,0 +1,18 @@
+package com.user.bankUserService.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class InterestAccrualReport {
+
+	private String runId;
+	private int partitions;
+	private int completedPartitions;
+	private long accountsAccrued;
+	private boolean finished;
+
+}
@@ -0,0 +1,35 @@
+package com.user.bankUserService.entity;
+
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Interest transactions of one page of an accrual run that have not yet been
+ * recorded by the transaction service. The posting is written in the same
+ * database transaction as the balance credits it describes and deleted once
+ * the transaction service has accepted it, so credits and their transaction
+ * records cannot drift apart. The ID doubles as the idempotency key of the
+ * bulk call.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "interest_postings")
+public class InterestPosting {
+
+	@Id
+	private String id;
+	private String runId;
+	@Lob
+	@Column(columnDefinition = "MEDIUMTEXT")
+	private String transactions;
+	private Date createdAt;
+
+}
@@ -0,0 +1,23 @@
+package com.user.bankUserService.entity;
+
+import com.example.bankCommon.model.Money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores {@link Money} attributes as a BIGINT count of minor units.
+ */
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, Long> {
+
+	@Override
+	public Long convertToDatabaseColumn(Money attribute) {
+		return attribute == null ? null : attribute.minorUnits();
+	}
+
+	@Override
+	public Money convertToEntityAttribute(Long dbData) {
+		return dbData == null ? null : Money.ofMinor(dbData);
+	}
+}
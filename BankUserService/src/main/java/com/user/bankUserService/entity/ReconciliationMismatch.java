@@ -0,0 +1,38 @@
+package com.user.bankUserService.entity;
+
+import java.util.Date;
+import java.util.UUID;
+
+import com.example.bankCommon.model.Money;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "reconciliation_mismatches", indexes = @Index(name = "idx_reconciliation_mismatches_run_id",
+		columnList = "runId"))
+public class ReconciliationMismatch {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reconciliation_mismatches_seq")
+	@SequenceGenerator(name = "reconciliation_mismatches_seq", sequenceName = "reconciliation_mismatches_seq",
+			allocationSize = 50)
+	private Long id;
+	private String runId;
+	private UUID accountNumber;
+	private boolean accountMissing;
+	private Money accountBalance;
+	private Money transactionTotal;
+	private Money difference;
+	private Date detectedAt;
+
+}
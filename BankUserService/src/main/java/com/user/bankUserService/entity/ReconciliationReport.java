@@ -0,0 +1,19 @@
+package com.user.bankUserService.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReconciliationReport {
+
+	private String runId;
+	private int partitions;
+	private int completedPartitions;
+	private long accountsChecked;
+	private long mismatches;
+	private boolean finished;
+
+}
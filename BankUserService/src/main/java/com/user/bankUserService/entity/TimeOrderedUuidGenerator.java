@@ -0,0 +1,56 @@
+package com.user.bankUserService.entity;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * Generates UUIDv7-style identifiers: a 48-bit millisecond timestamp followed
+ * by a 12-bit sequence and 62 random bits.
+ * <p>
+ * Because the timestamp is in the most significant bytes, new keys sort after
+ * existing ones and inserts append to the right edge of the primary key
+ * B-tree instead of splitting pages at random positions. The 12-bit sequence
+ * keeps keys generated in the same millisecond strictly increasing within
+ * this JVM; if it overflows, the timestamp part is advanced by one
+ * millisecond.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	/** Last issued value of (timestamp millis << 12 | sequence). */
+	private static final AtomicLong LAST_TIMESTAMP_AND_SEQUENCE = new AtomicLong();
+
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+			EventType eventType) {
+		return next();
+	}
+
+	@Override
+	public EnumSet<EventType> getEventTypes() {
+		return EventTypeSets.INSERT_ONLY;
+	}
+
+	/**
+	 * Creates a new time-ordered UUID.
+	 *
+	 * @return the generated UUID
+	 */
+	public static UUID next() {
+		long now = System.currentTimeMillis() << 12;
+		long timestampAndSequence = LAST_TIMESTAMP_AND_SEQUENCE
+				.updateAndGet(last -> Math.max(last + 1, now));
+
+		long mostSigBits = ((timestampAndSequence >>> 12) << 16) | 0x7000L | (timestampAndSequence & 0xFFFL);
+		long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		return new UUID(mostSigBits, leastSigBits);
+	}
+}
@@ -1,19 +1,58 @@
 package com.user.bankUserService.repository;
 
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.user.bankUserService.entity.Account;
-import com.user.bankUserService.request.WithdrawRequest;
+import com.user.bankUserService.request.AccountBalance;
+
+import jakarta.persistence.LockModeType;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, UUID> {
 
     Account findByAccountNumber(UUID accountUUID);
 
-  
+    /**
+     * A page of account numbers, without loading the accounts.
+     */
+    @Query("select a.accountNumber from Account a")
+    List<UUID> findAccountNumbers(Pageable pageable);
+
+    /**
+     * Loads an account and locks its row until the transaction ends, so no
+     * other write to the balance can land between reading and updating it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.accountNumber = :accountNumber")
+    Optional<Account> findForUpdate(@Param("accountNumber") UUID accountNumber);
+
+    /**
+     * Keyset page of account balances in the range {@code (after, upper]},
+     * ordered by account number.
+     */
+    @Query("select new com.user.bankUserService.request.AccountBalance(a.accountNumber, a.balance) from Account a "
+            + "where a.accountNumber > :after and a.accountNumber <= :upper order by a.accountNumber")
+    List<AccountBalance> findBalancesInRange(@Param("after") UUID after, @Param("upper") UUID upper,
+            Pageable pageable);
+
+    /**
+     * Keyset page of balances of accounts of one type in the range
+     * {@code (after, upper]}, ordered by account number.
+     */
+    @Query("select new com.user.bankUserService.request.AccountBalance(a.accountNumber, a.balance) from Account a "
+            + "where a.accountNumber > :after and a.accountNumber <= :upper and a.accountType = :accountType "
+            + "order by a.accountNumber")
+    List<AccountBalance> findBalancesOfTypeInRange(@Param("after") UUID after, @Param("upper") UUID upper,
+            @Param("accountType") String accountType, Pageable pageable);
 
 }
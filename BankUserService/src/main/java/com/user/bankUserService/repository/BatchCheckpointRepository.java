@@ -0,0 +1,35 @@
+package com.user.bankUserService.repository;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.user.bankUserService.entity.BatchCheckpoint;
+
+@Repository
+public interface BatchCheckpointRepository extends JpaRepository<BatchCheckpoint, String> {
+
+    List<BatchCheckpoint> findByJobNameAndRunIdOrderByPartitionIndex(String jobName, String runId);
+
+    /**
+     * Moves a checkpoint past a page, provided it is still where the caller
+     * read it. A runner that loses the race to another one for the same
+     * partition gets 0 and must roll back its page.
+     */
+    @Modifying
+    @Transactional
+    @Query("update BatchCheckpoint c set c.lastKey = :lastKey, c.processed = :processed, c.completed = :completed,"
+            + " c.updatedAt = :updatedAt, c.version = c.version + 1"
+            + " where c.id = :id and c.lastKey = :expectedLastKey and c.completed = false")
+    int advance(@Param("id") String id, @Param("expectedLastKey") UUID expectedLastKey,
+            @Param("lastKey") UUID lastKey, @Param("processed") long processed, @Param("completed") boolean completed,
+            @Param("updatedAt") Date updatedAt);
+
+}
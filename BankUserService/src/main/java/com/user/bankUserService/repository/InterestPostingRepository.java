@@ -0,0 +1,16 @@
+package com.user.bankUserService.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.user.bankUserService.entity.InterestPosting;
+
+@Repository
+public interface InterestPostingRepository extends JpaRepository<InterestPosting, String> {
+
+    List<InterestPosting> findAllByOrderByCreatedAt(Pageable pageable);
+
+}
@@ -0,0 +1,17 @@
+package com.user.bankUserService.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.user.bankUserService.entity.ReconciliationMismatch;
+
+@Repository
+public interface ReconciliationMismatchRepository extends JpaRepository<ReconciliationMismatch, Long> {
+
+    Page<ReconciliationMismatch> findByRunId(String runId, Pageable pageable);
+
+    long countByRunId(String runId);
+
+}
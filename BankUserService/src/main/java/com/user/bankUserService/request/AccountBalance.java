@@ -0,0 +1,23 @@
+package com.user.bankUserService.request;
+
+import java.util.UUID;
+
+import com.example.bankCommon.model.Money;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Account number and balance pair, read as a projection so reconciliation does
+ * not load full account rows.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AccountBalance {
+
+	private UUID accountNumber;
+	private Money balance;
+
+}
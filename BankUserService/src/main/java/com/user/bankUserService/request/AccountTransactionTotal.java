@@ -0,0 +1,15 @@
+package com.user.bankUserService.request;
+
+import java.util.UUID;
+
+import com.example.bankCommon.model.Money;
+
+import lombok.Data;
+
+@Data
+public class AccountTransactionTotal {
+
+	private UUID accountNumber;
+	private Money total;
+
+}
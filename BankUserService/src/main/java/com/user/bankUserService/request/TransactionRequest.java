@@ -3,6 +3,8 @@ package com.user.bankUserService.request;
 import java.util.Date;
 import java.util.UUID;
 
+import com.example.bankCommon.model.Money;
+
 import lombok.Data;
 
 @Data
@@ -11,7 +13,7 @@ public class TransactionRequest {
 	private UUID accountNumber;
 	private String TransactionType;
 	private Date transactionDate;
-	private double amount;
+	private Money amount;
 	private String status;
 
 }
@@ -2,12 +2,14 @@ package com.user.bankUserService.request;
 
 import java.util.UUID;
 
+import com.example.bankCommon.model.Money;
+
 import lombok.Data;
 
 @Data
 public class WithdrawRequest {
 
 	private UUID accountNumber;
-	private double balance;
+	private Money balance;
 
 }
@@ -1,5 +1,6 @@
 package com.user.bankUserService.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,6 +33,12 @@ public interface AccountService {
      */
     List<Account> getAllAccount();
 
+    /**
+     * @param accountNumbers
+     * @return
+     */
+    List<Account> getAccountsByIds(Collection<UUID> accountNumbers);
+
     /**
      * @param accountNumber
      * @param updatedAccount
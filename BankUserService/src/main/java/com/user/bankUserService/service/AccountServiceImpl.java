@@ -1,5 +1,8 @@
 package com.user.bankUserService.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -9,10 +12,13 @@ import java.util.concurrent.Executors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.user.bankUserService.constants.ServiceConstants;
+import com.example.bankCommon.config.TracingConfig;
+import com.example.bankCommon.model.Money;
 import com.user.bankUserService.entity.Account;
 import com.user.bankUserService.exception.InsufficientFundsException;
 import com.user.bankUserService.repository.AccountRepository;
@@ -23,6 +29,9 @@ import com.user.bankUserService.request.WithdrawRequest;
 import java.time.Duration;
 import java.util.Date;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.annotation.PreDestroy;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
@@ -34,7 +43,13 @@ import reactor.util.retry.Retry;
  * withdrawals.
  * It uses asynchronous operations with virtual threads for improved
  * scalability.
+ * <p>
+ * Deposits and withdrawals read the account with its row locked and write
+ * the new balance in the same transaction. Interest accrual adds to balances
+ * with a batch update, which waits for the lock instead of being overwritten
+ * by a balance read before it.
  */
+@Observed(lowCardinalityKeyValues = { "layer", "service" })
 @Service
 public class AccountServiceImpl implements AccountService {
 
@@ -44,12 +59,29 @@ public class AccountServiceImpl implements AccountService {
     private AccountRepository accountRepository;
 
     @Autowired
-    private WebClient.Builder webClient;
+    private TransactionClient transactionClient;
 
-    private final ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    @Autowired
+    private MoneyMovementMetrics moneyMovementMetrics;
+
+    @Value("${account.batch-lookup.chunk-size:500}")
+    private int batchLookupChunkSize;
+
+    private final ExecutorService virtualThreadExecutor;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public AccountServiceImpl(MeterRegistry meterRegistry, PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = ExecutorServiceMetrics.monitor(meterRegistry,
+                Executors.newVirtualThreadPerTaskExecutor(), "account-service");
+        this.virtualThreadExecutor = TracingConfig.propagatingContext(executor);
+    }
 
     /**
-     * Saves the provided account.
+     * Saves the provided account. An opening balance is recorded as a deposit
+     * in the transaction service, so the account's transactions always net to
+     * its balance.
      *
      * @param account the account to be saved
      * @return the saved account
@@ -59,6 +91,18 @@ public class AccountServiceImpl implements AccountService {
         logger.info("Saving account for user: {}", account.getAccountHolderName());
         Account savedAccount = accountRepository.save(account);
         logger.info("Account saved successfully: {}", savedAccount.getAccountNumber());
+
+        Money openingBalance = savedAccount.getBalance();
+        if (openingBalance != null && openingBalance.isPositive()) {
+            TransactionRequest transactionRequest = new TransactionRequest();
+            transactionRequest.setAccountNumber(savedAccount.getAccountNumber());
+            transactionRequest.setAmount(openingBalance);
+            transactionRequest.setTransactionDate(new Date());
+            transactionRequest.setTransactionType("Deposit");
+            transactionRequest.setStatus("Success");
+
+            saveTransaction(transactionRequest).subscribe();
+        }
         return savedAccount;
     }
 
@@ -93,6 +137,27 @@ public class AccountServiceImpl implements AccountService {
         return accounts;
     }
 
+    /**
+     * Retrieves the accounts with the given account numbers. Duplicate numbers
+     * are looked up once, and the numbers are queried in chunks so each IN
+     * list stays a reasonable size. Unknown account numbers are skipped.
+     *
+     * @param accountNumbers the account IDs
+     * @return the accounts that were found
+     */
+    @Override
+    public List<Account> getAccountsByIds(Collection<UUID> accountNumbers) {
+        List<UUID> ids = new ArrayList<>(new LinkedHashSet<>(accountNumbers));
+        logger.info("Fetching {} accounts by ID", ids.size());
+        List<Account> accounts = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += batchLookupChunkSize) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + batchLookupChunkSize, ids.size()));
+            accounts.addAll(accountRepository.findAllById(chunk));
+        }
+        logger.info("Found {} of {} requested accounts", accounts.size(), ids.size());
+        return accounts;
+    }
+
     /**
      * Updates the account balance by depositing the specified amount into the
      * account.
@@ -108,20 +173,22 @@ public class AccountServiceImpl implements AccountService {
     @Override
     public DepositeRequest updateAccountBalance(UUID accountNumber, DepositeRequest updatedAccount) {
         logger.info("Updating balance for account ID: {}", accountNumber);
-        return CompletableFuture.supplyAsync(() -> {
-            double depositAmount = updatedAccount.getBalance();
-            if (depositAmount <= 0) {
+        return moneyMovementMetrics.record("updateAccountBalance", accountNumber, updatedAccount.getBalance(),
+                () -> CompletableFuture.supplyAsync(() -> {
+            Money depositAmount = updatedAccount.getBalance();
+            if (depositAmount == null || !depositAmount.isPositive()) {
                 logger.error("Invalid deposit amount: {}. Amount must be greater than zero", depositAmount);
                 throw new IllegalArgumentException("Deposit amount must be greater than zero");
             }
 
-            Account existingAccount = getAccountById(accountNumber);
+            Account existingAccount = transactionTemplate.execute(status -> {
+                Account account = accountRepository.findForUpdate(accountNumber).orElse(null);
+                if (account != null) {
+                    account.setBalance(account.getBalance().plus(depositAmount));
+                }
+                return account;
+            });
             if (existingAccount != null) {
-                double currentBalance = existingAccount.getBalance();
-                
-                existingAccount.setBalance(currentBalance + depositAmount);
-                accountRepository.save(existingAccount);
-
                 logger.info("Balance updated successfully for account ID: {}", accountNumber);
 
                 // Prepare and save transaction
@@ -144,26 +211,27 @@ public class AccountServiceImpl implements AccountService {
                 logger.warn("Account not found for ID: {}", accountNumber);
                 return null;
             }
-        }, virtualThreadExecutor).join();
+        }, virtualThreadExecutor).join());
     }
 
     /**
-     * Saves the transaction details asynchronously using a WebClient call.
+     * Saves the transaction details asynchronously through the transaction client.
+     * The request carries a fresh idempotency key that stays the same across
+     * retries, so a retry after a lost response does not record the
+     * transaction twice.
      *
      * @param transactionRequest the transaction details to be saved
      * @return a Mono containing the saved transaction request
      */
     @Override
     public Mono<TransactionRequest> saveTransaction(TransactionRequest transactionRequest) {
-        return webClient.build()
-                .post()
-                .uri(ServiceConstants.TRANSACTION_SERVICE_URL)
-                .bodyValue(transactionRequest)
-                .retrieve()
-                .bodyToMono(TransactionRequest.class)
-                .timeout(Duration.ofSeconds(5))
-                .retryWhen(Retry.backoff(3, Duration.ofSeconds(2)))
-                .doOnError(e -> logger.error("Error saving transaction: {}", e.getMessage()));
+        return moneyMovementMetrics.record("saveTransaction",
+                transactionClient.saveTransaction(transactionRequest, UUID.randomUUID().toString())
+                        .thenReturn(transactionRequest)
+                        .timeout(Duration.ofSeconds(5))
+                        .retryWhen(Retry.backoff(3, Duration.ofSeconds(2))
+                                .doBeforeRetry(signal -> moneyMovementMetrics.retry("saveTransaction")))
+                        .doOnError(e -> logger.error("Error saving transaction: {}", e.getMessage())));
     }
 
     /**
@@ -182,40 +250,49 @@ public class AccountServiceImpl implements AccountService {
     @Override
     public WithdrawRequest withdrawFromAccount(UUID accountNumber, WithdrawRequest updatedAccount) {
         logger.info("Initiating withdrawal for account ID: {}", accountNumber);
-        return CompletableFuture.supplyAsync(() -> {
-            Account existingAccount = getAccountById(accountNumber);
-            if (existingAccount != null) {
-                double currentBalance = existingAccount.getBalance();
-                double withdrawAmount = updatedAccount.getBalance();
-                if (currentBalance >= withdrawAmount) {
-                    existingAccount.setBalance(currentBalance - withdrawAmount);
-                    accountRepository.save(existingAccount);
+        return moneyMovementMetrics.record("withdrawFromAccount", accountNumber, updatedAccount.getBalance(),
+                () -> CompletableFuture.supplyAsync(() -> {
+            Money withdrawAmount = updatedAccount.getBalance();
+            if (withdrawAmount == null || !withdrawAmount.isPositive()) {
+                logger.error("Invalid withdrawal amount: {}. Amount must be greater than zero", withdrawAmount);
+                throw new IllegalArgumentException("Withdrawal amount must be greater than zero");
+            }
 
-                    logger.info("Withdrawal successful for account ID: {}", accountNumber);
+            Account existingAccount = transactionTemplate.execute(status -> {
+                Account account = accountRepository.findForUpdate(accountNumber).orElse(null);
+                if (account == null) {
+                    return null;
+                }
+                if (account.getBalance().compareTo(withdrawAmount) < 0) {
+                    logger.error("Insufficient funds for account ID: {}", accountNumber);
+                    moneyMovementMetrics.insufficientFunds("withdrawFromAccount");
+                    throw new InsufficientFundsException("Insufficient balance for withdrawal");
+                }
+                account.setBalance(account.getBalance().minus(withdrawAmount));
+                return account;
+            });
+            if (existingAccount != null) {
+                logger.info("Withdrawal successful for account ID: {}", accountNumber);
 
-                    TransactionRequest transactionRequest = new TransactionRequest();
-                    transactionRequest.setAccountNumber(accountNumber);
-                    transactionRequest.setAmount(withdrawAmount);
-                    transactionRequest.setTransactionDate(new Date());
-                    transactionRequest.setTransactionType("Withdraw");
-                    transactionRequest.setStatus("Success");
+                TransactionRequest transactionRequest = new TransactionRequest();
+                transactionRequest.setAccountNumber(accountNumber);
+                transactionRequest.setAmount(withdrawAmount);
+                transactionRequest.setTransactionDate(new Date());
+                transactionRequest.setTransactionType("Withdraw");
+                transactionRequest.setStatus("Success");
 
-                    saveTransaction(transactionRequest).subscribe();
+                saveTransaction(transactionRequest).subscribe();
 
-                    WithdrawRequest withdrawRequest = new WithdrawRequest();
-                    withdrawRequest.setAccountNumber(existingAccount.getAccountNumber());
-                    withdrawRequest.setBalance(existingAccount.getBalance());
+                WithdrawRequest withdrawRequest = new WithdrawRequest();
+                withdrawRequest.setAccountNumber(existingAccount.getAccountNumber());
+                withdrawRequest.setBalance(existingAccount.getBalance());
 
-                    return withdrawRequest;
-                } else {
-                    logger.error("Insufficient funds for account ID: {}", accountNumber);
-                    throw new InsufficientFundsException("Insufficient balance for withdrawal");
-                }
+                return withdrawRequest;
             } else {
                 logger.warn("Account not found for ID: {}", accountNumber);
                 return null;
             }
-        }, virtualThreadExecutor).join();
+        }, virtualThreadExecutor).join());
     }
 
     /**
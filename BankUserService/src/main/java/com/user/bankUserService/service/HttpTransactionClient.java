@@ -0,0 +1,34 @@
+package com.user.bankUserService.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.user.bankUserService.constants.ServiceConstants;
+import com.user.bankUserService.request.TransactionRequest;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link TransactionClient} that calls the transaction service over HTTP at
+ * the URLs in {@link ServiceConstants}.
+ */
+@Component
+@ConditionalOnProperty(name = "deployment.mode", havingValue = "standalone", matchIfMissing = true)
+public class HttpTransactionClient implements TransactionClient {
+
+    @Autowired
+    private WebClient.Builder webClient;
+
+    @Override
+    public Mono<String> saveTransaction(TransactionRequest transactionRequest, String idempotencyKey) {
+        return webClient.build()
+                .post()
+                .uri(ServiceConstants.TRANSACTION_SERVICE_URL)
+                .header(ServiceConstants.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .bodyValue(transactionRequest)
+                .retrieve()
+                .bodyToMono(String.class);
+    }
+}
@@ -0,0 +1,27 @@
+package com.user.bankUserService.service;
+
+import com.user.bankUserService.entity.InterestAccrualReport;
+
+/**
+ * 
+ */
+public interface InterestAccrualService {
+
+    /**
+     * @param runId
+     * @param partitions
+     * @return
+     */
+    String startAccrual(String runId, int partitions);
+
+    /**
+     * @param runId
+     * @return
+     */
+    InterestAccrualReport getReport(String runId);
+
+    /**
+     * 
+     */
+    void sendPendingPostings();
+}
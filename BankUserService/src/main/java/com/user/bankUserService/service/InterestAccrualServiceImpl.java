@@ -0,0 +1,406 @@
+package com.user.bankUserService.service;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.bankCommon.model.Money;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.bankUserService.constants.ServiceConstants;
+import com.user.bankUserService.entity.Account;
+import com.user.bankUserService.entity.BatchCheckpoint;
+import com.user.bankUserService.entity.InterestAccrualReport;
+import com.user.bankUserService.entity.InterestPosting;
+import com.user.bankUserService.repository.AccountRepository;
+import com.user.bankUserService.repository.BatchCheckpointRepository;
+import com.user.bankUserService.repository.InterestPostingRepository;
+import com.user.bankUserService.request.AccountBalance;
+import com.user.bankUserService.request.TransactionRequest;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import reactor.util.retry.Retry;
+
+/**
+ * Implementation of {@link InterestAccrualService} that posts one day of
+ * interest to every account of the configured type.
+ * <p>
+ * Like reconciliation, the account key space is split into partitions that
+ * run on virtual threads and page through accounts with keyset pagination.
+ * For each page, interest is computed in minor units, and the balance
+ * updates, an {@link InterestPosting} holding the page's interest
+ * transactions and the partition checkpoint are written in one database
+ * transaction, the updates as a JDBC batch. Once that has committed, the
+ * posting is sent to the transaction service with one bulk call and deleted.
+ * Postings that could not be sent, for example because the service was down
+ * or this one crashed, are sent again every
+ * {@code interest.posting-retry-interval}. The bulk call carries the
+ * posting's ID as its idempotency key, so a posting sent twice is recorded
+ * once.
+ * <p>
+ * The run ID defaults to the current date, so starting the job again on the
+ * same day resumes it instead of posting interest twice. A checkpoint only
+ * advances from the key its runner read, in the page's transaction, so when
+ * two instances run the same partition the second one's page rolls back.
+ */
+@Service
+public class InterestAccrualServiceImpl implements InterestAccrualService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InterestAccrualServiceImpl.class);
+
+    static final String JOB_NAME = "interest-accrual";
+
+    private static final TypeReference<List<TransactionRequest>> TRANSACTIONS = new TypeReference<>() {
+    };
+
+    private static final int POSTING_RETRY_BATCH = 100;
+
+    private static final String CREDIT_INTEREST_SQL =
+            "update accounts set balance_minor = balance_minor + ? where account_number = ?";
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private BatchCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private InterestPostingRepository postingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WebClient.Builder webClient;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MoneyMovementMetrics moneyMovementMetrics;
+
+    @Value("${interest.page-size:1000}")
+    private int pageSize;
+
+    @Value("${interest.account-type:Savings}")
+    private String accountType;
+
+    @Value("${interest.annual-rate-bps:350}")
+    private int annualRateBps;
+
+    @Value("${interest.days-in-year:365}")
+    private int daysInYear;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, CompletableFuture<Void>> activeRuns = new ConcurrentHashMap<>();
+
+    private final ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public InterestAccrualServiceImpl(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Starts an accrual run in the background, or resumes it if checkpoints
+     * already exist for the given run ID.
+     *
+     * @param runId      the run to resume, or null for today's run
+     * @param partitions the number of partitions for a new run
+     * @return the run ID
+     */
+    @Override
+    public String startAccrual(String runId, int partitions) {
+        String id = runId != null ? runId : LocalDate.now().toString();
+        List<BatchCheckpoint> checkpoints = loadOrCreateCheckpoints(id, partitions);
+
+        // Registered before the partitions start, as in reconciliation
+        CompletableFuture<Void> run = new CompletableFuture<>();
+        if (activeRuns.putIfAbsent(id, run) != null) {
+            logger.info("Interest accrual run {} is already running", id);
+            return id;
+        }
+        logger.info("Starting interest accrual run {} with {} partitions", id, checkpoints.size());
+        CompletableFuture<?>[] futures = checkpoints.stream()
+                .filter(checkpoint -> !checkpoint.isCompleted())
+                .map(checkpoint -> CompletableFuture.runAsync(() -> accruePartition(checkpoint),
+                        virtualThreadExecutor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).whenComplete((result, ex) -> {
+            activeRuns.remove(id, run);
+            // Balances were changed with plain JDBC, so cached accounts are stale
+            entityManagerFactory.getCache().evict(Account.class);
+            if (ex != null) {
+                logger.error("Interest accrual run {} stopped: {}", id, ex.getMessage());
+                run.completeExceptionally(ex);
+            } else {
+                logger.info("Interest accrual run {} finished", id);
+                run.complete(null);
+            }
+        });
+        return id;
+    }
+
+    /**
+     * Builds a progress summary for an accrual run.
+     *
+     * @param runId the run ID
+     * @return the report, or null if the run is unknown
+     */
+    @Override
+    public InterestAccrualReport getReport(String runId) {
+        List<BatchCheckpoint> checkpoints = checkpointRepository.findByJobNameAndRunIdOrderByPartitionIndex(JOB_NAME,
+                runId);
+        if (checkpoints.isEmpty()) {
+            logger.warn("No interest accrual run found with ID: {}", runId);
+            return null;
+        }
+        int completed = (int) checkpoints.stream().filter(BatchCheckpoint::isCompleted).count();
+        long accrued = checkpoints.stream().mapToLong(BatchCheckpoint::getProcessed).sum();
+        return new InterestAccrualReport(runId, checkpoints.size(), completed, accrued,
+                completed == checkpoints.size());
+    }
+
+    /**
+     * Interest for one day on a balance, in minor units, rounded half up.
+     * Negative balances earn nothing.
+     */
+    static long dailyInterest(long balanceMinor, int annualRateBps, int daysInYear) {
+        if (balanceMinor <= 0) {
+            return 0;
+        }
+        long divisor = 10_000L * daysInYear;
+        return Math.floorDiv(Math.multiplyExact(balanceMinor, (long) annualRateBps) + divisor / 2, divisor);
+    }
+
+    private List<BatchCheckpoint> loadOrCreateCheckpoints(String runId, int partitions) {
+        List<BatchCheckpoint> existing = checkpointRepository.findByJobNameAndRunIdOrderByPartitionIndex(JOB_NAME,
+                runId);
+        if (!existing.isEmpty()) {
+            logger.info("Resuming interest accrual run {} from checkpoints", runId);
+            return existing;
+        }
+        List<UuidKeyRanges.Range> ranges = UuidKeyRanges.split(partitions);
+        List<BatchCheckpoint> checkpoints = new ArrayList<>(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            BatchCheckpoint checkpoint = new BatchCheckpoint();
+            checkpoint.setId(BatchCheckpoint.idFor(JOB_NAME, runId, i));
+            checkpoint.setJobName(JOB_NAME);
+            checkpoint.setRunId(runId);
+            checkpoint.setPartitionIndex(i);
+            checkpoint.setPartitionCount(ranges.size());
+            checkpoint.setLastKey(ranges.get(i).lower());
+            checkpoint.setUpperKey(ranges.get(i).upper());
+            checkpoint.setUpdatedAt(new Date());
+            checkpoints.add(checkpoint);
+        }
+        try {
+            return checkpointRepository.saveAll(checkpoints);
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created the run's checkpoints first
+            logger.info("Resuming interest accrual run {} from checkpoints created elsewhere", runId);
+            return checkpointRepository.findByJobNameAndRunIdOrderByPartitionIndex(JOB_NAME, runId);
+        }
+    }
+
+    private void accruePartition(BatchCheckpoint checkpoint) {
+        String runId = checkpoint.getRunId();
+        UUID upper = checkpoint.getUpperKey();
+        Date postedAt = new Date();
+        logger.info("Accruing interest for partition {} of run {} from {}", checkpoint.getPartitionIndex(), runId,
+                checkpoint.getLastKey());
+
+        boolean lastPage = false;
+        while (!lastPage) {
+            UUID after = checkpoint.getLastKey();
+            List<AccountBalance> accounts = accountRepository.findBalancesOfTypeInRange(after, upper, accountType,
+                    PageRequest.of(0, pageSize));
+            lastPage = accounts.size() < pageSize;
+            UUID chunkUpper = lastPage ? upper : accounts.get(accounts.size() - 1).getAccountNumber();
+
+            List<UUID> accountNumbers = new ArrayList<>(accounts.size());
+            List<Long> amounts = new ArrayList<>(accounts.size());
+            for (AccountBalance account : accounts) {
+                long interest = dailyInterest(account.getBalance().minorUnits(), annualRateBps, daysInYear);
+                if (interest > 0) {
+                    accountNumbers.add(account.getAccountNumber());
+                    amounts.add(interest);
+                }
+            }
+
+            InterestPosting posting = accountNumbers.isEmpty() ? null
+                    : posting("interest:" + checkpoint.getId() + ":" + after, runId, accountNumbers, amounts,
+                            postedAt);
+
+            boolean completed = lastPage;
+            long processed = checkpoint.getProcessed() + accounts.size();
+            Date updatedAt = new Date();
+            // The checkpoint is advanced first and only from the key this
+            // runner read, so a second runner of the same run waits for the
+            // row, matches nothing and credits nothing
+            boolean advanced = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (checkpointRepository.advance(checkpoint.getId(), after, chunkUpper, processed, completed,
+                        updatedAt) == 0) {
+                    return false;
+                }
+                if (posting != null) {
+                    creditInterest(accountNumbers, amounts);
+                    postingRepository.save(posting);
+                }
+                return true;
+            }));
+            if (!advanced) {
+                logger.warn("Partition {} of run {} moved past {} in another runner, stopping",
+                        checkpoint.getPartitionIndex(), runId, after);
+                return;
+            }
+            checkpoint.setLastKey(chunkUpper);
+            checkpoint.setProcessed(processed);
+            checkpoint.setCompleted(completed);
+            checkpoint.setUpdatedAt(updatedAt);
+
+            if (posting != null) {
+                send(posting);
+            }
+        }
+        logger.info("Partition {} of run {} accrued interest for {} accounts", checkpoint.getPartitionIndex(), runId,
+                checkpoint.getProcessed());
+    }
+
+    /**
+     * Sends the interest postings left over from earlier pages, oldest first,
+     * and stops at the first one the transaction service does not accept.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${interest.posting-retry-interval:PT1M}")
+    public void sendPendingPostings() {
+        for (InterestPosting posting : postingRepository.findAllByOrderByCreatedAt(
+                PageRequest.of(0, POSTING_RETRY_BATCH))) {
+            if (!send(posting)) {
+                return;
+            }
+        }
+    }
+
+    private InterestPosting posting(String id, String runId, List<UUID> accountNumbers, List<Long> amounts,
+            Date postedAt) {
+        List<TransactionRequest> transactions = new ArrayList<>(accountNumbers.size());
+        for (int i = 0; i < accountNumbers.size(); i++) {
+            TransactionRequest transaction = new TransactionRequest();
+            transaction.setAccountNumber(accountNumbers.get(i));
+            transaction.setTransactionType("Interest");
+            transaction.setTransactionDate(postedAt);
+            transaction.setAmount(Money.ofMinor(amounts.get(i)));
+            transaction.setStatus("Success");
+            transactions.add(transaction);
+        }
+        InterestPosting posting = new InterestPosting();
+        posting.setId(id);
+        posting.setRunId(runId);
+        posting.setCreatedAt(new Date());
+        try {
+            posting.setTransactions(objectMapper.writeValueAsString(transactions));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize interest posting " + id, e);
+        }
+        return posting;
+    }
+
+    /**
+     * Records a posting's transactions with the transaction service and
+     * deletes the posting.
+     *
+     * @return whether the posting was accepted; if not, it is kept for the
+     *         next retry
+     */
+    private boolean send(InterestPosting posting) {
+        List<TransactionRequest> transactions;
+        try {
+            transactions = objectMapper.readValue(posting.getTransactions(), TRANSACTIONS);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read interest posting " + posting.getId(), e);
+        }
+        try {
+            webClient.build()
+                    .post()
+                    .uri(ServiceConstants.TRANSACTION_BULK_URL)
+                    .header(ServiceConstants.IDEMPOTENCY_KEY_HEADER, posting.getId())
+                    .bodyValue(transactions)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .timeout(Duration.ofSeconds(30))
+                    .retryWhen(Retry.backoff(3, Duration.ofSeconds(2))
+                            .doBeforeRetry(signal -> moneyMovementMetrics.retry("saveTransactions")))
+                    .block();
+        } catch (RuntimeException e) {
+            logger.warn("Interest posting {} not recorded yet, will retry: {}", posting.getId(), e.getMessage());
+            return false;
+        }
+        postingRepository.deleteById(posting.getId());
+        return true;
+    }
+
+    private void creditInterest(List<UUID> accountNumbers, List<Long> amounts) {
+        jdbcTemplate.batchUpdate(CREDIT_INTEREST_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, amounts.get(i));
+                ps.setBytes(2, toBytes(accountNumbers.get(i)));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return accountNumbers.size();
+            }
+        });
+    }
+
+    /**
+     * The BINARY(16) form Hibernate uses for UUID columns on MySQL.
+     */
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * Shuts down the virtual thread executor during application shutdown.
+     */
+    @PreDestroy
+    public void closeVirtualThreadExecutor() {
+        logger.info("Shutting down interest accrual executor");
+        virtualThreadExecutor.shutdown();
+    }
+}
@@ -0,0 +1,39 @@
+package com.user.bankUserService.service;
+
+import org.springframework.stereotype.Component;
+
+import com.example.bankCommon.service.AbstractMoneyMovementMetrics;
+import com.user.bankUserService.exception.InsufficientFundsException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Metrics for deposits, withdrawals and the transaction records they write.
+ * <p>
+ * Adds counters for insufficient funds and retries to the shared timers,
+ * and tags failed withdrawals without enough funds as
+ * {@code insufficient_funds}.
+ */
+@Component
+public class MoneyMovementMetrics extends AbstractMoneyMovementMetrics {
+
+    public MoneyMovementMetrics(MeterRegistry meterRegistry) {
+        super(meterRegistry);
+    }
+
+    public void insufficientFunds(String operation) {
+        counter("bank.money.insufficient.funds", operation).increment();
+    }
+
+    public void retry(String operation) {
+        counter("bank.money.retry", operation).increment();
+    }
+
+    @Override
+    protected String outcomeOfCause(Throwable cause) {
+        if (cause instanceof InsufficientFundsException) {
+            return "insufficient_funds";
+        }
+        return super.outcomeOfCause(cause);
+    }
+}
@@ -0,0 +1,33 @@
+package com.user.bankUserService.service;
+
+import java.util.List;
+
+import com.user.bankUserService.entity.ReconciliationMismatch;
+import com.user.bankUserService.entity.ReconciliationReport;
+
+/**
+ * 
+ */
+public interface ReconciliationService {
+
+    /**
+     * @param runId
+     * @param partitions
+     * @return
+     */
+    String startReconciliation(String runId, int partitions);
+
+    /**
+     * @param runId
+     * @return
+     */
+    ReconciliationReport getReport(String runId);
+
+    /**
+     * @param runId
+     * @param page
+     * @param size
+     * @return
+     */
+    List<ReconciliationMismatch> getMismatches(String runId, int page, int size);
+}
@@ -0,0 +1,329 @@
+package com.user.bankUserService.service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.bankCommon.model.Money;
+import com.user.bankUserService.constants.ServiceConstants;
+import com.user.bankUserService.entity.BatchCheckpoint;
+import com.user.bankUserService.entity.ReconciliationMismatch;
+import com.user.bankUserService.entity.ReconciliationReport;
+import com.user.bankUserService.repository.AccountRepository;
+import com.user.bankUserService.repository.BatchCheckpointRepository;
+import com.user.bankUserService.repository.ReconciliationMismatchRepository;
+import com.user.bankUserService.request.AccountBalance;
+import com.user.bankUserService.request.AccountTransactionTotal;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implementation of {@link ReconciliationService} that compares account
+ * balances against the net of recorded transactions in the transaction
+ * service. Opening balances are recorded as deposits when an account is
+ * saved, so they are part of that net.
+ * <p>
+ * The account key space is split into partitions that run in parallel on
+ * virtual threads. Each partition pages through both sides in account number
+ * order with keyset pagination and merge-joins the pages, so memory use is
+ * bounded by the page size regardless of the number of accounts. Each page's
+ * mismatches are saved in one database transaction with the partition's new
+ * checkpoint, and starting a run again with the same run ID resumes from the
+ * last checkpoint.
+ */
+@Service
+public class ReconciliationServiceImpl implements ReconciliationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReconciliationServiceImpl.class);
+
+    static final String JOB_NAME = "balance-reconciliation";
+
+    private static final ParameterizedTypeReference<List<AccountTransactionTotal>> TOTALS_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private BatchCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private ReconciliationMismatchRepository mismatchRepository;
+
+    @Autowired
+    private WebClient.Builder webClient;
+
+    @Value("${reconciliation.page-size:1000}")
+    private int pageSize;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, CompletableFuture<Void>> activeRuns = new ConcurrentHashMap<>();
+
+    private final ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ReconciliationServiceImpl(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Starts a reconciliation run in the background, or resumes it if
+     * checkpoints already exist for the given run ID.
+     *
+     * @param runId      the run to resume, or null to start a new run
+     * @param partitions the number of partitions for a new run
+     * @return the run ID
+     */
+    @Override
+    public String startReconciliation(String runId, int partitions) {
+        String id = runId != null ? runId : UUID.randomUUID().toString();
+        List<BatchCheckpoint> checkpoints = loadOrCreateCheckpoints(id, partitions);
+
+        // The run is registered before its partitions start, so that a run
+        // which finishes at once, because every partition is already
+        // complete, can remove itself again
+        CompletableFuture<Void> run = new CompletableFuture<>();
+        if (activeRuns.putIfAbsent(id, run) != null) {
+            logger.info("Reconciliation run {} is already running", id);
+            return id;
+        }
+        logger.info("Starting reconciliation run {} with {} partitions", id, checkpoints.size());
+        CompletableFuture<?>[] futures = checkpoints.stream()
+                .filter(checkpoint -> !checkpoint.isCompleted())
+                .map(checkpoint -> CompletableFuture.runAsync(() -> reconcilePartition(checkpoint),
+                        virtualThreadExecutor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).whenComplete((result, ex) -> {
+            activeRuns.remove(id, run);
+            if (ex != null) {
+                logger.error("Reconciliation run {} stopped: {}", id, ex.getMessage());
+                run.completeExceptionally(ex);
+            } else {
+                logger.info("Reconciliation run {} finished", id);
+                run.complete(null);
+            }
+        });
+        return id;
+    }
+
+    /**
+     * Builds a progress summary for a reconciliation run.
+     *
+     * @param runId the run ID
+     * @return the report, or null if the run is unknown
+     */
+    @Override
+    public ReconciliationReport getReport(String runId) {
+        List<BatchCheckpoint> checkpoints = checkpointRepository.findByJobNameAndRunIdOrderByPartitionIndex(JOB_NAME,
+                runId);
+        if (checkpoints.isEmpty()) {
+            logger.warn("No reconciliation run found with ID: {}", runId);
+            return null;
+        }
+        int completed = (int) checkpoints.stream().filter(BatchCheckpoint::isCompleted).count();
+        long checked = checkpoints.stream().mapToLong(BatchCheckpoint::getProcessed).sum();
+        long mismatches = mismatchRepository.countByRunId(runId);
+        return new ReconciliationReport(runId, checkpoints.size(), completed, checked, mismatches,
+                completed == checkpoints.size());
+    }
+
+    /**
+     * Retrieves one page of the mismatches found by a reconciliation run.
+     *
+     * @param runId the run ID
+     * @param page  the zero-based page number
+     * @param size  the page size
+     * @return the mismatches on the requested page
+     */
+    @Override
+    public List<ReconciliationMismatch> getMismatches(String runId, int page, int size) {
+        return mismatchRepository.findByRunId(runId, PageRequest.of(page, size)).getContent();
+    }
+
+    private List<BatchCheckpoint> loadOrCreateCheckpoints(String runId, int partitions) {
+        List<BatchCheckpoint> existing = checkpointRepository.findByJobNameAndRunIdOrderByPartitionIndex(JOB_NAME,
+                runId);
+        if (!existing.isEmpty()) {
+            logger.info("Resuming reconciliation run {} from checkpoints", runId);
+            return existing;
+        }
+        List<UuidKeyRanges.Range> ranges = UuidKeyRanges.split(partitions);
+        List<BatchCheckpoint> checkpoints = new ArrayList<>(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            BatchCheckpoint checkpoint = new BatchCheckpoint();
+            checkpoint.setId(BatchCheckpoint.idFor(JOB_NAME, runId, i));
+            checkpoint.setJobName(JOB_NAME);
+            checkpoint.setRunId(runId);
+            checkpoint.setPartitionIndex(i);
+            checkpoint.setPartitionCount(ranges.size());
+            checkpoint.setLastKey(ranges.get(i).lower());
+            checkpoint.setUpperKey(ranges.get(i).upper());
+            checkpoint.setUpdatedAt(new Date());
+            checkpoints.add(checkpoint);
+        }
+        try {
+            return checkpointRepository.saveAll(checkpoints);
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created the run's checkpoints first
+            logger.info("Resuming reconciliation run {} from checkpoints created elsewhere", runId);
+            return checkpointRepository.findByJobNameAndRunIdOrderByPartitionIndex(JOB_NAME, runId);
+        }
+    }
+
+    /**
+     * Walks one partition page by page. Each step reads the next page of
+     * accounts, then every transaction total up to the last account on that
+     * page, and merge-joins the two sorted lists.
+     */
+    private void reconcilePartition(BatchCheckpoint checkpoint) {
+        String runId = checkpoint.getRunId();
+        UUID upper = checkpoint.getUpperKey();
+        UUID after = checkpoint.getLastKey();
+        logger.info("Reconciling partition {} of run {} from {}", checkpoint.getPartitionIndex(), runId, after);
+
+        boolean lastPage = false;
+        while (!lastPage) {
+            List<AccountBalance> accounts = accountRepository.findBalancesInRange(after, upper,
+                    PageRequest.of(0, pageSize));
+            lastPage = accounts.size() < pageSize;
+            UUID chunkUpper = lastPage ? upper : accounts.get(accounts.size() - 1).getAccountNumber();
+
+            List<AccountTransactionTotal> totals = fetchTotals(after, chunkUpper);
+            List<ReconciliationMismatch> mismatches = mergeJoin(runId, accounts, totals);
+
+            // The page's mismatches and the checkpoint past it commit together,
+            // so a resumed run never records the same mismatches twice, and
+            // the checkpoint only advances from the key this runner read
+            UUID from = after;
+            boolean completed = lastPage;
+            long processed = checkpoint.getProcessed() + accounts.size();
+            Date updatedAt = new Date();
+            boolean advanced = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (checkpointRepository.advance(checkpoint.getId(), from, chunkUpper, processed, completed,
+                        updatedAt) == 0) {
+                    return false;
+                }
+                if (!mismatches.isEmpty()) {
+                    mismatchRepository.saveAll(mismatches);
+                }
+                return true;
+            }));
+            if (!advanced) {
+                logger.warn("Partition {} of run {} moved past {} in another runner, stopping",
+                        checkpoint.getPartitionIndex(), runId, from);
+                return;
+            }
+            checkpoint.setLastKey(chunkUpper);
+            checkpoint.setProcessed(processed);
+            checkpoint.setCompleted(completed);
+            checkpoint.setUpdatedAt(updatedAt);
+            after = chunkUpper;
+        }
+        logger.info("Partition {} of run {} reconciled {} accounts", checkpoint.getPartitionIndex(), runId,
+                checkpoint.getProcessed());
+    }
+
+    /**
+     * Reads all transaction totals in {@code (after, upper]}. Normally this is
+     * a single page, but orphaned totals for accounts that no longer exist can
+     * make it longer than the account page.
+     */
+    private List<AccountTransactionTotal> fetchTotals(UUID after, UUID upper) {
+        List<AccountTransactionTotal> totals = new ArrayList<>();
+        UUID cursor = after;
+        while (true) {
+            UUID from = cursor;
+            List<AccountTransactionTotal> page = webClient.build()
+                    .get()
+                    .uri(ServiceConstants.TRANSACTION_TOTALS_URL + "?after={after}&upper={upper}&limit={limit}",
+                            from, upper, pageSize)
+                    .retrieve()
+                    .bodyToMono(TOTALS_TYPE)
+                    .block();
+            if (page == null || page.isEmpty()) {
+                return totals;
+            }
+            totals.addAll(page);
+            if (page.size() < pageSize) {
+                return totals;
+            }
+            cursor = page.get(page.size() - 1).getAccountNumber();
+        }
+    }
+
+    private List<ReconciliationMismatch> mergeJoin(String runId, List<AccountBalance> accounts,
+            List<AccountTransactionTotal> totals) {
+        List<ReconciliationMismatch> mismatches = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < accounts.size() || j < totals.size()) {
+            int cmp;
+            if (i == accounts.size()) {
+                cmp = 1;
+            } else if (j == totals.size()) {
+                cmp = -1;
+            } else {
+                cmp = UuidKeyRanges.compare(accounts.get(i).getAccountNumber(), totals.get(j).getAccountNumber());
+            }
+
+            if (cmp == 0) {
+                AccountBalance account = accounts.get(i++);
+                Money total = totals.get(j++).getTotal();
+                if (!account.getBalance().equals(total)) {
+                    mismatches.add(mismatch(runId, account.getAccountNumber(), false, account.getBalance(), total));
+                }
+            } else if (cmp < 0) {
+                AccountBalance account = accounts.get(i++);
+                if (!account.getBalance().isZero()) {
+                    mismatches.add(mismatch(runId, account.getAccountNumber(), false, account.getBalance(),
+                            Money.ZERO));
+                }
+            } else {
+                AccountTransactionTotal total = totals.get(j++);
+                mismatches.add(mismatch(runId, total.getAccountNumber(), true, Money.ZERO, total.getTotal()));
+            }
+        }
+        return mismatches;
+    }
+
+    private ReconciliationMismatch mismatch(String runId, UUID accountNumber, boolean accountMissing,
+            Money accountBalance, Money transactionTotal) {
+        ReconciliationMismatch mismatch = new ReconciliationMismatch();
+        mismatch.setRunId(runId);
+        mismatch.setAccountNumber(accountNumber);
+        mismatch.setAccountMissing(accountMissing);
+        mismatch.setAccountBalance(accountBalance);
+        mismatch.setTransactionTotal(transactionTotal);
+        mismatch.setDifference(accountBalance.minus(transactionTotal));
+        mismatch.setDetectedAt(new Date());
+        return mismatch;
+    }
+
+    /**
+     * Shuts down the virtual thread executor during application shutdown.
+     */
+    @PreDestroy
+    public void closeVirtualThreadExecutor() {
+        logger.info("Shutting down reconciliation executor");
+        virtualThreadExecutor.shutdown();
+    }
+}
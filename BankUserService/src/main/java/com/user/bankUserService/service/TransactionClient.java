@@ -0,0 +1,20 @@
+package com.user.bankUserService.service;
+
+import com.user.bankUserService.request.TransactionRequest;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Calls from the account service to the transaction service. The standalone
+ * deployment uses {@link HttpTransactionClient}; a deployment that runs both
+ * services in one JVM can provide an in-process implementation instead.
+ */
+public interface TransactionClient {
+
+    /**
+     * @param transactionRequest
+     * @param idempotencyKey
+     * @return
+     */
+    Mono<String> saveTransaction(TransactionRequest transactionRequest, String idempotencyKey);
+}
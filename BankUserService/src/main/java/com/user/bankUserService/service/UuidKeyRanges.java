@@ -0,0 +1,57 @@
+package com.user.bankUserService.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Helpers for splitting the account number key space into contiguous ranges
+ * and comparing account numbers in the same order the database sorts them.
+ * <p>
+ * UUID columns are stored as 16 raw bytes, so the database orders them as
+ * unsigned byte strings. {@link UUID#compareTo(UUID)} compares the two halves
+ * as signed longs and must not be used when merging database-ordered streams.
+ */
+public final class UuidKeyRanges {
+
+    public static final UUID MIN = new UUID(0L, 0L);
+    public static final UUID MAX = new UUID(-1L, -1L);
+
+    private UuidKeyRanges() {
+    }
+
+    /**
+     * A key range covering account numbers in {@code (lower, upper]}.
+     */
+    public record Range(UUID lower, UUID upper) {
+    }
+
+    /**
+     * Splits the full key space into {@code partitions} ranges of equal width.
+     *
+     * @param partitions the number of ranges to produce
+     * @return the ranges in ascending key order
+     */
+    public static List<Range> split(int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("Partition count must be at least one");
+        }
+        long step = Long.divideUnsigned(-1L, partitions);
+        List<Range> ranges = new ArrayList<>(partitions);
+        UUID lower = MIN;
+        for (int i = 0; i < partitions; i++) {
+            UUID upper = i == partitions - 1 ? MAX : new UUID(step * (i + 1) - 1, -1L);
+            ranges.add(new Range(lower, upper));
+            lower = upper;
+        }
+        return ranges;
+    }
+
+    /**
+     * Compares two account numbers in database (unsigned byte) order.
+     */
+    public static int compare(UUID a, UUID b) {
+        int cmp = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return cmp != 0 ? cmp : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,23 @@
+-- Schema as created by Hibernate before migrations were introduced. IF NOT
+-- EXISTS keeps this a no-op on databases that already have it.
+
+CREATE TABLE IF NOT EXISTS accounts (
+    account_number BINARY(16) NOT NULL,
+    account_holder_name VARCHAR(255),
+    account_type VARCHAR(255),
+    address VARCHAR(255),
+    balance FLOAT(53) NOT NULL,
+    pan_card_number VARCHAR(255),
+    PRIMARY KEY (account_number)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    email VARCHAR(255),
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    mobile_number VARCHAR(255),
+    okta_id VARCHAR(255),
+    password VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
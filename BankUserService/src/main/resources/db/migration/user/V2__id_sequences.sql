@@ -0,0 +1,11 @@
+-- User ids come from a pooled sequence with an allocation size of 50. MySQL
+-- has no sequences, so Hibernate keeps the next value in a one-row table.
+-- It starts a full block above the highest existing id.
+
+CREATE TABLE users_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO users_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM users;
+
+ALTER TABLE users MODIFY id BIGINT NOT NULL;
@@ -0,0 +1,10 @@
+-- Balances move from FLOAT(53) rupees to a BIGINT count of paise, the column
+-- Money is mapped to. The old column is dropped once the values are copied.
+
+ALTER TABLE accounts ADD COLUMN balance_minor BIGINT;
+
+UPDATE accounts SET balance_minor = ROUND(balance * 100);
+
+ALTER TABLE accounts MODIFY balance_minor BIGINT NOT NULL;
+
+ALTER TABLE accounts DROP COLUMN balance;
@@ -0,0 +1,48 @@
+-- Tables of the reconciliation and interest jobs and of Idempotency-Key
+-- handling.
+
+CREATE TABLE batch_checkpoints (
+    id VARCHAR(255) NOT NULL,
+    completed BIT NOT NULL,
+    job_name VARCHAR(255),
+    last_key BINARY(16),
+    partition_count INT NOT NULL,
+    partition_index INT NOT NULL,
+    processed BIGINT NOT NULL,
+    run_id VARCHAR(255),
+    updated_at DATETIME(6),
+    upper_key BINARY(16),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE reconciliation_mismatches (
+    id BIGINT NOT NULL,
+    account_balance BIGINT,
+    account_missing BIT NOT NULL,
+    account_number BINARY(16),
+    detected_at DATETIME(6),
+    difference BIGINT,
+    run_id VARCHAR(255),
+    transaction_total BIGINT,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_reconciliation_mismatches_run_id ON reconciliation_mismatches (run_id);
+
+CREATE TABLE reconciliation_mismatches_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO reconciliation_mismatches_seq (next_val) VALUES (1);
+
+CREATE TABLE idempotency_keys (
+    id VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    expires_at DATETIME(6),
+    fingerprint VARCHAR(255),
+    response_body TEXT,
+    response_status INT NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
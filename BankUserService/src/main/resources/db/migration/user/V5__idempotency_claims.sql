@@ -0,0 +1,9 @@
+-- Keys are claimed with a PENDING record before the request runs and the
+-- record becomes COMPLETED with the response. Existing records hold
+-- responses, so they are complete.
+
+ALTER TABLE idempotency_keys
+    ADD COLUMN owner VARCHAR(255),
+    ADD COLUMN state ENUM('COMPLETED', 'PENDING');
+
+UPDATE idempotency_keys SET state = 'COMPLETED';
@@ -0,0 +1,10 @@
+-- Outbox of interest transactions, written with the balance credits and
+-- deleted once the transaction service has recorded them.
+
+CREATE TABLE interest_postings (
+    id VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    run_id VARCHAR(255),
+    transactions MEDIUMTEXT,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
@@ -0,0 +1,6 @@
+-- Optimistic lock on batch checkpoints. A checkpoint only advances from the
+-- version its runner read, so two runners of one partition cannot both
+-- process the same page.
+
+ALTER TABLE batch_checkpoints
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,81 @@
+package com.user.bankUserService.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.user.bankUserService.service.UuidKeyRanges;
+
+class TimeOrderedUuidGeneratorTests {
+
+    @Test
+    void generatesVersion7Uuids() {
+        UUID uuid = TimeOrderedUuidGenerator.next();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void startsWithTheCurrentTimeInMilliseconds() {
+        long before = System.currentTimeMillis();
+        UUID uuid = TimeOrderedUuidGenerator.next();
+        long after = System.currentTimeMillis();
+
+        // A burst of keys in earlier tests can leave the sequence a few
+        // milliseconds ahead of the clock
+        assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, after + 100);
+    }
+
+    @Test
+    void keysIncreaseInDatabaseOrder() {
+        UUID previous = TimeOrderedUuidGenerator.next();
+        for (int i = 0; i < 20_000; i++) {
+            UUID next = TimeOrderedUuidGenerator.next();
+            assertThat(UuidKeyRanges.compare(previous, next)).as("%s then %s", previous, next).isNegative();
+            previous = next;
+        }
+    }
+
+    @Test
+    void keysAreUniqueAndIncreasingPerThreadUnderContention() throws Exception {
+        int threads = 8;
+        int keysPerThread = 10_000;
+        Set<UUID> all = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    boolean increasing = true;
+                    UUID previous = TimeOrderedUuidGenerator.next();
+                    all.add(previous);
+                    for (int i = 1; i < keysPerThread; i++) {
+                        UUID next = TimeOrderedUuidGenerator.next();
+                        increasing &= UuidKeyRanges.compare(previous, next) < 0;
+                        all.add(next);
+                        previous = next;
+                    }
+                    return increasing;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        }
+
+        assertThat(all).hasSize(threads * keysPerThread);
+    }
+}
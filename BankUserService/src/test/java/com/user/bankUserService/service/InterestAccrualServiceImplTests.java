@@ -0,0 +1,117 @@
+package com.user.bankUserService.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.bankCommon.model.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.bankUserService.entity.BatchCheckpoint;
+import com.user.bankUserService.repository.AccountRepository;
+import com.user.bankUserService.repository.BatchCheckpointRepository;
+import com.user.bankUserService.repository.InterestPostingRepository;
+import com.user.bankUserService.request.AccountBalance;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+
+class InterestAccrualServiceImplTests {
+
+    @ParameterizedTest
+    @CsvSource({
+            // 10,000.00 at 3.5% for one day is 95.89 paise
+            "1000000, 350, 365, 96",
+            // 0.5 paise rounds up, 0.49995 paise rounds down
+            "1, 10000, 2, 1",
+            "3, 10000, 2, 2",
+            "1, 9999, 2, 0",
+            // One paisa at 3.5% earns nothing
+            "1, 350, 365, 0",
+            "36500000, 10000, 365, 100000"
+    })
+    void dailyInterestRoundsHalfUp(long balanceMinor, int annualRateBps, int daysInYear, long expected) {
+        assertThat(InterestAccrualServiceImpl.dailyInterest(balanceMinor, annualRateBps, daysInYear))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void zeroAndNegativeBalancesEarnNothing() {
+        assertThat(InterestAccrualServiceImpl.dailyInterest(0, 350, 365)).isZero();
+        assertThat(InterestAccrualServiceImpl.dailyInterest(-1_000_000, 350, 365)).isZero();
+    }
+
+    @Test
+    void overflowIsRejectedRatherThanWrapped() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> InterestAccrualServiceImpl.dailyInterest(Long.MAX_VALUE / 100, 350, 365));
+    }
+
+    @Test
+    void resumingACompletedRunFinishesAtOnce() {
+        BatchCheckpoint checkpoint = new BatchCheckpoint();
+        checkpoint.setCompleted(true);
+        BatchCheckpointRepository checkpoints = mock(BatchCheckpointRepository.class);
+        when(checkpoints.findByJobNameAndRunIdOrderByPartitionIndex(InterestAccrualServiceImpl.JOB_NAME, "run-1"))
+                .thenReturn(List.of(checkpoint));
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.getCache()).thenReturn(mock(Cache.class));
+        InterestAccrualServiceImpl service = new InterestAccrualServiceImpl(mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(service, "checkpointRepository", checkpoints);
+        ReflectionTestUtils.setField(service, "entityManagerFactory", entityManagerFactory);
+
+        assertThat(service.startAccrual("run-1", 8)).isEqualTo("run-1");
+        assertThat(service.startAccrual("run-1", 8)).isEqualTo("run-1");
+
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(service, "activeRuns")).isEmpty();
+    }
+
+    @Test
+    void aRunnerThatLosesTheCheckpointCreditsNothing() {
+        BatchCheckpoint checkpoint = new BatchCheckpoint();
+        checkpoint.setId(BatchCheckpoint.idFor(InterestAccrualServiceImpl.JOB_NAME, "run-1", 0));
+        checkpoint.setRunId("run-1");
+        checkpoint.setLastKey(UuidKeyRanges.MIN);
+        checkpoint.setUpperKey(UuidKeyRanges.MAX);
+        AccountRepository accounts = mock(AccountRepository.class);
+        when(accounts.findBalancesOfTypeInRange(eq(UuidKeyRanges.MIN), eq(UuidKeyRanges.MAX), eq("Savings"), any()))
+                .thenReturn(List.of(new AccountBalance(UUID.randomUUID(), Money.of("10000.00"))));
+        // Another instance has already moved the checkpoint past this page
+        BatchCheckpointRepository checkpoints = mock(BatchCheckpointRepository.class);
+        when(checkpoints.advance(any(), any(), any(), anyLong(), anyBoolean(), any())).thenReturn(0);
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        InterestPostingRepository postings = mock(InterestPostingRepository.class);
+        InterestAccrualServiceImpl service = new InterestAccrualServiceImpl(mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(service, "accountRepository", accounts);
+        ReflectionTestUtils.setField(service, "checkpointRepository", checkpoints);
+        ReflectionTestUtils.setField(service, "postingRepository", postings);
+        ReflectionTestUtils.setField(service, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(service, "pageSize", 1000);
+        ReflectionTestUtils.setField(service, "accountType", "Savings");
+        ReflectionTestUtils.setField(service, "annualRateBps", 350);
+        ReflectionTestUtils.setField(service, "daysInYear", 365);
+
+        ReflectionTestUtils.invokeMethod(service, "accruePartition", checkpoint);
+
+        verifyNoInteractions(jdbcTemplate, postings);
+        assertThat(checkpoint.getLastKey()).isEqualTo(UuidKeyRanges.MIN);
+        assertThat(checkpoint.isCompleted()).isFalse();
+    }
+}
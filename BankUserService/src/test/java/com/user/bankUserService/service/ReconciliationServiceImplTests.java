@@ -0,0 +1,34 @@
+package com.user.bankUserService.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.user.bankUserService.entity.BatchCheckpoint;
+import com.user.bankUserService.repository.BatchCheckpointRepository;
+
+class ReconciliationServiceImplTests {
+
+    @Test
+    void resumingACompletedRunFinishesAtOnce() {
+        BatchCheckpoint checkpoint = new BatchCheckpoint();
+        checkpoint.setCompleted(true);
+        BatchCheckpointRepository checkpoints = mock(BatchCheckpointRepository.class);
+        when(checkpoints.findByJobNameAndRunIdOrderByPartitionIndex(ReconciliationServiceImpl.JOB_NAME, "run-1"))
+                .thenReturn(List.of(checkpoint));
+        ReconciliationServiceImpl service = new ReconciliationServiceImpl(mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(service, "checkpointRepository", checkpoints);
+
+        assertThat(service.startReconciliation("run-1", 8)).isEqualTo("run-1");
+        assertThat(service.startReconciliation("run-1", 8)).isEqualTo("run-1");
+
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(service, "activeRuns")).isEmpty();
+    }
+}
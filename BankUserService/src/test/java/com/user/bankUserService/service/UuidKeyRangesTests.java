@@ -0,0 +1,71 @@
+package com.user.bankUserService.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class UuidKeyRangesTests {
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3, 7, 16, 1000 })
+    void splitCoversTheKeySpaceWithoutGapsOrOverlaps(int partitions) {
+        List<UuidKeyRanges.Range> ranges = UuidKeyRanges.split(partitions);
+
+        assertThat(ranges).hasSize(partitions);
+        assertThat(ranges.get(0).lower()).isEqualTo(UuidKeyRanges.MIN);
+        assertThat(ranges.get(partitions - 1).upper()).isEqualTo(UuidKeyRanges.MAX);
+        for (int i = 0; i < partitions; i++) {
+            UuidKeyRanges.Range range = ranges.get(i);
+            assertThat(UuidKeyRanges.compare(range.lower(), range.upper())).isNegative();
+            if (i > 0) {
+                assertThat(range.lower()).isEqualTo(ranges.get(i - 1).upper());
+            }
+        }
+    }
+
+    @Test
+    void splitPlacesEveryKeyInExactlyOneRange() {
+        List<UuidKeyRanges.Range> ranges = UuidKeyRanges.split(5);
+        List<UUID> keys = List.of(new UUID(0L, 1L), new UUID(Long.MAX_VALUE, 0L), new UUID(Long.MIN_VALUE, 0L),
+                new UUID(0x3333333333333332L, -1L), new UUID(0x3333333333333333L, 0L), UUID.randomUUID(),
+                UuidKeyRanges.MAX);
+
+        for (UUID key : keys) {
+            long containing = ranges.stream()
+                    .filter(range -> UuidKeyRanges.compare(range.lower(), key) < 0
+                            && UuidKeyRanges.compare(key, range.upper()) <= 0)
+                    .count();
+            assertThat(containing).as("ranges containing %s", key).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void splitRangesHaveEqualWidth() {
+        List<UuidKeyRanges.Range> ranges = UuidKeyRanges.split(4);
+
+        assertThat(ranges).extracting(range -> range.upper().getMostSignificantBits())
+                .containsExactly(0x3ffffffffffffffeL, 0x7ffffffffffffffdL, 0xbffffffffffffffcL, -1L);
+    }
+
+    @Test
+    void splitRejectsFewerThanOnePartition() {
+        assertThatIllegalArgumentException().isThrownBy(() -> UuidKeyRanges.split(0));
+    }
+
+    @Test
+    void compareOrdersKeysAsUnsignedBytes() {
+        UUID low = new UUID(0x7fffffffffffffffL, -1L);
+        UUID high = new UUID(0x8000000000000000L, 0L);
+
+        assertThat(low.compareTo(high)).isPositive();
+        assertThat(UuidKeyRanges.compare(low, high)).isNegative();
+        assertThat(UuidKeyRanges.compare(new UUID(1L, -1L), new UUID(1L, 1L))).isPositive();
+        assertThat(UuidKeyRanges.compare(high, high)).isZero();
+    }
+}
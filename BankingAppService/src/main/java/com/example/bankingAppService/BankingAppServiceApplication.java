@@ -2,11 +2,18 @@ package com.example.bankingAppService;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.elasticsearch.repository.config.EnableElasticsearchRepositories;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
-@EnableElasticsearchRepositories(basePackages = "com.example.BankingAppService.Repository")
-@EnableJpaRepositories(basePackages = "com.example.BankingAppService.Repository")
+import com.example.bankCommon.config.ProfilingConfig;
+import com.example.bankCommon.config.SmileCodecConfig;
+import com.example.bankCommon.config.TracingConfig;
+import com.example.bankingAppService.repository.BankRepo;
+
+@EnableElasticsearchRepositories(basePackageClasses = BankRepo.class)
+@EnableJpaRepositories(basePackageClasses = BankRepo.class)
+@Import({ ProfilingConfig.class, SmileCodecConfig.class, TracingConfig.class })
 @SpringBootApplication
 public class BankingAppServiceApplication {
 
@@ -1,14 +1,23 @@
 package com.example.bankingAppService.configuration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.example.bankCommon.config.SmileCodecConfig;
+
+import io.micrometer.observation.ObservationRegistry;
+
 @Configuration
 public class WebCleintConfig {
 
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    public WebClient.Builder webClientBuilder(@Value("${inter-service.smile:true}") boolean smile,
+            ObservationRegistry observationRegistry) {
+        WebClient.Builder builder = WebClient.builder()
+                .observationRegistry(observationRegistry)
+                .codecs(SmileCodecConfig::registerCodecs);
+        return smile ? builder.filter(SmileCodecConfig.preferSmile()) : builder;
     }
 }
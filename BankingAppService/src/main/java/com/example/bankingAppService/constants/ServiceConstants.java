@@ -4,8 +4,13 @@ public class ServiceConstants {
     
     public static final String ACCOUNT_SERVICE_BASE_URL = "http://localhost:9097/account";
     public static final String GET_ACCOUNT_BY_ID_URL = ACCOUNT_SERVICE_BASE_URL + "/getById/{accountNumber}";
+    public static final String GET_ACCOUNTS_BY_IDS_URL = ACCOUNT_SERVICE_BASE_URL + "/getByIds";
     public static final String GET_ALL_ACCOUNTS_URL = ACCOUNT_SERVICE_BASE_URL + "/getAllAccount";
     public static final String WITHDRAW_URL = ACCOUNT_SERVICE_BASE_URL + "/withdraw/{accountNumber}";
     public static final String DEPOSIT_URL = ACCOUNT_SERVICE_BASE_URL + "/depositAmount/{accountNumber}";
 
+    public static final String TRANSACTION_SERVICE_BASE_URL = "http://localhost:9098/api/transaction";
+    public static final String TRANSFER_HISTORY_URL = TRANSACTION_SERVICE_BASE_URL + "/history/{accountNumber}";
+    public static final String STATEMENT_URL = TRANSACTION_SERVICE_BASE_URL + "/statement/{accountNumber}";
+
 }
@@ -1,28 +1,47 @@
 package com.example.bankingAppService.controller;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.bankCommon.config.ClientErrorPredicate;
 import com.example.bankingAppService.model.AccountInfo;
 import com.example.bankingAppService.model.Bank;
 import com.example.bankingAppService.request.DepositeRequest;
+import com.example.bankingAppService.request.EmiGridRequest;
 import com.example.bankingAppService.request.EmiRequest;
 import com.example.bankingAppService.request.WithdrawRequest;
+import com.example.bankingAppService.response.AmortizationEntry;
+import com.example.bankingAppService.response.CacheStatistics;
+import com.example.bankingAppService.response.CustomerOverview;
+import com.example.bankingAppService.response.EmiGridResponse;
 import com.example.bankingAppService.response.EmiResponse;
 import com.example.bankingAppService.service.BankServiceImpl;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Controller class for handling bank-related operations.
@@ -36,6 +55,12 @@ public class BankController {
     @Autowired
     private BankServiceImpl bankService;
 
+    @Value("${emi.grid.max-cells:100000}")
+    private int emiGridMaxCells;
+
+    @Value("${emi.max-tenure:600}")
+    private int emiMaxTenure;
+
     /**
      * Adds a new bank with circuit breaker support.
      *
@@ -54,11 +79,12 @@ public class BankController {
      *
      * @param bank the bank to be added
      * @param t the throwable that triggered the fallback
-     * @return a default or empty bank object
+     * @return never; the bank was not added
+     * @throws ResponseStatusException with 503
      */
     public Bank fallbackAddBank(Bank bank, Throwable t) {
         logger.error("Fallback for addBank due to: {}", t.getMessage(), t);
-        return new Bank(); // Return a default or empty bank object
+        throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Adding the bank failed", t);
     }
 
     /**
@@ -72,15 +98,50 @@ public class BankController {
         return bankService.getAllBranches();
     }
 
+    /**
+     * Retrieves a bank branch by its IFSC code.
+     *
+     * @param ifscCode the IFSC code
+     * @return the branch, or 404 if there is none
+     */
+    @GetMapping("/branches/ifsc/{ifscCode}")
+    public ResponseEntity<Bank> getBranchByIfsc(@PathVariable String ifscCode) {
+        Bank bank = bankService.getBranchByIfsc(ifscCode);
+        return bank != null ? ResponseEntity.ok(bank) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Typeahead search for bank branches by name or location.
+     *
+     * @param q the prefix typed so far
+     * @param limit the maximum number of branches to return
+     * @return the matching branches
+     */
+    @GetMapping("/branches/search")
+    public List<Bank> searchBranches(@RequestParam String q, @RequestParam(defaultValue = "10") int limit) {
+        return bankService.searchBranches(q, limit);
+    }
+
+    /**
+     * Retrieves Hibernate cache statistics, showing how many reads were
+     * answered without querying the database.
+     *
+     * @return the cache statistics
+     */
+    @GetMapping("/cache/stats")
+    public CacheStatistics getCacheStatistics() {
+        return bankService.getCacheStatistics();
+    }
+
     /**
      * Retrieves account information by account number with circuit breaker support.
      *
      * @param accountNumber the account number
-     * @return the account information
+     * @return a Mono emitting the account information
      */
     @GetMapping("/getAccountById/{accountNumber}")
     @CircuitBreaker(name = "bankService", fallbackMethod = "fallbackGetAccountById")
-    public AccountInfo getAccountById(@PathVariable UUID accountNumber) {
+    public Mono<AccountInfo> getAccountById(@PathVariable UUID accountNumber) {
         logger.info("Retrieving account information for account number: {}", accountNumber);
         return bankService.getAccountById(accountNumber);
     }
@@ -90,21 +151,47 @@ public class BankController {
      *
      * @param accountNumber the account number
      * @param t the throwable that triggered the fallback
-     * @return null or a default account information object
+     * @return an empty Mono
      */
-    public AccountInfo fallbackGetAccountById(UUID accountNumber, Throwable t) {
+    public Mono<AccountInfo> fallbackGetAccountById(UUID accountNumber, Throwable t) {
         logger.error("Fallback for getAccountById for account number: {} due to: {}", accountNumber, t.getMessage(), t);
-        return null; // Return null or a default object
+        return Mono.empty();
+    }
+
+    /**
+     * Retrieves account information for several accounts with circuit breaker
+     * support.
+     *
+     * @param accountNumbers the account numbers
+     * @return a Flux emitting the accounts that were found
+     */
+    @PostMapping("/getAccountsByIds")
+    @CircuitBreaker(name = "bankService", fallbackMethod = "fallbackGetAccountsByIds")
+    public Flux<AccountInfo> getAccountsByIds(@RequestBody List<UUID> accountNumbers) {
+        logger.info("Retrieving account information for {} accounts", accountNumbers.size());
+        return bankService.getAccountsByIds(accountNumbers);
+    }
+
+    /**
+     * Fallback method for retrieving several accounts.
+     *
+     * @param accountNumbers the account numbers
+     * @param t the throwable that triggered the fallback
+     * @return an empty Flux of accounts
+     */
+    public Flux<AccountInfo> fallbackGetAccountsByIds(List<UUID> accountNumbers, Throwable t) {
+        logger.error("Fallback for getAccountsByIds due to: {}", t.getMessage(), t);
+        return Flux.empty();
     }
 
     /**
      * Retrieves all accounts with circuit breaker support.
      *
-     * @return a list of all accounts
+     * @return a Flux emitting all accounts
      */
     @GetMapping("/getAllAccount")
     @CircuitBreaker(name = "bankService", fallbackMethod = "fallbackGetAllAccounts")
-    public List<AccountInfo> getAllAccounts() {
+    public Flux<AccountInfo> getAllAccounts() {
         logger.info("Retrieving all account information");
         return bankService.getAllAccounts();
     }
@@ -113,26 +200,68 @@ public class BankController {
      * Fallback method for retrieving all accounts.
      *
      * @param t the throwable that triggered the fallback
-     * @return an empty list of accounts
+     * @return an empty Flux of accounts
      */
-    public List<AccountInfo> fallbackGetAllAccounts(Throwable t) {
+    public Flux<AccountInfo> fallbackGetAllAccounts(Throwable t) {
         logger.error("Fallback for getAllAccounts due to: {}", t.getMessage(), t);
-        return List.of(); // Return an empty list
+        return Flux.empty();
+    }
+
+    /**
+     * Streams all accounts straight from the account service to the client.
+     * The downstream response is copied to the servlet output stream as it
+     * arrives, so memory use does not grow with the number of accounts.
+     * Writing blocks when the client reads slowly, which in turn stops the
+     * downstream read.
+     *
+     * @param fields optional account fields to keep, e.g. accountNumber,balance
+     * @return ResponseEntity streaming a JSON array of accounts
+     */
+    @GetMapping(value = "/getAllAccount/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllAccounts(
+            @RequestParam(required = false) Set<String> fields) {
+        logger.info("Streaming all account information with fields: {}", fields);
+        StreamingResponseBody body = outputStream -> DataBufferUtils
+                .write(bankService.streamAllAccounts(fields), outputStream)
+                .doOnNext(DataBufferUtils::release)
+                .doOnError(e -> logger.error("Streaming all accounts failed: {}", e.getMessage(), e))
+                .blockLast();
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Retrieves the account, transfer history, statement and branches for a
+     * customer in one call. The parts are fetched in parallel; any part that
+     * is not ready in time is left out and named in the response.
+     *
+     * @param accountNumber the account number
+     * @return the customer overview
+     */
+    @GetMapping("/overview/{accountNumber}")
+    public CustomerOverview getCustomerOverview(@PathVariable UUID accountNumber) {
+        logger.info("Retrieving customer overview for account number: {}", accountNumber);
+        return bankService.getCustomerOverview(accountNumber);
     }
 
     /**
      * Calculates EMI with circuit breaker support.
      *
      * @param emiRequest the EMI request containing principal, rate of interest, and tenure
-     * @return the EMI response containing the calculated EMI
+     * @return ResponseEntity containing the calculated EMI, or 400 if the
+     *         loan is not valid
      */
     @PostMapping("/calculate-emi")
     @CircuitBreaker(name = "bankService", fallbackMethod = "fallbackCalculateEmi")
-    public EmiResponse calculateEmi(@RequestBody EmiRequest emiRequest) {
+    public ResponseEntity<EmiResponse> calculateEmi(@RequestBody EmiRequest emiRequest) {
         logger.info("Calculating EMI for principal: {}, rateOfInterest: {}, tenure: {}", 
                      emiRequest.principal(), emiRequest.rateOfInterest(), emiRequest.tenure());
+        // Rejected without throwing, since the fallback would turn an exception into a 503
+        if (!isValidLoan(emiRequest)) {
+            logger.warn("Rejected EMI request {}", emiRequest);
+            return ResponseEntity.badRequest().build();
+        }
         double emi = bankService.calculateEmi(emiRequest.principal(), emiRequest.rateOfInterest(), emiRequest.tenure());
-        return new EmiResponse(emi);
+        return ResponseEntity.ok(new EmiResponse(emi));
     }
 
     /**
@@ -140,22 +269,103 @@ public class BankController {
      *
      * @param emiRequest the EMI request
      * @param t the throwable that triggered the fallback
-     * @return an EMI response with a default EMI value
+     * @return ResponseEntity with 503 and no EMI
      */
-    public EmiResponse fallbackCalculateEmi(EmiRequest emiRequest, Throwable t) {
+    public ResponseEntity<EmiResponse> fallbackCalculateEmi(EmiRequest emiRequest, Throwable t) {
         logger.error("Fallback for calculateEmi due to: {}", t.getMessage(), t);
-        return new EmiResponse(0.0); // Return a default EMI value
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+
+    /**
+     * Calculates EMIs for a grid of rates and tenures.
+     *
+     * @param gridRequest the principal with the rates and tenures to quote
+     * @return ResponseEntity containing the EMI grid, or 400 if the grid is
+     *         empty or too large, or if any of its loans is not valid
+     */
+    @PostMapping("/calculate-emi/grid")
+    public ResponseEntity<EmiGridResponse> calculateEmiGrid(@RequestBody EmiGridRequest gridRequest) {
+        int rates = gridRequest.ratesOfInterest() == null ? 0 : gridRequest.ratesOfInterest().length;
+        int tenures = gridRequest.tenures() == null ? 0 : gridRequest.tenures().length;
+        logger.info("Calculating EMI grid of {} rates by {} tenures", rates, tenures);
+        if (rates == 0 || tenures == 0 || (long) rates * tenures > emiGridMaxCells
+                || !isValidPrincipal(gridRequest.principal())
+                || !Arrays.stream(gridRequest.ratesOfInterest()).allMatch(this::isValidRate)
+                || !Arrays.stream(gridRequest.tenures()).allMatch(this::isValidTenure)) {
+            logger.warn("Rejected EMI grid of {} rates by {} tenures", rates, tenures);
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(bankService.calculateEmiGrid(gridRequest));
+    }
+
+    /**
+     * Returns the full amortization schedule of a loan.
+     *
+     * @param emiRequest the EMI request containing principal, rate of interest, and tenure
+     * @return the schedule, one entry per month
+     * @throws ResponseStatusException with 400 if the loan is not valid
+     */
+    @PostMapping(value = "/calculate-emi/schedule", produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<AmortizationEntry> amortizationSchedule(@RequestBody EmiRequest emiRequest) {
+        requireValidLoan(emiRequest);
+        return bankService.amortizationSchedule(emiRequest.principal(), emiRequest.rateOfInterest(),
+                emiRequest.tenure()).toList();
+    }
+
+    /**
+     * Streams the amortization schedule of a loan as newline-delimited JSON,
+     * so long tenures are written out month by month instead of as one array.
+     *
+     * @param emiRequest the EMI request containing principal, rate of interest, and tenure
+     * @return a Flux emitting one entry per month
+     * @throws ResponseStatusException with 400 if the loan is not valid
+     */
+    @PostMapping(value = "/calculate-emi/schedule", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AmortizationEntry> streamAmortizationSchedule(@RequestBody EmiRequest emiRequest) {
+        // Checked before the stream starts, while the status can still be set
+        requireValidLoan(emiRequest);
+        return Flux.fromStream(() -> bankService.amortizationSchedule(emiRequest.principal(),
+                emiRequest.rateOfInterest(), emiRequest.tenure()));
+    }
+
+    private void requireValidLoan(EmiRequest emiRequest) {
+        if (!isValidLoan(emiRequest)) {
+            logger.warn("Rejected amortization schedule request {}", emiRequest);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid loan");
+        }
+    }
+
+    /**
+     * A loan can be quoted when its principal and rate are finite and not
+     * negative and its tenure is between 1 and {@code emi.max-tenure} months.
+     * The tenure bound also bounds the power table a grid row allocates.
+     */
+    private boolean isValidLoan(EmiRequest emiRequest) {
+        return isValidPrincipal(emiRequest.principal()) && isValidRate(emiRequest.rateOfInterest())
+                && isValidTenure(emiRequest.tenure());
+    }
+
+    private boolean isValidPrincipal(double principal) {
+        return Double.isFinite(principal) && principal >= 0;
+    }
+
+    private boolean isValidRate(double rateOfInterest) {
+        return Double.isFinite(rateOfInterest) && rateOfInterest >= 0;
+    }
+
+    private boolean isValidTenure(int tenure) {
+        return tenure >= 1 && tenure <= emiMaxTenure;
     }
 
     /**
      * Deposits an amount into an account with circuit breaker support.
      *
      * @param depositRequest the deposit request containing account number and deposit amount
-     * @return the deposit request object
+     * @return a Mono emitting the deposit request object
      */
     @PutMapping("/depositAmount")
     @CircuitBreaker(name = "bankService", fallbackMethod = "fallbackDepositAmount")
-    public DepositeRequest depositAmount(@RequestBody DepositeRequest depositRequest) {
+    public Mono<DepositeRequest> depositAmount(@RequestBody DepositeRequest depositRequest) {
         logger.info("Depositing amount: {} into account number: {}", depositRequest.getBalance(), depositRequest.getAccountNumber());
         return bankService.depositAmount(depositRequest.getAccountNumber(), depositRequest.getBalance());
     }
@@ -164,11 +374,11 @@ public class BankController {
      * Withdraws an amount from an account with circuit breaker support.
      *
      * @param withdrawRequest the withdrawal request containing account number and withdrawal amount
-     * @return the withdrawal request object
+     * @return a Mono emitting the withdrawal request object
      */
     @PutMapping("/withdrawAmount")
     @CircuitBreaker(name = "bankService", fallbackMethod = "fallbackWithdrawAmount")
-    public WithdrawRequest withdrawAmount(@RequestBody WithdrawRequest withdrawRequest) {
+    public Mono<WithdrawRequest> withdrawAmount(@RequestBody WithdrawRequest withdrawRequest) {
         logger.info("Withdrawing amount: {} from account number: {}", withdrawRequest.getBalance(), withdrawRequest.getAccountNumber());
         return bankService.withdrawAmount(withdrawRequest.getAccountNumber(), withdrawRequest.getBalance());
     }
@@ -178,11 +388,12 @@ public class BankController {
      *
      * @param depositRequest the deposit request
      * @param t the throwable that triggered the fallback
-     * @return the deposit request object with fallback information
+     * @return a Mono failing with the account service's 4xx status if it
+     *         refused the deposit, or with 503
      */
-    public DepositeRequest fallbackDepositAmount(DepositeRequest depositRequest, Throwable t) {
+    public Mono<DepositeRequest> fallbackDepositAmount(DepositeRequest depositRequest, Throwable t) {
         logger.error("Fallback for depositAmount for account number: {} due to: {}", depositRequest.getAccountNumber(), t.getMessage(), t);
-        return depositRequest;
+        return Mono.error(failure("Deposit", t));
     }
 
     /**
@@ -190,10 +401,24 @@ public class BankController {
      *
      * @param withdrawRequest the withdrawal request
      * @param t the throwable that triggered the fallback
-     * @return the withdrawal request object with fallback information
+     * @return a Mono failing with the account service's 4xx status if it
+     *         refused the withdrawal, or with 503
      */
-    public WithdrawRequest fallbackWithdrawAmount(WithdrawRequest withdrawRequest, Throwable t) {
+    public Mono<WithdrawRequest> fallbackWithdrawAmount(WithdrawRequest withdrawRequest, Throwable t) {
         logger.error("Fallback for withdrawAmount for account number: {} due to: {}", withdrawRequest.getAccountNumber(), t.getMessage(), t);
-        return withdrawRequest;
+        return Mono.error(failure("Withdrawal", t));
+    }
+
+    /**
+     * The error a failed money movement answers with. A request the account
+     * service refused keeps its status, so the caller can tell it from an
+     * outage; anything else is a 503.
+     */
+    private static ResponseStatusException failure(String operation, Throwable t) {
+        HttpStatusCode refused = ClientErrorPredicate.clientErrorStatus(t);
+        if (refused != null) {
+            return new ResponseStatusException(refused, operation + " refused by the account service", t);
+        }
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, operation + " is currently unavailable", t);
     }
 }
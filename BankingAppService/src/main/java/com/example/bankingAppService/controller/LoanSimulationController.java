@@ -0,0 +1,69 @@
+package com.example.bankingAppService.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.bankingAppService.request.LoanSimulationRequest;
+import com.example.bankingAppService.response.LoanSimulationReport;
+import com.example.bankingAppService.service.LoanSimulationService;
+
+import io.micrometer.observation.annotation.Observed;
+
+/**
+ * Controller class for starting loan portfolio simulations and following
+ * their progress.
+ */
+@Observed(lowCardinalityKeyValues = { "layer", "controller" })
+@RestController
+@RequestMapping("/api/bank/simulation")
+public class LoanSimulationController {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoanSimulationController.class);
+
+    @Autowired
+    private LoanSimulationService loanSimulationService;
+
+    /**
+     * Starts a simulation in the background.
+     *
+     * @param request the loan book and scenario to simulate
+     * @return 202 with the job ID, 400 if the request is invalid, or 429 if
+     *         too many simulations are running
+     */
+    @PostMapping
+    public ResponseEntity<String> startSimulation(@RequestBody LoanSimulationRequest request) {
+        try {
+            String jobId = loanSimulationService.startSimulation(request);
+            return ResponseEntity.accepted().body(jobId);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected loan simulation: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            logger.warn("Rejected loan simulation: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves the progress of a simulation, and its results once completed.
+     *
+     * @param jobId the job ID
+     * @return the report, or 404 if the job is unknown
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<LoanSimulationReport> getReport(@PathVariable String jobId) {
+        LoanSimulationReport report = loanSimulationService.getReport(jobId);
+        return report != null ? ResponseEntity.ok(report) : ResponseEntity.notFound().build();
+    }
+}
@@ -2,9 +2,13 @@ package com.example.bankingAppService.model;
 
 import java.util.UUID;
 
+import com.example.bankCommon.model.Money;
+
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 public class AccountInfo {
 
 	private UUID accountNumber;
@@ -12,9 +16,9 @@ public class AccountInfo {
 	private String accountType;
 	private String panCardNumber;
 	private String address;
-	private double balance;
+	private Money balance;
 	public AccountInfo(UUID accountNumber, String accountHolderName, String accountType, String panCardNumber,
-			String address, double balance) {
+			String address, Money balance) {
 		super();
 		this.accountNumber = accountNumber;
 		this.accountHolderName = accountHolderName;
@@ -53,10 +57,10 @@ public class AccountInfo {
 	public void setAddress(String address) {
 		this.address = address;
 	}
-	public double getBalance() {
+	public Money getBalance() {
 		return balance;
 	}
-	public void setBalance(double balance) {
+	public void setBalance(Money balance) {
 		this.balance = balance;
 	}
 	
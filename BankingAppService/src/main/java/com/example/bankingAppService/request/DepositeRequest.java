@@ -1,17 +1,22 @@
 package com.example.bankingAppService.request;
 
 import java.util.UUID;
+
+import com.example.bankCommon.model.Money;
+
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 
 @Data
+@NoArgsConstructor
 public class DepositeRequest {
     
 
    
     private UUID accountNumber;
-    private double balance;
-	public DepositeRequest(UUID accountNumber, double balance) {
+    private Money balance;
+	public DepositeRequest(UUID accountNumber, Money balance) {
 		super();
 		this.accountNumber = accountNumber;
 		this.balance = balance;
@@ -22,10 +27,10 @@ public class DepositeRequest {
 	public void setAccountNumber(UUID accountNumber) {
 		this.accountNumber = accountNumber;
 	}
-	public double getBalance() {
+	public Money getBalance() {
 		return balance;
 	}
-	public void setBalance(double balance) {
+	public void setBalance(Money balance) {
 		this.balance = balance;
 	}
     
@@ -0,0 +1,8 @@
+package com.example.bankingAppService.request;
+
+/**
+ * A principal quoted over every combination of the given monthly rates and
+ * tenures.
+ */
+public record EmiGridRequest(double principal, double[] ratesOfInterest, int[] tenures) {
+}
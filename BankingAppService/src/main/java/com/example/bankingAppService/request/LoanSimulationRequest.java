@@ -0,0 +1,11 @@
+package com.example.bankingAppService.request;
+
+import java.util.List;
+
+/**
+ * A loan book and the scenario to simulate over it. Probabilities are per
+ * loan per month. A seed of 0 picks a random seed.
+ */
+public record LoanSimulationRequest(List<EmiRequest> loans, int paths, double monthlyDefaultProbability,
+        double monthlyPrepaymentProbability, double lossGivenDefault, long seed) {
+}
@@ -2,15 +2,19 @@ package com.example.bankingAppService.request;
 
 import java.util.UUID;
 
+import com.example.bankCommon.model.Money;
+
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 public class WithdrawRequest {
     
 
     private UUID accountNumber;
-    private double balance;
-	public WithdrawRequest(UUID accountNumber, double balance) {
+    private Money balance;
+	public WithdrawRequest(UUID accountNumber, Money balance) {
 		super();
 		this.accountNumber = accountNumber;
 		this.balance = balance;
@@ -21,10 +25,10 @@ public class WithdrawRequest {
 	public void setAccountNumber(UUID accountNumber) {
 		this.accountNumber = accountNumber;
 	}
-	public double getBalance() {
+	public Money getBalance() {
 		return balance;
 	}
-	public void setBalance(double balance) {
+	public void setBalance(Money balance) {
 		this.balance = balance;
 	}
 	
@@ -0,0 +1,7 @@
+package com.example.bankingAppService.response;
+
+/**
+ * One month of an amortization schedule.
+ */
+public record AmortizationEntry(int month, double emi, double principal, double interest, double balance) {
+}
@@ -0,0 +1,9 @@
+package com.example.bankingAppService.response;
+
+/**
+ * Hibernate second-level and query cache counters since startup, with the
+ * number of queries that still reached the database.
+ */
+public record CacheStatistics(long secondLevelCacheHits, long secondLevelCacheMisses, long secondLevelCachePuts,
+        long queryCacheHits, long queryCacheMisses, long queryExecutions, long entityLoads, double hitRatio) {
+}
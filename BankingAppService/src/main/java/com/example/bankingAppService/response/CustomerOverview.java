@@ -0,0 +1,17 @@
+package com.example.bankingAppService.response;
+
+import java.util.List;
+
+import com.example.bankingAppService.model.AccountInfo;
+import com.example.bankingAppService.model.Bank;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Everything the front end shows for one customer, gathered in one call.
+ * Parts that could not be fetched in time are null and listed in
+ * {@code unavailable}.
+ */
+public record CustomerOverview(AccountInfo account, List<JsonNode> transferHistory, List<JsonNode> statement,
+        List<Bank> branches, List<String> unavailable) {
+
+}
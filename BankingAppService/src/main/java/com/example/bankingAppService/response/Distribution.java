@@ -0,0 +1,7 @@
+package com.example.bankingAppService.response;
+
+/**
+ * Summary of a simulated quantity across all paths.
+ */
+public record Distribution(double mean, double p1, double p5, double p50, double p95, double p99) {
+}
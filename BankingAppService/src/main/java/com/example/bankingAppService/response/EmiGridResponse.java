@@ -0,0 +1,8 @@
+package com.example.bankingAppService.response;
+
+/**
+ * EMI quotes for a rate/tenure grid. {@code emi[i][j]} is the EMI for
+ * {@code ratesOfInterest[i]} over {@code tenures[j]} months.
+ */
+public record EmiGridResponse(double principal, double[] ratesOfInterest, int[] tenures, double[][] emi) {
+}
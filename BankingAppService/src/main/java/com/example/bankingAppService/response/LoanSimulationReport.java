@@ -0,0 +1,9 @@
+package com.example.bankingAppService.response;
+
+/**
+ * Progress of a loan portfolio simulation and, once it has completed, the
+ * distributions of credit loss and interest income per path.
+ */
+public record LoanSimulationReport(String jobId, String status, long totalPaths, long completedPaths,
+        Distribution creditLoss, Distribution interestIncome, String error) {
+}
@@ -0,0 +1,143 @@
+package com.example.bankingAppService.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.bankingAppService.constants.ServiceConstants;
+import com.example.bankingAppService.model.AccountInfo;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Batches single account lookups into calls to the account service's
+ * {@code /account/getByIds} endpoint.
+ * <p>
+ * The first lookup after a flush opens a window of {@code account-batch.window}.
+ * Every lookup made during the window joins the same batch, and the batch is
+ * sent when the window closes or when it reaches {@code account-batch.max-size}
+ * accounts, whichever happens first. Lookups for the same account within a
+ * batch share one result.
+ */
+@Component
+public class AccountBatchLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountBatchLoader.class);
+
+    @Autowired
+    private WebClient.Builder webClient;
+
+    @Value("${account-batch.window:5ms}")
+    private Duration window;
+
+    @Value("${account-batch.max-size:100}")
+    private int maxSize;
+
+    private Map<UUID, Sinks.One<AccountInfo>> pending = new HashMap<>();
+
+    public AccountBatchLoader(MeterRegistry meterRegistry) {
+        Gauge.builder("bank.account.batch.pending", this, AccountBatchLoader::pendingCount)
+                .description("Account lookups waiting for the current batch window to close")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues a lookup for the next batch.
+     *
+     * @param accountNumber the account number
+     * @return a Mono emitting the account information, or empty if not found
+     */
+    public Mono<AccountInfo> load(UUID accountNumber) {
+        return Mono.defer(() -> {
+            Sinks.One<AccountInfo> sink;
+            Map<UUID, Sinks.One<AccountInfo>> full = null;
+            synchronized (this) {
+                boolean firstInWindow = pending.isEmpty();
+                sink = pending.computeIfAbsent(accountNumber, key -> Sinks.one());
+                if (pending.size() >= maxSize) {
+                    full = takePending();
+                } else if (firstInWindow) {
+                    Mono.delay(window).subscribe(tick -> flushWindow());
+                }
+            }
+            if (full != null) {
+                dispatch(full);
+            }
+            return sink.asMono();
+        });
+    }
+
+    /**
+     * Looks up several accounts directly, splitting them into batches of at
+     * most {@code account-batch.max-size}.
+     *
+     * @param accountNumbers the account numbers
+     * @return a Flux emitting the accounts that were found
+     */
+    public Flux<AccountInfo> loadAll(List<UUID> accountNumbers) {
+        return Flux.fromIterable(accountNumbers)
+                .distinct()
+                .buffer(maxSize)
+                .concatMap(this::fetch);
+    }
+
+    private void flushWindow() {
+        Map<UUID, Sinks.One<AccountInfo>> batch;
+        synchronized (this) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    private synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    private Map<UUID, Sinks.One<AccountInfo>> takePending() {
+        Map<UUID, Sinks.One<AccountInfo>> batch = pending;
+        pending = new HashMap<>();
+        return batch;
+    }
+
+    private void dispatch(Map<UUID, Sinks.One<AccountInfo>> batch) {
+        logger.debug("Dispatching batch lookup for {} accounts", batch.size());
+        fetch(new ArrayList<>(batch.keySet()))
+                .collectMap(AccountInfo::getAccountNumber)
+                .subscribe(found -> batch.forEach((accountNumber, sink) -> {
+                    AccountInfo account = found.get(accountNumber);
+                    if (account != null) {
+                        sink.tryEmitValue(account);
+                    } else {
+                        sink.tryEmitEmpty();
+                    }
+                }), error -> {
+                    logger.error("Batch lookup of {} accounts failed: {}", batch.size(), error.getMessage());
+                    batch.values().forEach(sink -> sink.tryEmitError(error));
+                });
+    }
+
+    private Flux<AccountInfo> fetch(List<UUID> accountNumbers) {
+        return webClient.build()
+                .post()
+                .uri(ServiceConstants.GET_ACCOUNTS_BY_IDS_URL)
+                .bodyValue(accountNumbers)
+                .retrieve()
+                .bodyToFlux(AccountInfo.class);
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.bankingAppService.service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.bankingAppService.model.AccountInfo;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Near-cache with single-flight loading for account lookups.
+ * <p>
+ * Entries are fresh for {@code account-cache.ttl}. After that they stay
+ * usable for {@code account-cache.stale-ttl}: the stale value is returned
+ * immediately while one background load refreshes it, so an entry expiring
+ * under load does not send every waiting caller downstream at once. Callers
+ * that find no usable entry join the in-flight load for the same account if
+ * there is one, instead of starting their own. Invalidating an account
+ * detaches its in-flight load, so a value read before the change is
+ * returned to the callers already waiting for it but is not cached.
+ */
+@Component
+public class AccountLookupCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountLookupCache.class);
+
+    private final Duration ttl;
+
+    private final Duration staleTtl;
+
+    private final Map<UUID, CachedAccount> entries;
+
+    private final Map<UUID, Load> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+
+    private final Counter staleHits;
+
+    private final Counter coalesced;
+
+    private final Counter misses;
+
+    private record CachedAccount(AccountInfo account, long loadedAt) {
+    }
+
+    /**
+     * A downstream load, marked invalidated if its account changed after it
+     * started.
+     */
+    private record Load(Mono<AccountInfo> account, AtomicBoolean invalidated) {
+    }
+
+    public AccountLookupCache(MeterRegistry meterRegistry,
+            @Value("${account-cache.ttl:2s}") Duration ttl,
+            @Value("${account-cache.stale-ttl:5s}") Duration staleTtl,
+            @Value("${account-cache.max-size:10000}") int maxSize) {
+        this.ttl = ttl;
+        this.staleTtl = staleTtl;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(maxSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CachedAccount> eldest) {
+                return size() > maxSize;
+            }
+        });
+
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.staleHits = lookupCounter(meterRegistry, "stale");
+        this.coalesced = lookupCounter(meterRegistry, "coalesced");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        Gauge.builder("bank.account.lookup.hit.ratio", this, AccountLookupCache::hitRatio)
+                .description("Share of account lookups answered from the near-cache")
+                .register(meterRegistry);
+        Gauge.builder("bank.account.lookup.coalesce.ratio", this, AccountLookupCache::coalesceRatio)
+                .description("Share of downstream account loads shared by more than one caller")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the account from the cache, or loads it with at most one
+     * concurrent downstream call per account number.
+     *
+     * @param accountNumber the account number
+     * @param loader        the downstream lookup
+     * @return a Mono emitting the account information, or empty if not found
+     */
+    public Mono<AccountInfo> get(UUID accountNumber, Function<UUID, Mono<AccountInfo>> loader) {
+        CachedAccount cached = entries.get(accountNumber);
+        if (cached != null) {
+            long age = System.currentTimeMillis() - cached.loadedAt();
+            if (age <= ttl.toMillis()) {
+                hits.increment();
+                return Mono.just(cached.account());
+            }
+            if (age <= ttl.toMillis() + staleTtl.toMillis()) {
+                staleHits.increment();
+                refreshInBackground(accountNumber, loader);
+                return Mono.just(cached.account());
+            }
+        }
+        return load(accountNumber, loader);
+    }
+
+    /**
+     * Drops the cached entry for an account, e.g. after its balance changed.
+     *
+     * @param accountNumber the account number
+     */
+    public void invalidate(UUID accountNumber) {
+        synchronized (entries) {
+            entries.remove(accountNumber);
+            Load load = inFlight.remove(accountNumber);
+            if (load != null) {
+                load.invalidated().set(true);
+            }
+        }
+    }
+
+    private Mono<AccountInfo> load(UUID accountNumber, Function<UUID, Mono<AccountInfo>> loader) {
+        boolean[] started = new boolean[1];
+        Load shared = inFlight.computeIfAbsent(accountNumber, key -> {
+            started[0] = true;
+            AtomicBoolean invalidated = new AtomicBoolean();
+            AtomicReference<Load> self = new AtomicReference<>();
+            Mono<AccountInfo> account = loader.apply(key)
+                    .doOnNext(loaded -> cache(key, loaded, invalidated))
+                    .doFinally(signal -> inFlight.remove(key, self.get()))
+                    .cache();
+            self.set(new Load(account, invalidated));
+            return self.get();
+        });
+        if (started[0]) {
+            misses.increment();
+        } else {
+            coalesced.increment();
+            logger.debug("Joining in-flight lookup for account ID: {}", accountNumber);
+        }
+        return shared.account();
+    }
+
+    private void cache(UUID accountNumber, AccountInfo account, AtomicBoolean invalidated) {
+        synchronized (entries) {
+            if (!invalidated.get()) {
+                entries.put(accountNumber, new CachedAccount(account, System.currentTimeMillis()));
+            }
+        }
+    }
+
+    private void refreshInBackground(UUID accountNumber, Function<UUID, Mono<AccountInfo>> loader) {
+        if (inFlight.containsKey(accountNumber)) {
+            return;
+        }
+        load(accountNumber, loader).subscribe(
+                account -> logger.debug("Refreshed cached account ID: {}", accountNumber),
+                error -> logger.warn("Background refresh failed for account ID: {}: {}", accountNumber,
+                        error.getMessage()));
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("bank.account.lookup")
+                .description("Account lookups by how they were answered")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + staleHits.count() + coalesced.count() + misses.count();
+        return total == 0 ? 0 : (hits.count() + staleHits.count()) / total;
+    }
+
+    private double coalesceRatio() {
+        double downstream = coalesced.count() + misses.count();
+        return downstream == 0 ? 0 : coalesced.count() / downstream;
+    }
+}
@@ -1,16 +1,25 @@
 package com.example.bankingAppService.service;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import com.example.bankCommon.model.Money;
 import com.example.bankingAppService.model.AccountInfo;
 import com.example.bankingAppService.model.Bank;
 import com.example.bankingAppService.request.DepositeRequest;
+import com.example.bankingAppService.request.EmiGridRequest;
 import com.example.bankingAppService.request.WithdrawRequest;
+import com.example.bankingAppService.response.AmortizationEntry;
+import com.example.bankingAppService.response.CacheStatistics;
+import com.example.bankingAppService.response.CustomerOverview;
+import com.example.bankingAppService.response.EmiGridResponse;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -27,12 +36,24 @@ public interface BankService {
      * @param accountNumber
      * @return
      */
-    AccountInfo getAccountById(UUID accountNumber);
+    Mono<AccountInfo> getAccountById(UUID accountNumber);
 
     /**
      * @return
      */
-    List<AccountInfo> getAllAccounts();
+    Flux<AccountInfo> getAllAccounts();
+
+    /**
+     * @param accountNumbers
+     * @return
+     */
+    Flux<AccountInfo> getAccountsByIds(List<UUID> accountNumbers);
+
+    /**
+     * @param fields
+     * @return
+     */
+    Flux<DataBuffer> streamAllAccounts(Set<String> fields);
 
     /**
      * @param principal
@@ -42,22 +63,60 @@ public interface BankService {
      */
     double calculateEmi(double principal, double rateOfInterest, int tenure);
 
+    /**
+     * @param gridRequest
+     * @return
+     */
+    EmiGridResponse calculateEmiGrid(EmiGridRequest gridRequest);
+
+    /**
+     * @param principal
+     * @param rateOfInterest
+     * @param tenure
+     * @return
+     */
+    Stream<AmortizationEntry> amortizationSchedule(double principal, double rateOfInterest, int tenure);
+
     /**
      * @param accountNumber
      * @param balance
      * @return
      */
-    WithdrawRequest withdrawAmount(UUID accountNumber, double balance);
+    Mono<WithdrawRequest> withdrawAmount(UUID accountNumber, Money balance);
 
     /**
      * @param accountNumber
      * @param balance
      * @return
      */
-    DepositeRequest depositAmount(UUID accountNumber, double balance);
+    Mono<DepositeRequest> depositAmount(UUID accountNumber, Money balance);
 
     /**
      * @return
      */
     List<Bank> getAllBranches();
+
+    /**
+     * @param ifscCode
+     * @return
+     */
+    Bank getBranchByIfsc(String ifscCode);
+
+    /**
+     * @param prefix
+     * @param limit
+     * @return
+     */
+    List<Bank> searchBranches(String prefix, int limit);
+
+    /**
+     * @return
+     */
+    CacheStatistics getCacheStatistics();
+
+    /**
+     * @param accountNumber
+     * @return
+     */
+    CustomerOverview getCustomerOverview(UUID accountNumber);
 }
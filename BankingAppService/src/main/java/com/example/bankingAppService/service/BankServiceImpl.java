@@ -1,29 +1,60 @@
 package com.example.bankingAppService.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.example.bankCommon.config.TracingConfig;
+import com.example.bankCommon.model.Money;
 import com.example.bankingAppService.constants.ServiceConstants;
 import com.example.bankingAppService.model.AccountInfo;
 import com.example.bankingAppService.model.Bank;
 import com.example.bankingAppService.repository.BankRepo;
 import com.example.bankingAppService.request.DepositeRequest;
+import com.example.bankingAppService.request.EmiGridRequest;
 import com.example.bankingAppService.request.WithdrawRequest;
+import com.example.bankingAppService.response.AmortizationEntry;
+import com.example.bankingAppService.response.CacheStatistics;
+import com.example.bankingAppService.response.CustomerOverview;
+import com.example.bankingAppService.response.EmiGridResponse;
 
-import jakarta.annotation.PreDestroy;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import jakarta.persistence.EntityManagerFactory;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
  * Service implementation for handling bank-related operations.
+ * Calls to the account service are non-blocking: they return a Mono or Flux
+ * that the controller hands straight back to Spring MVC, so no request
+ * thread is held while the downstream call is in flight.
  */
 @Service
 public class BankServiceImpl implements BankService {
@@ -36,7 +67,28 @@ public class BankServiceImpl implements BankService {
     @Autowired
     private WebClient.Builder webClient;
 
-    private final ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    @Autowired
+    private AccountLookupCache accountLookupCache;
+
+    @Autowired
+    private AccountBatchLoader accountBatchLoader;
+
+    @Autowired
+    private EmiCalculator emiCalculator;
+
+    @Autowired
+    private BranchIndex branchIndex;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${overview.branch-timeout:2s}")
+    private Duration overviewBranchTimeout;
+
+    private final DataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
 
     /**
      * Adds a new bank record.
@@ -48,49 +100,98 @@ public class BankServiceImpl implements BankService {
     public Bank addBank(Bank bank) {
         logger.info("Adding a new bank record: {}", bank.getBankId());
         Bank savedBank = bankRepo.save(bank);
+        branchIndex.put(savedBank);
         logger.info("Bank record added successfully: {}", savedBank.getBankId());
         return savedBank;
     }
     
     /**
-     * Retrieves account information by account number.
+     * Retrieves account information by account number. Recently fetched
+     * accounts are served from {@link AccountLookupCache}, and concurrent
+     * lookups for the same account share one downstream call. Lookups for
+     * different accounts made at about the same time are sent together by
+     * {@link AccountBatchLoader}.
      *
      * @param accountNumber the account number
-     * @return the account information
+     * @return a Mono emitting the account information, or empty if not found
      */
     @Override
-    public AccountInfo getAccountById(UUID accountNumber) {
+    public Mono<AccountInfo> getAccountById(UUID accountNumber) {
         logger.info("Fetching account details for ID: {}", accountNumber);
-        logger.debug("Sending request to account service to fetch account info for ID: {}", accountNumber);
-        List<AccountInfo> accountInfo = webClient.build()
-                .get()
-                .uri(ServiceConstants.GET_ACCOUNT_BY_ID_URL, accountNumber)
-                .retrieve()
-                .bodyToFlux(AccountInfo.class)
-                .collectList()
-                .block(); // Blocking to wait for the result
-        logger.info("Fetched account info for ID: {}", accountNumber);
-        return accountInfo.isEmpty() ? null : accountInfo.get(0);
+        return accountLookupCache.get(accountNumber, accountBatchLoader::load);
+    }
+
+    /**
+     * Retrieves account information for several accounts with batched calls
+     * to the account service.
+     *
+     * @param accountNumbers the account numbers
+     * @return a Flux emitting the accounts that were found
+     */
+    @Override
+    public Flux<AccountInfo> getAccountsByIds(List<UUID> accountNumbers) {
+        logger.info("Fetching account details for {} accounts", accountNumbers.size());
+        return accountBatchLoader.loadAll(accountNumbers);
     }
     
     /**
      * Retrieves all accounts.
      *
-     * @return a list of all accounts
+     * @return a Flux emitting all accounts
      */
     @Override
-    public List<AccountInfo> getAllAccounts() {
+    public Flux<AccountInfo> getAllAccounts() {
         logger.info("Fetching all accounts from account service");
         logger.debug("Sending request to account service to fetch all accounts");
-        List<AccountInfo> accounts = webClient.build()
+        return webClient.build()
                 .get()
                 .uri(ServiceConstants.GET_ALL_ACCOUNTS_URL)
                 .retrieve()
                 .bodyToFlux(AccountInfo.class)
-                .collectList()
-                .block(); // Blocking the Flux and converting to List
-        logger.info("Fetched all accounts from account service");
-        return accounts;
+                .doOnComplete(() -> logger.info("Fetched all accounts from account service"));
+    }
+
+    /**
+     * Streams all accounts from the account service without building an
+     * intermediate list. With no fields, the downstream body is passed through
+     * buffer by buffer. With fields, each account in the downstream array is
+     * decoded on its own, reduced to the requested fields and written out
+     * again, so only one account is held in memory at a time.
+     *
+     * @param fields the account fields to keep, or null/empty for all of them
+     * @return a Flux of buffers forming a JSON array of accounts
+     */
+    @Override
+    public Flux<DataBuffer> streamAllAccounts(Set<String> fields) {
+        logger.info("Streaming all accounts from account service with fields: {}", fields);
+        // Passed through to a JSON client as is, so it must not be negotiated to Smile
+        WebClient.ResponseSpec response = webClient.build()
+                .get()
+                .uri(ServiceConstants.GET_ALL_ACCOUNTS_URL)
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve();
+        if (fields == null || fields.isEmpty()) {
+            return response.bodyToFlux(DataBuffer.class);
+        }
+        Flux<DataBuffer> accounts = response.bodyToFlux(ObjectNode.class)
+                .index()
+                .map(indexed -> {
+                    indexed.getT2().retain(fields);
+                    return toBuffer(indexed.getT1() == 0 ? "" : ",", indexed.getT2());
+                });
+        return Flux.concat(Mono.fromSupplier(() -> toBuffer("[")), accounts, Mono.fromSupplier(() -> toBuffer("]")));
+    }
+
+    private DataBuffer toBuffer(String text) {
+        return bufferFactory.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private DataBuffer toBuffer(String separator, ObjectNode account) {
+        try {
+            return toBuffer(separator + objectMapper.writeValueAsString(account));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not write account: " + e.getMessage(), e);
+        }
     }
     
     /**
@@ -104,36 +205,68 @@ public class BankServiceImpl implements BankService {
     @Override
     public double calculateEmi(double principal, double rateOfInterest, int tenure) {
         logger.info("Calculating EMI for Principal: {}, Rate: {}, Tenure: {}", principal, rateOfInterest, tenure);
-        double emi = (principal * rateOfInterest * Math.pow(1 + rateOfInterest, tenure))
-                / (Math.pow(1 + rateOfInterest, tenure) - 1);
+        double emi = emiCalculator.emi(principal, rateOfInterest, tenure);
         logger.debug("Calculated EMI: {}", emi);
         return emi;
     }
+
+    /**
+     * Calculates EMIs for every combination of rate and tenure in the request.
+     *
+     * @param gridRequest the principal with the rates and tenures to quote
+     * @return the EMI grid
+     */
+    @Override
+    public EmiGridResponse calculateEmiGrid(EmiGridRequest gridRequest) {
+        logger.info("Calculating EMI grid of {} rates by {} tenures for Principal: {}",
+                gridRequest.ratesOfInterest().length, gridRequest.tenures().length, gridRequest.principal());
+        double[][] emi = emiCalculator.grid(gridRequest.principal(), gridRequest.ratesOfInterest(),
+                gridRequest.tenures());
+        return new EmiGridResponse(gridRequest.principal(), gridRequest.ratesOfInterest(), gridRequest.tenures(),
+                emi);
+    }
+
+    /**
+     * Builds the month-by-month amortization schedule of a loan.
+     *
+     * @param principal the principal amount
+     * @param rateOfInterest the rate of interest
+     * @param tenure the tenure in months
+     * @return a lazily computed stream of schedule entries
+     */
+    @Override
+    public Stream<AmortizationEntry> amortizationSchedule(double principal, double rateOfInterest, int tenure) {
+        logger.info("Building amortization schedule for Principal: {}, Rate: {}, Tenure: {}", principal,
+                rateOfInterest, tenure);
+        return emiCalculator.schedule(principal, rateOfInterest, tenure);
+    }
     
     /**
      * Withdraws an amount from an account.
      *
      * @param accountNumber the account number
      * @param balance the amount to withdraw
-     * @return the WithdrawRequest object
+     * @return a Mono emitting the WithdrawRequest object once the withdrawal succeeds
      */
-    public WithdrawRequest withdrawAmount(UUID accountNumber, double balance) {
+    @Override
+    public Mono<WithdrawRequest> withdrawAmount(UUID accountNumber, Money balance) {
         logger.info("Initiating withdrawal for account ID: {} with amount: {}", accountNumber, balance);
         WithdrawRequest withdrawRequest = new WithdrawRequest();
         withdrawRequest.setAccountNumber(accountNumber);
         withdrawRequest.setBalance(balance);
 
         // WebClient call to withdraw the amount
-        webClient.build()
+        return webClient.build()
                 .put()
                 .uri(ServiceConstants.WITHDRAW_URL, accountNumber)
-                .body(Mono.just(withdrawRequest), WithdrawRequest.class)
+                .bodyValue(withdrawRequest)
                 .retrieve()
                 .bodyToMono(WithdrawRequest.class)
-                .block();
-
-        logger.info("Withdrawal successful for account ID: {}", accountNumber);
-        return withdrawRequest;
+                .doOnSuccess(response -> {
+                    accountLookupCache.invalidate(accountNumber);
+                    logger.info("Withdrawal successful for account ID: {}", accountNumber);
+                })
+                .thenReturn(withdrawRequest);
     }
 
     /**
@@ -141,25 +274,27 @@ public class BankServiceImpl implements BankService {
      *
      * @param accountNumber the account number
      * @param balance the amount to deposit
-     * @return the DepositeRequest object
+     * @return a Mono emitting the DepositeRequest object once the deposit succeeds
      */
-    public DepositeRequest depositAmount(UUID accountNumber, double balance) {
+    @Override
+    public Mono<DepositeRequest> depositAmount(UUID accountNumber, Money balance) {
         logger.info("Initiating deposit for account ID: {} with amount: {}", accountNumber, balance);
         DepositeRequest depositeRequest = new DepositeRequest();
         depositeRequest.setAccountNumber(accountNumber);
         depositeRequest.setBalance(balance);
 
         // WebClient call to deposit the amount
-        webClient.build()
+        return webClient.build()
                 .put()
                 .uri(ServiceConstants.DEPOSIT_URL, accountNumber)
-                .body(Mono.just(depositeRequest), DepositeRequest.class)
+                .bodyValue(depositeRequest)
                 .retrieve()
                 .bodyToMono(DepositeRequest.class)
-                .block();
-
-        logger.info("Deposit successful for account ID: {}", accountNumber);
-        return depositeRequest;
+                .doOnSuccess(response -> {
+                    accountLookupCache.invalidate(accountNumber);
+                    logger.info("Deposit successful for account ID: {}", accountNumber);
+                })
+                .thenReturn(depositeRequest);
     }
 
     /**
@@ -170,17 +305,113 @@ public class BankServiceImpl implements BankService {
     @Override
     public List<Bank> getAllBranches() {
         logger.info("Fetching all bank branches");
+        return branchIndex.all();
+    }
 
-            List<Bank> banks = bankRepo.findAll();
-        return banks;
+    /**
+     * Retrieves a branch by its IFSC code.
+     *
+     * @param ifscCode the IFSC code
+     * @return the branch, or null if there is none
+     */
+    @Override
+    public Bank getBranchByIfsc(String ifscCode) {
+        logger.debug("Looking up branch with IFSC code: {}", ifscCode);
+        return branchIndex.findByIfsc(ifscCode);
     }
 
     /**
-     * Shuts down the virtual thread executor.
+     * Searches branches by a prefix of their name or location.
+     *
+     * @param prefix the typed prefix
+     * @param limit the maximum number of branches to return
+     * @return the matching branches
      */
-    @PreDestroy
-    public void closeVirtualThreadExecutor() {
-        logger.info("Shutting down virtual thread executor");
-        virtualThreadExecutor.shutdown();
+    @Override
+    public List<Bank> searchBranches(String prefix, int limit) {
+        logger.debug("Searching branches with prefix: {}", prefix);
+        return branchIndex.search(prefix, limit);
+    }
+
+    /**
+     * Reports Hibernate cache statistics since startup.
+     *
+     * @return the cache statistics
+     */
+    @Override
+    public CacheStatistics getCacheStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long hits = statistics.getSecondLevelCacheHitCount() + statistics.getQueryCacheHitCount();
+        long misses = statistics.getSecondLevelCacheMissCount() + statistics.getQueryCacheMissCount();
+        double hitRatio = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+        return new CacheStatistics(statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount(),
+                statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(),
+                statistics.getQueryExecutionCount(), statistics.getEntityLoadCount(), hitRatio);
+    }
+
+    /**
+     * Builds the customer overview by fetching the account, transfer history,
+     * statement and branches in parallel, each on its own virtual thread.
+     * All parts share one deadline of {@code overview.branch-timeout} from
+     * the start of the call, so the overview takes as long as the slowest
+     * part rather than the sum of all parts. Parts that fail or miss the
+     * deadline are cancelled and reported as unavailable.
+     *
+     * @param accountNumber the account number
+     * @return the overview, possibly partial
+     */
+    @Override
+    public CustomerOverview getCustomerOverview(UUID accountNumber) {
+        logger.info("Building customer overview for account ID: {}", accountNumber);
+        ExecutorService scope = TracingConfig.propagatingContext(Executors.newVirtualThreadPerTaskExecutor());
+        try {
+            Future<AccountInfo> account = scope.submit(() -> getAccountById(accountNumber).block());
+            Future<List<JsonNode>> transfers = scope
+                    .submit(() -> fetchTransactionList(ServiceConstants.TRANSFER_HISTORY_URL, accountNumber));
+            Future<List<JsonNode>> statement = scope
+                    .submit(() -> fetchTransactionList(ServiceConstants.STATEMENT_URL, accountNumber));
+            Future<List<Bank>> branches = scope.submit(this::getAllBranches);
+
+            long deadline = System.nanoTime() + overviewBranchTimeout.toNanos();
+            List<String> unavailable = new ArrayList<>();
+            CustomerOverview overview = new CustomerOverview(
+                    await("account", account, deadline, unavailable),
+                    await("transferHistory", transfers, deadline, unavailable),
+                    await("statement", statement, deadline, unavailable),
+                    await("branches", branches, deadline, unavailable),
+                    unavailable);
+            logger.info("Built customer overview for account ID: {}, unavailable parts: {}", accountNumber,
+                    unavailable);
+            return overview;
+        } finally {
+            // Interrupt any part still running after the deadline
+            scope.shutdownNow();
+        }
+    }
+
+    private List<JsonNode> fetchTransactionList(String uri, UUID accountNumber) {
+        return webClient.build()
+                .get()
+                .uri(uri, accountNumber)
+                .retrieve()
+                .bodyToFlux(JsonNode.class)
+                .collectList()
+                .block();
+    }
+
+    private <T> T await(String part, Future<T> future, long deadline, List<String> unavailable) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Overview part {} missed its deadline", part);
+        } catch (ExecutionException e) {
+            logger.warn("Overview part {} failed: {}", part, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        future.cancel(true);
+        unavailable.add(part);
+        return null;
     }
 }
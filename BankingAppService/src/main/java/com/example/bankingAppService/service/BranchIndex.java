@@ -0,0 +1,176 @@
+package com.example.bankingAppService.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.example.bankingAppService.model.Bank;
+import com.example.bankingAppService.repository.BankRepo;
+
+/**
+ * In-memory index of bank branches for IFSC lookups and typeahead search.
+ * <p>
+ * The index is an immutable snapshot held in a volatile field. Readers use
+ * whatever snapshot is current without locking. Writers build a complete new
+ * snapshot and swap it in, so a reader never sees a half-updated index.
+ * Typeahead keys are the full name and location of each branch plus every
+ * word in them, lower-cased and kept in one sorted array; a prefix search is
+ * a binary search for the first key with the prefix followed by a scan over
+ * the keys that share it.
+ * <p>
+ * Branch reads never query the database, which is why {@link BankRepo} has
+ * no cached queries: the index supersedes the Hibernate query cache.
+ */
+@Component
+public class BranchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(BranchIndex.class);
+
+    @Autowired
+    private BankRepo bankRepo;
+
+    private volatile Snapshot snapshot = Snapshot.of(List.of());
+
+    private record Key(String text, Bank bank) {
+    }
+
+    private record Snapshot(List<Bank> branches, Map<String, Bank> byIfsc, Key[] keys) {
+
+        static Snapshot of(List<Bank> branches) {
+            Map<String, Bank> byIfsc = new HashMap<>();
+            List<Key> keys = new ArrayList<>();
+            for (Bank bank : branches) {
+                if (bank.getBankIFSCCode() != null) {
+                    byIfsc.put(normalize(bank.getBankIFSCCode()), bank);
+                }
+                addKeys(keys, bank.getName(), bank);
+                addKeys(keys, bank.getLocation(), bank);
+            }
+            Key[] sorted = keys.toArray(Key[]::new);
+            Arrays.sort(sorted, Comparator.comparing(Key::text));
+            return new Snapshot(List.copyOf(branches), Map.copyOf(byIfsc), sorted);
+        }
+
+        private static void addKeys(List<Key> keys, String text, Bank bank) {
+            if (text == null || text.isBlank()) {
+                return;
+            }
+            String normalized = normalize(text);
+            keys.add(new Key(normalized, bank));
+            for (String word : normalized.split("\\s+")) {
+                if (!word.isEmpty() && !word.equals(normalized)) {
+                    keys.add(new Key(word, bank));
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads all branches once the application has started, ahead of the
+     * {@link WarmupRunner} so branch searches made while warming up use it.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * Rebuilds the index from the database.
+     */
+    public synchronized void reload() {
+        List<Bank> branches = bankRepo.findAll();
+        snapshot = Snapshot.of(branches);
+        logger.info("Indexed {} bank branches", branches.size());
+    }
+
+    /**
+     * Adds or replaces a branch in the index.
+     *
+     * @param bank the saved branch
+     */
+    public synchronized void put(Bank bank) {
+        List<Bank> branches = new ArrayList<>(snapshot.branches().size() + 1);
+        for (Bank existing : snapshot.branches()) {
+            if (existing.getBankId() != bank.getBankId()) {
+                branches.add(existing);
+            }
+        }
+        branches.add(bank);
+        snapshot = Snapshot.of(branches);
+    }
+
+    /**
+     * @return all indexed branches
+     */
+    public List<Bank> all() {
+        return snapshot.branches();
+    }
+
+    /**
+     * Looks up a branch by its exact IFSC code, ignoring case.
+     *
+     * @param ifscCode the IFSC code
+     * @return the branch, or null if there is none
+     */
+    public Bank findByIfsc(String ifscCode) {
+        return snapshot.byIfsc().get(normalize(ifscCode));
+    }
+
+    /**
+     * Finds branches whose name or location, or any word in them, starts
+     * with the given prefix, ignoring case.
+     *
+     * @param prefix the typed prefix
+     * @param limit  the maximum number of branches to return
+     * @return the matching branches, in key order
+     */
+    public List<Bank> search(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Key[] keys = snapshot.keys();
+        Set<Bank> matches = new LinkedHashSet<>();
+        for (int i = lowerBound(keys, normalized); i < keys.length && matches.size() < limit; i++) {
+            if (!keys[i].text().startsWith(normalized)) {
+                break;
+            }
+            matches.add(keys[i].bank());
+        }
+        return new ArrayList<>(matches);
+    }
+
+    private static int lowerBound(Key[] keys, String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].text().compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+}
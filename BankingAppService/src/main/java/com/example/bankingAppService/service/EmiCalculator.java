@@ -0,0 +1,112 @@
+package com.example.bankingAppService.service;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.stereotype.Component;
+
+import com.example.bankingAppService.response.AmortizationEntry;
+
+/**
+ * EMI arithmetic for single quotes, rate/tenure grids and amortization
+ * schedules.
+ * <p>
+ * A grid needs {@code (1 + r)^n} for every tenure n at each rate r. Rather
+ * than calling {@code Math.pow} per cell, each rate builds one power table up
+ * to the longest tenure by repeated multiplication and every tenure reads
+ * from it. Rows of the grid are independent and are computed in parallel.
+ */
+@Component
+public class EmiCalculator {
+
+    /**
+     * Calculates the EMI for one loan.
+     *
+     * @param principal      the principal amount
+     * @param rateOfInterest the monthly rate of interest
+     * @param tenure         the tenure in months
+     * @return the EMI
+     */
+    public double emi(double principal, double rateOfInterest, int tenure) {
+        if (rateOfInterest == 0) {
+            return principal / tenure;
+        }
+        double power = Math.pow(1 + rateOfInterest, tenure);
+        return principal * rateOfInterest * power / (power - 1);
+    }
+
+    /**
+     * Calculates the EMI for every combination of rate and tenure.
+     *
+     * @param principal       the principal amount
+     * @param ratesOfInterest the monthly rates of interest
+     * @param tenures         the tenures in months
+     * @return the EMIs, indexed by rate then tenure
+     */
+    public double[][] grid(double principal, double[] ratesOfInterest, int[] tenures) {
+        int maxTenure = IntStream.of(tenures).max().orElse(0);
+        double[][] emi = new double[ratesOfInterest.length][];
+        IntStream.range(0, ratesOfInterest.length).parallel()
+                .forEach(i -> emi[i] = row(principal, ratesOfInterest[i], tenures, maxTenure));
+        return emi;
+    }
+
+    /**
+     * Produces the amortization schedule of a loan lazily, one month at a
+     * time, so long schedules can be streamed without being held in memory.
+     *
+     * @param principal      the principal amount
+     * @param rateOfInterest the monthly rate of interest
+     * @param tenure         the tenure in months
+     * @return the schedule, in month order
+     */
+    public Stream<AmortizationEntry> schedule(double principal, double rateOfInterest, int tenure) {
+        double emi = emi(principal, rateOfInterest, tenure);
+        Spliterator<AmortizationEntry> months = new Spliterators.AbstractSpliterator<>(tenure,
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.NONNULL) {
+            private int month;
+            private double balance = principal;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super AmortizationEntry> action) {
+                if (month == tenure) {
+                    return false;
+                }
+                month++;
+                double interest = balance * rateOfInterest;
+                // The last instalment clears whatever rounding has left over
+                double repaid = month == tenure ? balance : emi - interest;
+                balance -= repaid;
+                action.accept(new AmortizationEntry(month, repaid + interest, repaid, interest, balance));
+                return true;
+            }
+        };
+        return StreamSupport.stream(months, false);
+    }
+
+    private double[] row(double principal, double rateOfInterest, int[] tenures, int maxTenure) {
+        double[] row = new double[tenures.length];
+        if (rateOfInterest == 0) {
+            for (int j = 0; j < tenures.length; j++) {
+                row[j] = principal / tenures[j];
+            }
+            return row;
+        }
+        double[] powers = new double[maxTenure + 1];
+        powers[0] = 1;
+        double base = 1 + rateOfInterest;
+        for (int n = 1; n <= maxTenure; n++) {
+            powers[n] = powers[n - 1] * base;
+        }
+        double scaled = principal * rateOfInterest;
+        for (int j = 0; j < tenures.length; j++) {
+            double power = powers[tenures[j]];
+            row[j] = scaled * power / (power - 1);
+        }
+        return row;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.bankingAppService.service;
+
+import com.example.bankingAppService.request.LoanSimulationRequest;
+import com.example.bankingAppService.response.LoanSimulationReport;
+
+/**
+ * 
+ */
+public interface LoanSimulationService {
+
+    /**
+     * @param request
+     * @return
+     */
+    String startSimulation(LoanSimulationRequest request);
+
+    /**
+     * @param jobId
+     * @return
+     */
+    LoanSimulationReport getReport(String jobId);
+}
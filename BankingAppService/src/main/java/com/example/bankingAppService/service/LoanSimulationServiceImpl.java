@@ -0,0 +1,339 @@
+package com.example.bankingAppService.service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.bankingAppService.request.EmiRequest;
+import com.example.bankingAppService.request.LoanSimulationRequest;
+import com.example.bankingAppService.response.Distribution;
+import com.example.bankingAppService.response.LoanSimulationReport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implementation of {@link LoanSimulationService} that runs Monte Carlo
+ * simulations of default and prepayment over a loan book.
+ * <p>
+ * Each path walks every loan month by month along its EMI amortization
+ * schedule. In each month a loan defaults, prepays in full or pays its EMI.
+ * Paths are split recursively across a fork/join pool. Every split hands one
+ * half a {@link SplittableRandom} split from its parent, so results are
+ * reproducible for a given seed regardless of how the work is scheduled. The
+ * loan book is copied into primitive arrays up front and the per-path loop
+ * allocates nothing; each path writes its totals into preallocated result
+ * arrays that are sorted for percentiles when the run completes.
+ * <p>
+ * The result arrays take 16 bytes per path, so a job drops them, and the
+ * loan book arrays, as soon as it ends; retained jobs keep only their
+ * distributions. At most {@code simulation.max-running-jobs} jobs run at a
+ * time, which bounds the memory held by running jobs.
+ */
+@Service
+public class LoanSimulationServiceImpl implements LoanSimulationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoanSimulationServiceImpl.class);
+
+    private static final int PATHS_PER_TASK = 1024;
+
+    @Autowired
+    private EmiCalculator emiCalculator;
+
+    @Value("${simulation.max-paths:5000000}")
+    private int maxPaths;
+
+    @Value("${simulation.max-loans:10000}")
+    private int maxLoans;
+
+    @Value("${emi.max-tenure:600}")
+    private int maxTenure;
+
+    private final ForkJoinPool pool;
+
+    private final Map<String, SimulationJob> jobs;
+
+    private final Semaphore running;
+
+    public LoanSimulationServiceImpl(@Value("${simulation.parallelism:0}") int parallelism,
+            @Value("${simulation.retained-jobs:100}") int retainedJobs,
+            @Value("${simulation.max-running-jobs:2}") int maxRunningJobs, MeterRegistry meterRegistry) {
+        this.running = new Semaphore(maxRunningJobs);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        new ExecutorServiceMetrics(pool, "loan-simulation", Tags.empty()).bindTo(meterRegistry);
+        this.jobs = Collections.synchronizedMap(new LinkedHashMap<>(retainedJobs, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SimulationJob> eldest) {
+                return size() > retainedJobs;
+            }
+        });
+    }
+
+    /**
+     * Validates the request and starts the simulation in the background.
+     *
+     * @param request the loan book and scenario
+     * @return the job ID
+     * @throws IllegalArgumentException if the request is invalid
+     * @throws IllegalStateException    if {@code simulation.max-running-jobs}
+     *                                  jobs are already running
+     */
+    @Override
+    public String startSimulation(LoanSimulationRequest request) {
+        validate(request);
+        if (!running.tryAcquire()) {
+            throw new IllegalStateException("Too many loan simulations are running");
+        }
+        String jobId = UUID.randomUUID().toString();
+        try {
+            SimulationJob job = new SimulationJob(jobId, request);
+            jobs.put(jobId, job);
+            logger.info("Starting loan simulation {} with {} loans over {} paths", jobId, request.loans().size(),
+                    request.paths());
+
+            pool.execute(() -> {
+                try {
+                    long started = System.nanoTime();
+                    pool.invoke(new PathTask(job, 0, request.paths(), job.random));
+                    job.complete();
+                    logger.info("Loan simulation {} completed in {} ms", jobId,
+                            (System.nanoTime() - started) / 1_000_000);
+                } catch (RuntimeException e) {
+                    logger.error("Loan simulation {} failed: {}", jobId, e.getMessage(), e);
+                    job.fail(e);
+                } finally {
+                    running.release();
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            // The job never reached the pool, so its permit is returned here
+            running.release();
+            throw e;
+        }
+        return jobId;
+    }
+
+    /**
+     * Reports the progress of a simulation, with the results once it has
+     * completed.
+     *
+     * @param jobId the job ID
+     * @return the report, or null if the job is unknown
+     */
+    @Override
+    public LoanSimulationReport getReport(String jobId) {
+        SimulationJob job = jobs.get(jobId);
+        if (job == null) {
+            logger.warn("No loan simulation found with ID: {}", jobId);
+            return null;
+        }
+        return job.report();
+    }
+
+    /**
+     * Checks the request against the same bounds as the EMI endpoints, and
+     * caps the loan book at {@code simulation.max-loans}. The checks are
+     * written so that NaN fails them.
+     */
+    private void validate(LoanSimulationRequest request) {
+        if (request.loans() == null || request.loans().isEmpty() || request.loans().size() > maxLoans) {
+            throw new IllegalArgumentException("Loans must number between 1 and " + maxLoans);
+        }
+        if (request.paths() <= 0 || request.paths() > maxPaths) {
+            throw new IllegalArgumentException("Paths must be between 1 and " + maxPaths);
+        }
+        double pd = request.monthlyDefaultProbability();
+        double pp = request.monthlyPrepaymentProbability();
+        if (!(pd >= 0 && pp >= 0 && pd + pp <= 1)) {
+            throw new IllegalArgumentException("Monthly default and prepayment probabilities must sum to at most 1");
+        }
+        if (!(request.lossGivenDefault() >= 0 && request.lossGivenDefault() <= 1)) {
+            throw new IllegalArgumentException("Loss given default must be between 0 and 1");
+        }
+        for (EmiRequest loan : request.loans()) {
+            if (loan == null || !Double.isFinite(loan.principal()) || loan.principal() <= 0
+                    || !Double.isFinite(loan.rateOfInterest()) || loan.rateOfInterest() < 0
+                    || loan.tenure() < 1 || loan.tenure() > maxTenure) {
+                throw new IllegalArgumentException("Loans need a positive principal, a non-negative rate and a tenure"
+                        + " between 1 and " + maxTenure + " months");
+            }
+        }
+    }
+
+    /**
+     * Mutable state of one simulation run.
+     */
+    private final class SimulationJob {
+
+        final String jobId;
+        final int paths;
+        final double defaultProbability;
+        final double endProbability;
+        final double lossGivenDefault;
+        // Per-path state, dropped by release() when the job ends
+        double[] principal;
+        double[] rate;
+        int[] tenure;
+        double[] emi;
+        double[] creditLoss;
+        double[] interestIncome;
+        final SplittableRandom random;
+        final AtomicLong completedPaths = new AtomicLong();
+        volatile String status = "RUNNING";
+        volatile String error;
+        volatile Distribution creditLossDistribution;
+        volatile Distribution interestIncomeDistribution;
+
+        SimulationJob(String jobId, LoanSimulationRequest request) {
+            this.jobId = jobId;
+            this.paths = request.paths();
+            this.defaultProbability = request.monthlyDefaultProbability();
+            this.endProbability = request.monthlyDefaultProbability() + request.monthlyPrepaymentProbability();
+            this.lossGivenDefault = request.lossGivenDefault();
+            List<EmiRequest> loans = request.loans();
+            int count = loans.size();
+            this.principal = new double[count];
+            this.rate = new double[count];
+            this.tenure = new int[count];
+            this.emi = new double[count];
+            for (int i = 0; i < count; i++) {
+                EmiRequest loan = loans.get(i);
+                principal[i] = loan.principal();
+                rate[i] = loan.rateOfInterest();
+                tenure[i] = loan.tenure();
+                emi[i] = emiCalculator.emi(loan.principal(), loan.rateOfInterest(), loan.tenure());
+            }
+            this.creditLoss = new double[paths];
+            this.interestIncome = new double[paths];
+            long seed = request.seed() != 0 ? request.seed() : ThreadLocalRandom.current().nextLong();
+            this.random = new SplittableRandom(seed);
+        }
+
+        void simulatePath(int path, SplittableRandom random) {
+            double loss = 0;
+            double income = 0;
+            for (int loan = 0; loan < principal.length; loan++) {
+                double balance = principal[loan];
+                double r = rate[loan];
+                double payment = emi[loan];
+                int months = tenure[loan];
+                for (int month = 0; month < months; month++) {
+                    double draw = random.nextDouble();
+                    if (draw < defaultProbability) {
+                        loss += balance * lossGivenDefault;
+                        break;
+                    }
+                    double interest = balance * r;
+                    income += interest;
+                    if (draw < endProbability) {
+                        break;
+                    }
+                    balance -= payment - interest;
+                }
+            }
+            creditLoss[path] = loss;
+            interestIncome[path] = income;
+        }
+
+        void complete() {
+            creditLossDistribution = distribution(creditLoss);
+            interestIncomeDistribution = distribution(interestIncome);
+            release();
+            status = "COMPLETED";
+        }
+
+        void fail(Throwable t) {
+            release();
+            error = t.getMessage();
+            status = "FAILED";
+        }
+
+        private void release() {
+            principal = null;
+            rate = null;
+            tenure = null;
+            emi = null;
+            creditLoss = null;
+            interestIncome = null;
+        }
+
+        LoanSimulationReport report() {
+            return new LoanSimulationReport(jobId, status, paths, completedPaths.get(), creditLossDistribution,
+                    interestIncomeDistribution, error);
+        }
+    }
+
+    /**
+     * Simulates paths {@code [from, to)}, splitting in half until the range
+     * is small enough to run directly.
+     */
+    private static final class PathTask extends RecursiveAction {
+
+        private final SimulationJob job;
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+
+        PathTask(SimulationJob job, int from, int to, SplittableRandom random) {
+            this.job = job;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PATHS_PER_TASK) {
+                for (int path = from; path < to; path++) {
+                    job.simulatePath(path, random);
+                }
+                job.completedPaths.addAndGet(to - from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new PathTask(job, from, mid, random.split()), new PathTask(job, mid, to, random));
+        }
+    }
+
+    /**
+     * Summarises the values, sorting them in place since the job drops them
+     * afterwards.
+     */
+    private static Distribution distribution(double[] sorted) {
+        Arrays.parallelSort(sorted);
+        double mean = Arrays.stream(sorted).average().orElse(0);
+        return new Distribution(mean, percentile(sorted, 0.01), percentile(sorted, 0.05), percentile(sorted, 0.50),
+                percentile(sorted, 0.95), percentile(sorted, 0.99));
+    }
+
+    private static double percentile(double[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * Shuts down the simulation pool during application shutdown.
+     */
+    @PreDestroy
+    public void closeSimulationPool() {
+        logger.info("Shutting down loan simulation pool");
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,10 @@
+-- Schema as created by Hibernate before migrations were introduced. IF NOT
+-- EXISTS keeps this a no-op on databases that already have it.
+
+CREATE TABLE IF NOT EXISTS bank (
+    bank_id INT NOT NULL AUTO_INCREMENT,
+    bankifsccode VARCHAR(255),
+    location VARCHAR(255),
+    name VARCHAR(255),
+    PRIMARY KEY (bank_id)
+) ENGINE=InnoDB;
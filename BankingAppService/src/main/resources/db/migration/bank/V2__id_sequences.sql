@@ -0,0 +1,11 @@
+-- Bank ids come from a pooled sequence with an allocation size of 50. MySQL
+-- has no sequences, so Hibernate keeps the next value in a one-row table.
+-- It starts a full block above the highest existing id.
+
+CREATE TABLE bank_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO bank_seq (next_val) SELECT COALESCE(MAX(bank_id), 0) + 51 FROM bank;
+
+ALTER TABLE bank MODIFY bank_id INT NOT NULL;
@@ -0,0 +1,84 @@
+package com.example.bankingAppService.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.bankCommon.model.Money;
+import com.example.bankingAppService.model.AccountInfo;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class AccountLookupCacheTests {
+
+    private final AccountLookupCache cache = new AccountLookupCache(new SimpleMeterRegistry(),
+            Duration.ofMinutes(1), Duration.ofMinutes(1), 100);
+
+    private final UUID accountNumber = UUID.randomUUID();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void concurrentLookupsShareOneLoad() {
+        Sinks.One<AccountInfo> downstream = Sinks.one();
+        AtomicReference<AccountInfo> first = new AtomicReference<>();
+        AtomicReference<AccountInfo> second = new AtomicReference<>();
+
+        cache.get(accountNumber, key -> load(downstream.asMono())).subscribe(first::set);
+        cache.get(accountNumber, key -> load(downstream.asMono())).subscribe(second::set);
+        downstream.tryEmitValue(account("100.00"));
+
+        assertThat(loads).hasValue(1);
+        assertThat(first.get()).isSameAs(second.get());
+        assertThat(cache.get(accountNumber, key -> load(Mono.just(account("1.00")))).block().getBalance())
+                .isEqualTo(Money.of("100.00"));
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void loadStartedBeforeAnInvalidationIsNotCached() {
+        Sinks.One<AccountInfo> downstream = Sinks.one();
+        AtomicReference<AccountInfo> waiting = new AtomicReference<>();
+
+        cache.get(accountNumber, key -> load(downstream.asMono())).subscribe(waiting::set);
+        cache.invalidate(accountNumber);
+        AccountInfo afterChange = cache.get(accountNumber, key -> load(Mono.just(account("50.00")))).block();
+        downstream.tryEmitValue(account("100.00"));
+
+        assertThat(waiting.get().getBalance()).isEqualTo(Money.of("100.00"));
+        assertThat(afterChange.getBalance()).isEqualTo(Money.of("50.00"));
+        assertThat(cache.get(accountNumber, key -> load(Mono.just(account("1.00")))).block().getBalance())
+                .isEqualTo(Money.of("50.00"));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void invalidationWithoutALoadDropsTheEntry() {
+        cache.get(accountNumber, key -> load(Mono.just(account("100.00")))).block();
+        cache.invalidate(accountNumber);
+
+        AccountInfo reloaded = cache.get(accountNumber, key -> load(Mono.just(account("75.00")))).block();
+
+        assertThat(reloaded.getBalance()).isEqualTo(Money.of("75.00"));
+        assertThat(loads).hasValue(2);
+    }
+
+    private Mono<AccountInfo> load(Mono<AccountInfo> account) {
+        loads.incrementAndGet();
+        return account;
+    }
+
+    private AccountInfo account(String balance) {
+        AccountInfo account = new AccountInfo();
+        account.setAccountNumber(accountNumber);
+        account.setBalance(Money.of(balance));
+        return account;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.bankingAppService.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.bankingAppService.model.Bank;
+import com.example.bankingAppService.repository.BankRepo;
+
+class BranchIndexTests {
+
+    private final Bank andheri = new Bank(1, "State Bank Andheri", "Mumbai", "SBIN0000001");
+
+    private final Bank bandra = new Bank(2, "State Bank Bandra", "Mumbai", "SBIN0000002");
+
+    private final Bank koramangala = new Bank(3, "Canara Koramangala", "Bengaluru", "CNRB0000003");
+
+    private final BranchIndex index = new BranchIndex();
+
+    @BeforeEach
+    void load() {
+        BankRepo bankRepo = mock(BankRepo.class);
+        when(bankRepo.findAll()).thenReturn(List.of(andheri, bandra, koramangala));
+        ReflectionTestUtils.setField(index, "bankRepo", bankRepo);
+        index.reload();
+    }
+
+    @Test
+    void searchMatchesWordPrefixesOfNameAndLocationIgnoringCase() {
+        assertThat(index.search("BAN", 10)).containsExactlyInAnyOrder(andheri, bandra);
+        assertThat(index.search("band", 10)).containsExactly(bandra);
+        assertThat(index.search("  mum ", 10)).containsExactlyInAnyOrder(andheri, bandra);
+        assertThat(index.search("state bank a", 10)).containsExactly(andheri);
+    }
+
+    @Test
+    void searchReturnsEachBranchOnceUpToTheLimit() {
+        // "bandra" and "bank" both match Bandra, which is returned once
+        assertThat(index.search("b", 10)).containsExactlyInAnyOrder(andheri, bandra, koramangala);
+        assertThat(index.search("b", 2)).hasSize(2);
+    }
+
+    @Test
+    void searchWithoutMatchesOrPrefixIsEmpty() {
+        assertThat(index.search("chennai", 10)).isEmpty();
+        assertThat(index.search(" ", 10)).isEmpty();
+        assertThat(index.search(null, 10)).isEmpty();
+        assertThat(index.search("mumbai", 0)).isEmpty();
+        assertThat(index.search("zzz", 10)).isEmpty();
+    }
+
+    @Test
+    void putReplacesTheBranchWithTheSameId() {
+        Bank moved = new Bank(2, "State Bank Bandra", "Pune", "SBIN0000002");
+        index.put(moved);
+
+        assertThat(index.search("pune", 10)).containsExactly(moved);
+        assertThat(index.search("mumbai", 10)).containsExactly(andheri);
+        assertThat(index.findByIfsc("sbin0000002")).isSameAs(moved);
+        assertThat(index.all()).hasSize(3);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.bankingAppService.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.bankingAppService.response.AmortizationEntry;
+
+class EmiCalculatorTests {
+
+    private static final double PRINCIPAL = 250_000;
+
+    private final EmiCalculator calculator = new EmiCalculator();
+
+    @Test
+    void gridMatchesClosedForm() {
+        double[] rates = { 0.004, 0.0075, 0.01 };
+        int[] tenures = { 1, 12, 240, 360 };
+
+        double[][] grid = calculator.grid(PRINCIPAL, rates, tenures);
+
+        for (int i = 0; i < rates.length; i++) {
+            for (int j = 0; j < tenures.length; j++) {
+                double expected = closedForm(PRINCIPAL, rates[i], tenures[j]);
+                assertThat(grid[i][j]).isCloseTo(expected, within(expected * 1e-9));
+                assertThat(calculator.emi(PRINCIPAL, rates[i], tenures[j]))
+                        .isCloseTo(expected, within(expected * 1e-9));
+            }
+        }
+    }
+
+    @Test
+    void zeroRateSplitsPrincipalEvenly() {
+        double[][] grid = calculator.grid(PRINCIPAL, new double[] { 0 }, new int[] { 10, 100 });
+
+        assertThat(grid[0]).containsExactly(25_000, 2_500);
+        assertThat(calculator.schedule(PRINCIPAL, 0, 10))
+                .allSatisfy(entry -> assertThat(entry.interest()).isZero());
+    }
+
+    @Test
+    void scheduleRepaysPrincipalAtTheClosedFormEmi() {
+        double rate = 0.0075;
+        int tenure = 360;
+        double emi = closedForm(PRINCIPAL, rate, tenure);
+
+        List<AmortizationEntry> schedule = calculator.schedule(PRINCIPAL, rate, tenure).toList();
+
+        assertThat(schedule).hasSize(tenure);
+        assertThat(schedule).extracting(AmortizationEntry::month).startsWith(1, 2).endsWith(tenure);
+        assertThat(schedule).allSatisfy(entry -> assertThat(entry.emi()).isCloseTo(emi, within(1e-6)));
+        assertThat(schedule.stream().mapToDouble(AmortizationEntry::principal).sum())
+                .isCloseTo(PRINCIPAL, within(1e-6));
+        assertThat(schedule.get(tenure - 1).balance()).isZero();
+    }
+
+    private static double closedForm(double principal, double rate, int tenure) {
+        double power = Math.pow(1 + rate, tenure);
+        return principal * rate * power / (power - 1);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.bankingAppService.service;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.bankingAppService.request.EmiRequest;
+import com.example.bankingAppService.request.LoanSimulationRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoanSimulationServiceImplTests {
+
+    private LoanSimulationServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new LoanSimulationServiceImpl(1, 10, 1, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "maxPaths", 1000);
+        ReflectionTestUtils.setField(service, "maxLoans", 3);
+        ReflectionTestUtils.setField(service, "maxTenure", 600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.closeSimulationPool();
+    }
+
+    @Test
+    void rejectsTenuresBeyondTheEmiMaximum() {
+        assertRejected(new EmiRequest(100_000, 0.01, 601));
+        assertRejected(new EmiRequest(100_000, 0.01, 0));
+    }
+
+    @Test
+    void rejectsPrincipalsAndRatesThatAreNotFinite() {
+        assertRejected(new EmiRequest(Double.NaN, 0.01, 12));
+        assertRejected(new EmiRequest(Double.POSITIVE_INFINITY, 0.01, 12));
+        assertRejected(new EmiRequest(100_000, Double.NaN, 12));
+        assertRejected(new EmiRequest(100_000, Double.POSITIVE_INFINITY, 12));
+    }
+
+    @Test
+    void rejectsProbabilitiesThatAreNaN() {
+        List<EmiRequest> loans = List.of(new EmiRequest(100_000, 0.01, 12));
+        LoanSimulationRequest nanDefault = new LoanSimulationRequest(loans, 10, Double.NaN, 0, 0.5, 1);
+        LoanSimulationRequest nanLoss = new LoanSimulationRequest(loans, 10, 0.01, 0, Double.NaN, 1);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> service.startSimulation(nanDefault));
+        assertThatIllegalArgumentException().isThrownBy(() -> service.startSimulation(nanLoss));
+    }
+
+    @Test
+    void capsTheNumberOfLoans() {
+        List<EmiRequest> loans = Collections.nCopies(4, new EmiRequest(100_000, 0.01, 12));
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> service.startSimulation(new LoanSimulationRequest(loans, 10, 0.01, 0, 0.5, 1)));
+    }
+
+    private void assertRejected(EmiRequest loan) {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> service.startSimulation(new LoanSimulationRequest(List.of(loan), 10, 0.01, 0, 0.5, 1)));
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.serviceapp.elk.transactionService.constants.ServiceConstants;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local stand-in for the account service's withdraw and deposit endpoints.
+ * <p>
+ * It listens on the port of {@link ServiceConstants#ACCOUNT_SERVICE_BASE_URL},
+ * reads the request body and answers {@code 200} with no content after an
+ * optional fixed delay, so a transfer benchmark measures the transaction
+ * service's own work plus a known network cost. Any other path gets
+ * {@code 404}.
+ */
+final class AccountServiceStub implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Starts the stub.
+     *
+     * @param delayMillis the time each response is held back
+     */
+    AccountServiceStub(long delayMillis) throws IOException {
+        URI base = URI.create(ServiceConstants.ACCOUNT_SERVICE_BASE_URL);
+        server = HttpServer.create(new InetSocketAddress(base.getHost(), base.getPort()), 1024);
+        server.createContext(base.getPath() + "/withdraw/", exchange -> respond(exchange, delayMillis));
+        server.createContext(base.getPath() + "/depositAmount/", exchange -> respond(exchange, delayMillis));
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    private static void respond(HttpExchange exchange, long delayMillis) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            body.readAllBytes();
+            if (!"PUT".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+            exchange.sendResponseHeaders(200, -1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+}
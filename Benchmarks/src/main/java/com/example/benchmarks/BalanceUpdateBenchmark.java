@@ -0,0 +1,126 @@
+package com.example.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.example.bankCommon.model.Money;
+import com.user.bankUserService.entity.Account;
+import com.user.bankUserService.repository.AccountRepository;
+import com.user.bankUserService.request.DepositeRequest;
+import com.user.bankUserService.request.WithdrawRequest;
+import com.user.bankUserService.service.AccountService;
+import com.user.bankUserService.service.AccountServiceImpl;
+import com.user.bankUserService.service.MoneyMovementMetrics;
+import com.user.bankUserService.service.TransactionClient;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Deposits and withdrawals through {@link AccountServiceImpl} against H2.
+ * <p>
+ * Each operation reads the account, updates its balance and writes it back
+ * on a virtual thread, as in the service. The transaction record goes to a
+ * {@link TransactionClient} that completes immediately, so the transaction
+ * service is not part of the measurement. Operations pick a random account
+ * from a pre-created set; balances are large enough that withdrawals never
+ * run out of funds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BalanceUpdateBenchmark {
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = Account.class)
+    @EnableJpaRepositories(basePackageClasses = AccountRepository.class)
+    @Import({ AccountServiceImpl.class, MoneyMovementMetrics.class })
+    static class Config {
+
+        @Bean
+        TransactionClient transactionClient() {
+            return (request, idempotencyKey) -> Mono.just("saved");
+        }
+    }
+
+    @Param({ "1000" })
+    private int accounts;
+
+    private ConfigurableApplicationContext context;
+
+    private AccountService accountService;
+
+    private List<UUID> accountNumbers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start(Config.class, "accounts");
+        accountService = context.getBean(AccountService.class);
+        AccountRepository repository = context.getBean(AccountRepository.class);
+        List<Account> created = new ArrayList<>(accounts);
+        for (int i = 0; i < accounts; i++) {
+            Account account = new Account();
+            account.setAccountHolderName("Benchmark " + i);
+            account.setAccountType("Savings");
+            account.setPanCardNumber("BENCH" + i);
+            account.setAddress("Benchmark");
+            account.setBalance(Money.ofMinor(1_000_000_000_000L));
+            created.add(account);
+        }
+        accountNumbers = repository.saveAll(created).stream().map(Account::getAccountNumber).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public DepositeRequest deposit() {
+        UUID accountNumber = randomAccount();
+        DepositeRequest request = new DepositeRequest();
+        request.setAccountNumber(accountNumber);
+        request.setBalance(Money.ofMinor(10_000));
+        return accountService.updateAccountBalance(accountNumber, request);
+    }
+
+    @Benchmark
+    public WithdrawRequest withdraw() {
+        UUID accountNumber = randomAccount();
+        WithdrawRequest request = new WithdrawRequest();
+        request.setAccountNumber(accountNumber);
+        request.setBalance(Money.ofMinor(100));
+        return accountService.withdrawFromAccount(accountNumber, request);
+    }
+
+    private UUID randomAccount() {
+        return accountNumbers.get(ThreadLocalRandom.current().nextInt(accountNumbers.size()));
+    }
+}
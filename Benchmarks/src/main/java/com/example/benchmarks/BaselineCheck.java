@@ -0,0 +1,120 @@
+package com.example.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares a JMH JSON result file with a stored baseline and fails when a
+ * benchmark has regressed.
+ * <p>
+ * Results are matched on benchmark name and parameters. A throughput score
+ * regresses when it falls, and a time-per-operation score when it rises, by
+ * more than the threshold percentage. Benchmarks missing from either file
+ * are reported but do not fail the check. With {@code --update} the result
+ * file replaces the baseline instead.
+ * <p>
+ * Usage: {@code BaselineCheck <result.json> <baseline.json> [--threshold=10] [--update]}
+ */
+public final class BaselineCheck {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private BaselineCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineCheck <result.json> <baseline.json> [--threshold=10] [--update]");
+            System.exit(2);
+        }
+        Path result = Path.of(args[0]);
+        Path baseline = Path.of(args[1]);
+        double threshold = 10;
+        boolean update = false;
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].startsWith("--threshold=")) {
+                threshold = Double.parseDouble(args[i].substring("--threshold=".length()));
+            } else if (args[i].equals("--update")) {
+                update = true;
+            }
+        }
+
+        if (update) {
+            Files.createDirectories(baseline.toAbsolutePath().getParent());
+            Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline " + baseline + " updated from " + result);
+            return;
+        }
+        if (!Files.exists(baseline)) {
+            System.err.println("No baseline at " + baseline + "; record one on the reference machine with --update");
+            System.exit(2);
+        }
+        System.exit(compare(read(result), read(baseline), threshold) ? 0 : 1);
+    }
+
+    static boolean compare(Map<String, Score> results, Map<String, Score> baseline, double threshold) {
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : results.entrySet()) {
+            Score current = entry.getValue();
+            Score reference = baseline.get(entry.getKey());
+            if (reference == null) {
+                System.out.printf("NEW        %-70s %12.3f %s%n", entry.getKey(), current.value(), current.unit());
+                continue;
+            }
+            if (!reference.mode().equals(current.mode()) || !reference.unit().equals(current.unit())) {
+                System.out.printf("CHANGED    %-70s mode or unit differs from the baseline%n", entry.getKey());
+                continue;
+            }
+            double change = (current.value() - reference.value()) / reference.value() * 100;
+            // For throughput higher is better; for every other mode lower is better
+            double worse = "thrpt".equals(current.mode()) ? -change : change;
+            String status = worse > threshold ? "REGRESSED" : worse < -threshold ? "IMPROVED" : "OK";
+            if (worse > threshold) {
+                regressions++;
+            }
+            System.out.printf("%-10s %-70s %12.3f -> %12.3f %s (%+.1f%%)%n", status, entry.getKey(),
+                    reference.value(), current.value(), current.unit(), change);
+        }
+        for (String key : baseline.keySet()) {
+            if (!results.containsKey(key)) {
+                System.out.printf("MISSING    %s%n", key);
+            }
+        }
+        System.out.printf("%d of %d benchmarks regressed by more than %.1f%%%n", regressions, results.size(),
+                threshold);
+        return regressions == 0;
+    }
+
+    static Map<String, Score> read(Path file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : MAPPER.readTree(file.toFile())) {
+            JsonNode metric = run.path("primaryMetric");
+            scores.put(key(run), new Score(run.path("mode").asText(), metric.path("score").asDouble(),
+                    metric.path("scoreUnit").asText()));
+        }
+        return scores;
+    }
+
+    private static String key(JsonNode run) {
+        Map<String, String> params = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = run.path("params").fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            params.put(field.getKey(), field.getValue().asText());
+        }
+        String benchmark = run.path("benchmark").asText().replace("com.example.benchmarks.", "");
+        return params.isEmpty() ? benchmark : benchmark + params;
+    }
+
+    record Score(String mode, double value, String unit) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.elasticsearch.ReactiveElasticsearchRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.elasticsearch.ElasticsearchClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.elasticsearch.ElasticsearchRestClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.elasticsearch.ReactiveElasticsearchClientAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the small Spring contexts the service benchmarks run against.
+ * <p>
+ * A context holds only the beans under test and their repositories, backed
+ * by an in-memory H2 database whose schema Hibernate creates. None of the
+ * services' own {@code application.properties} are read, tracing and the
+ * Prometheus registry are off, and logging is limited to warnings, so the
+ * benchmarks measure the code path rather than MySQL, Elasticsearch or log
+ * output.
+ */
+final class BenchmarkContexts {
+
+    // Auto-configurations that would try to reach Elasticsearch
+    private static final List<Class<?>> ELASTICSEARCH = List.of(ElasticsearchClientAutoConfiguration.class,
+            ElasticsearchRestClientAutoConfiguration.class, ReactiveElasticsearchClientAutoConfiguration.class,
+            ElasticsearchDataAutoConfiguration.class, ElasticsearchRepositoriesAutoConfiguration.class,
+            ReactiveElasticsearchRepositoriesAutoConfiguration.class);
+
+    private BenchmarkContexts() {
+    }
+
+    /**
+     * Starts a non-web context.
+     *
+     * @param configuration the configuration class
+     * @param database      the name of the H2 database
+     * @param properties    further properties as {@code --name=value}
+     * @return the running context
+     */
+    static ConfigurableApplicationContext start(Class<?> configuration, String database, String... properties) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.config.name=benchmark",
+                "--spring.main.banner-mode=off",
+                "--logging.config=classpath:logback-benchmark.xml",
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.open-in-view=false",
+                "--management.tracing.enabled=false",
+                "--management.prometheus.metrics.export.enabled=false",
+                "--jdbc.datasource-proxy.enabled=false",
+                "--spring.autoconfigure.exclude=" + ELASTICSEARCH.stream().map(Class::getName)
+                        .collect(Collectors.joining(","))));
+        args.addAll(List.of(properties));
+        return new SpringApplicationBuilder(configuration)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.bankingAppService.service.EmiCalculator;
+
+/**
+ * EMI calculation as done by {@code BankService.calculateEmi}, and a full
+ * rate/tenure grid computed both cell by cell and with
+ * {@link EmiCalculator#grid(double, double[], int[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmiBenchmark {
+
+    private static final double PRINCIPAL = 2_500_000;
+
+    @Param({ "10", "100" })
+    private int rates;
+
+    @Param({ "360" })
+    private int tenures;
+
+    private final EmiCalculator emiCalculator = new EmiCalculator();
+
+    private double[] ratesOfInterest;
+
+    private int[] tenureMonths;
+
+    @Setup
+    public void setUp() {
+        ratesOfInterest = new double[rates];
+        for (int i = 0; i < rates; i++) {
+            ratesOfInterest[i] = (6.0 + i * 0.05) / 1200;
+        }
+        tenureMonths = new int[tenures];
+        for (int i = 0; i < tenures; i++) {
+            tenureMonths[i] = i + 1;
+        }
+    }
+
+    @Benchmark
+    public double calculateEmi() {
+        return emiCalculator.emi(PRINCIPAL, ratesOfInterest[0], tenureMonths[tenures - 1]);
+    }
+
+    @Benchmark
+    public double[][] gridCellByCell() {
+        double[][] emi = new double[rates][tenures];
+        for (int i = 0; i < rates; i++) {
+            for (int j = 0; j < tenures; j++) {
+                emi[i][j] = emiCalculator.emi(PRINCIPAL, ratesOfInterest[i], tenureMonths[j]);
+            }
+        }
+        return emi;
+    }
+
+    @Benchmark
+    public double[][] grid() {
+        return emiCalculator.grid(PRINCIPAL, ratesOfInterest, tenureMonths);
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * Inserts {@code rows} entities in one transaction with each id strategy the
+ * services have used: {@code IDENTITY}, where Hibernate must insert rows one
+ * by one to read back each key, and sequences with an allocation size of 1
+ * and of 50, the size the entities use now. JDBC batching is on with the
+ * services' batch size of 50.
+ * <p>
+ * H2 has real sequences, while on MySQL Hibernate emulates them with a table
+ * that needs its own round trip and update per allocation, so the gap
+ * between the allocation sizes is wider in production.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class IdAllocationBenchmark {
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = IdAllocationBenchmark.class)
+    static class Config {
+    }
+
+    @Entity
+    @Table(name = "identity_rows")
+    public static class IdentityRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+
+        String payload;
+
+        protected IdentityRow() {
+        }
+
+        IdentityRow(String payload) {
+            this.payload = payload;
+        }
+    }
+
+    @Entity
+    @Table(name = "sequence_rows")
+    public static class SequenceRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequence_rows_seq")
+        @SequenceGenerator(name = "sequence_rows_seq", sequenceName = "sequence_rows_seq", allocationSize = 1)
+        Long id;
+
+        String payload;
+
+        protected SequenceRow() {
+        }
+
+        SequenceRow(String payload) {
+            this.payload = payload;
+        }
+    }
+
+    @Entity
+    @Table(name = "pooled_rows")
+    public static class PooledRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_rows_seq")
+        @SequenceGenerator(name = "pooled_rows_seq", sequenceName = "pooled_rows_seq", allocationSize = 50)
+        Long id;
+
+        String payload;
+
+        protected PooledRow() {
+        }
+
+        PooledRow(String payload) {
+            this.payload = payload;
+        }
+    }
+
+    @Param({ "identity", "sequence-1", "sequence-50" })
+    private String ids;
+
+    @Param({ "500" })
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+
+    private EntityManagerFactory entityManagerFactory;
+
+    private Function<String, Object> row;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        row = switch (ids) {
+            case "identity" -> IdentityRow::new;
+            case "sequence-1" -> SequenceRow::new;
+            case "sequence-50" -> PooledRow::new;
+            default -> throw new IllegalArgumentException("Unknown id strategy " + ids);
+        };
+        context = BenchmarkContexts.start(Config.class, "id-allocation",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                "--spring.jpa.properties.hibernate.order_inserts=true");
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void insert() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            for (int i = 0; i < rows; i++) {
+                entityManager.persist(row.apply("Benchmark " + i));
+            }
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
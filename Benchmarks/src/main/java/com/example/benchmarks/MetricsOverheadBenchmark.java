@@ -0,0 +1,86 @@
+package com.example.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.user.bankUserService.service.MoneyMovementMetrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * Cost of timing an operation with {@link MoneyMovementMetrics}, compared
+ * with calling it directly.
+ * <p>
+ * The registries get the same percentiles and histogram as
+ * {@code management.metrics.distribution.*} configures for
+ * {@code bank.money.movement}, so the Prometheus case shows what the
+ * services pay per deposit or withdrawal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+    @Param({ "simple", "prometheus" })
+    private String registry;
+
+    private MoneyMovementMetrics metrics;
+
+    // A small fixed amount of work standing in for the timed operation
+    private final Supplier<Long> operation = () -> {
+        Blackhole.consumeCPU(100);
+        return 1L;
+    };
+
+    @Setup
+    public void setUp() {
+        MeterRegistry meterRegistry = "prometheus".equals(registry)
+                ? new PrometheusMeterRegistry(PrometheusConfig.DEFAULT)
+                : new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder()
+                        .percentiles(0.5, 0.99, 0.999)
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) TimeUnit.MILLISECONDS.toNanos(1))
+                        .maximumExpectedValue((double) TimeUnit.SECONDS.toNanos(30))
+                        .build()
+                        .merge(config);
+            }
+        });
+        metrics = new MoneyMovementMetrics(meterRegistry);
+    }
+
+    @Benchmark
+    public Long direct() {
+        return operation.get();
+    }
+
+    @Benchmark
+    public Long timed() {
+        return metrics.record("updateAccountBalance", operation);
+    }
+}
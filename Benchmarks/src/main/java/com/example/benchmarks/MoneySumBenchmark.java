@@ -0,0 +1,95 @@
+package com.example.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.bankCommon.model.Money;
+
+/**
+ * Summing a statement's worth of amounts held as {@link Money}, as
+ * {@code double} and as {@link BigDecimal}, sequentially and with a parallel
+ * stream. The amounts are random with whole paise, between 0.01 and 10,000.
+ * Only the {@code Money} and {@code BigDecimal} sums are exact; the
+ * {@code double} sums are here to show what exactness costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneySumBenchmark {
+
+    @Param({ "1000", "100000" })
+    private int amounts;
+
+    private List<Money> money;
+
+    private double[] doubles;
+
+    private List<BigDecimal> decimals;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        money = new ArrayList<>(amounts);
+        doubles = new double[amounts];
+        decimals = new ArrayList<>(amounts);
+        for (int i = 0; i < amounts; i++) {
+            long paise = random.nextLong(1, 1_000_001);
+            money.add(Money.ofMinor(paise));
+            doubles[i] = paise / 100.0;
+            decimals.add(BigDecimal.valueOf(paise, 2));
+        }
+    }
+
+    @Benchmark
+    public Money money() {
+        return Money.sum(money);
+    }
+
+    @Benchmark
+    public Money moneyParallel() {
+        return Money.ofMinor(money.parallelStream().mapToLong(Money::minorUnits).reduce(0L, Math::addExact));
+    }
+
+    @Benchmark
+    public double primitiveDouble() {
+        double sum = 0;
+        for (double amount : doubles) {
+            sum += amount;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double primitiveDoubleParallel() {
+        return Arrays.stream(doubles).parallel().sum();
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        return decimals.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalParallel() {
+        return decimals.parallelStream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.benchmarks;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.bankCommon.model.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.serviceapp.elk.transactionService.model.TransactionDetails;
+import com.serviceapp.elk.transactionService.model.TransactionStatus;
+import com.serviceapp.elk.transactionService.model.TransactionType;
+import com.user.bankUserService.entity.Account;
+
+/**
+ * Serialization of the {@code Account} and {@code TransactionDetails} DTOs
+ * in the two formats the services exchange: JSON, and the Smile encoding
+ * negotiated for calls between services. The mappers are built the same way
+ * as the services' own codecs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({ "json", "smile" })
+    private String format;
+
+    private ObjectMapper mapper;
+
+    private Account account;
+
+    private TransactionDetails transaction;
+
+    private byte[] accountBytes;
+
+    private byte[] transactionBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = "smile".equals(format) ? Jackson2ObjectMapperBuilder.smile().build()
+                : Jackson2ObjectMapperBuilder.json().build();
+
+        account = new Account(UUID.randomUUID(), "Benchmark Holder", "Savings", "ABCDE1234F",
+                "221B Baker Street, Mumbai", Money.of("125000.50"));
+
+        transaction = new TransactionDetails();
+        transaction.setId(42L);
+        transaction.setAccountNumber(account.getAccountNumber());
+        transaction.setTransactionType(TransactionType.DEPOSIT);
+        transaction.setTransactionDate(new Date());
+        transaction.setAmount(com.example.bankCommon.model.Money.of("2500.00"));
+        transaction.setStatus(TransactionStatus.SUCCESS);
+
+        accountBytes = mapper.writeValueAsBytes(account);
+        transactionBytes = mapper.writeValueAsBytes(transaction);
+    }
+
+    @Benchmark
+    public byte[] writeAccount() throws IOException {
+        return mapper.writeValueAsBytes(account);
+    }
+
+    @Benchmark
+    public Account readAccount() throws IOException {
+        return mapper.readValue(accountBytes, Account.class);
+    }
+
+    @Benchmark
+    public byte[] writeTransactionDetails() throws IOException {
+        return mapper.writeValueAsBytes(transaction);
+    }
+
+    @Benchmark
+    public TransactionDetails readTransactionDetails() throws IOException {
+        return mapper.readValue(transactionBytes, TransactionDetails.class);
+    }
+}
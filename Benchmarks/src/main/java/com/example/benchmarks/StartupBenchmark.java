@@ -0,0 +1,164 @@
+package com.example.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Measures time to first request: how long a service takes from process
+ * launch until a given URL first answers with a 2xx status.
+ * <p>
+ * Health checks can pass before lazily created beans exist, so the URL
+ * should be a real endpoint, for example {@code /account/getAllAccount}.
+ * Each variant is a set of JVM options and application arguments; every
+ * variant is started {@code runs} times in a fresh JVM and the process is
+ * stopped after the first successful response. The median of each variant
+ * is written in the JMH JSON format, so {@link BaselineCheck} can compare
+ * it with a baseline like the other benchmarks.
+ * <p>
+ * Usage: {@code StartupBenchmark --jar=<path> --url=<url> [--runs=5]
+ * [--dir=<working directory>] [--output=target/startup-result.json]
+ * [--variant.<name>.jvm="<options>"] [--variant.<name>.args="<arguments>"]}
+ */
+public final class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        Path jar = Path.of(required(options, "jar")).toAbsolutePath();
+        URI url = URI.create(required(options, "url"));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        Path dir = Path.of(options.getOrDefault("dir", jar.getParent().toString()));
+        Path output = Path.of(options.getOrDefault("output", "target/startup-result.json"));
+
+        Map<String, Variant> variants = new LinkedHashMap<>();
+        options.forEach((key, value) -> {
+            if (key.startsWith("variant.")) {
+                String[] parts = key.split("\\.");
+                Variant variant = variants.computeIfAbsent(parts[1], name -> new Variant(name, new String[0],
+                        new String[0]));
+                String[] values = value.isBlank() ? new String[0] : value.trim().split("\\s+");
+                variants.put(parts[1], "jvm".equals(parts[2]) ? new Variant(variant.name(), values, variant.args())
+                        : new Variant(variant.name(), variant.jvm(), values));
+            }
+        });
+        if (variants.isEmpty()) {
+            variants.put("default", new Variant("default", new String[0], new String[0]));
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (Variant variant : variants.values()) {
+            long[] millis = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                millis[i] = timeToFirstRequest(variant, jar, url, dir, output.resolveSibling(
+                        "startup-" + variant.name() + "-" + i + ".log"));
+            }
+            Arrays.sort(millis);
+            long median = millis[runs / 2];
+            System.out.printf("%-20s time to first request: median %d ms, min %d ms, max %d ms%n", variant.name(),
+                    median, millis[0], millis[runs - 1]);
+            results.add(result(variant.name(), median, millis));
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), results);
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+
+    private static long timeToFirstRequest(Variant variant, Path jar, URI url, Path dir, Path log)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(List.of(variant.jvm()));
+        command.add("-jar");
+        command.add(jar.toString());
+        command.addAll(List.of(variant.args()));
+        Files.createDirectories(log.toAbsolutePath().getParent());
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).directory(dir.toFile()).redirectErrorStream(true)
+                .redirectOutput(log.toFile()).start();
+        try {
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(variant.name() + " exited with status " + process.exitValue()
+                            + " before serving a request; see " + log);
+                }
+                if (answers(url)) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(variant.name() + " did not answer within " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static boolean answers(URI url) throws InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(30)).GET().build();
+            return HTTP.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() / 100 == 2;
+        } catch (IOException e) {
+            // Not listening yet
+            return false;
+        }
+    }
+
+    private static Map<String, Object> result(String variant, long median, long[] millis) {
+        Map<String, Object> metric = new LinkedHashMap<>();
+        metric.put("score", median);
+        metric.put("scoreUnit", "ms");
+        metric.put("rawData", List.of(Arrays.stream(millis).boxed().toList()));
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("benchmark", StartupBenchmark.class.getName() + ".timeToFirstRequest");
+        result.put("mode", "ss");
+        result.put("params", Map.of("variant", variant));
+        result.put("primaryMetric", metric);
+        return result;
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("--" + name + " is required");
+        }
+        return value;
+    }
+
+    private record Variant(String name, String[] jvm, String[] args) {
+    }
+}
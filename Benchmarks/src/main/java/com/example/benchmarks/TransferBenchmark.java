@@ -0,0 +1,99 @@
+package com.example.benchmarks;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.example.bankCommon.model.Money;
+import com.serviceapp.elk.transactionService.configuration.WebClientConfig;
+import com.serviceapp.elk.transactionService.model.TransferTransaction;
+import com.serviceapp.elk.transactionService.repo.TransactionSQLRepo;
+import com.serviceapp.elk.transactionService.service.HttpAccountClient;
+import com.serviceapp.elk.transactionService.service.MoneyMovementMetrics;
+import com.serviceapp.elk.transactionService.service.TransactionService;
+import com.serviceapp.elk.transactionService.service.TransactionServiceImpl;
+
+/**
+ * Transfers through {@link TransactionServiceImpl} with the account legs
+ * sent over HTTP to an {@link AccountServiceStub}.
+ * <p>
+ * The withdraw and deposit legs go through the service's own
+ * {@link HttpAccountClient} and WebClient configuration, with Smile or JSON
+ * bodies depending on {@code smile}, and the transfer record is written to
+ * H2. {@code stubDelayMillis} adds a fixed delay to every stub response to
+ * show how the account service's latency adds up over the two legs, which
+ * run one after the other.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TransferBenchmark {
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = TransferTransaction.class)
+    @EnableJpaRepositories(basePackageClasses = TransactionSQLRepo.class)
+    @Import({ TransactionServiceImpl.class, HttpAccountClient.class, WebClientConfig.class,
+            MoneyMovementMetrics.class })
+    static class Config {
+    }
+
+    @Param({ "true", "false" })
+    private boolean smile;
+
+    @Param({ "0", "5" })
+    private long stubDelayMillis;
+
+    private AccountServiceStub accountService;
+
+    private ConfigurableApplicationContext context;
+
+    private TransactionService transactionService;
+
+    private final UUID fromAccount = UUID.randomUUID();
+
+    private final UUID toAccount = UUID.randomUUID();
+
+    private final Money amount = Money.ofMinor(10_000);
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        accountService = new AccountServiceStub(stubDelayMillis);
+        context = BenchmarkContexts.start(Config.class, "transactions", "--inter-service.smile=" + smile);
+        transactionService = context.getBean(TransactionService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        accountService.close();
+    }
+
+    @Benchmark
+    public Object transfer() {
+        return transactionService.transfer(fromAccount, toAccount, amount, null).join();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.user.bankUserService.entity.TimeOrderedUuidGenerator;
+
+/**
+ * Batched inserts into a table keyed by a {@code BINARY(16)} account number,
+ * comparing the keys of {@link TimeOrderedUuidGenerator} with random
+ * version 4 UUIDs.
+ * <p>
+ * The table is filled with {@code existingRows} keys of the same kind before
+ * measuring, so random keys land on leaf pages all over the primary key while
+ * time-ordered keys append to its right edge. Each operation inserts one JDBC
+ * batch of {@code batchSize} rows and commits. The database is H2 rather than
+ * MySQL, so the ratio between the two kinds matters more than the absolute
+ * times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    @Param({ "time-ordered", "random" })
+    private String keys;
+
+    @Param({ "200000" })
+    private int existingRows;
+
+    @Param({ "50" })
+    private int batchSize;
+
+    private Supplier<UUID> generator;
+
+    private Connection connection;
+
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        generator = switch (keys) {
+            case "time-ordered" -> TimeOrderedUuidGenerator::next;
+            case "random" -> UUID::randomUUID;
+            default -> throw new IllegalArgumentException("Unknown key kind " + keys);
+        };
+        connection = DriverManager.getConnection("jdbc:h2:mem:uuid-inserts", "sa", "");
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE accounts (account_number BINARY(16) PRIMARY KEY, "
+                    + "account_holder_name VARCHAR(255))");
+        }
+        insert = connection.prepareStatement("INSERT INTO accounts VALUES (?, ?)");
+        for (int rows = 0; rows < existingRows; rows += batchSize) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        // The in-memory database goes away with its last connection
+        connection.close();
+    }
+
+    @Benchmark
+    public int[] insertBatch() throws SQLException {
+        for (int i = 0; i < batchSize; i++) {
+            insert.setBytes(1, toBytes(generator.get()));
+            insert.setString(2, "Benchmark");
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
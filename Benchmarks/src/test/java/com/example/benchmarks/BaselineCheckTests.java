@@ -0,0 +1,83 @@
+package com.example.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.benchmarks.BaselineCheck.Score;
+
+class BaselineCheckTests {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsScoresKeyedByBenchmarkAndSortedParameters() throws IOException {
+        Path file = dir.resolve("result.json");
+        Files.writeString(file, """
+                [
+                  {
+                    "benchmark": "com.example.benchmarks.EmiBenchmark.emi",
+                    "mode": "thrpt",
+                    "params": { "tenure": "12", "rate": "7.5" },
+                    "primaryMetric": { "score": 1500.5, "scoreUnit": "ops/ms" }
+                  },
+                  {
+                    "benchmark": "com.example.benchmarks.TransferBenchmark.transfer",
+                    "mode": "avgt",
+                    "primaryMetric": { "score": 2.25, "scoreUnit": "ms/op" }
+                  }
+                ]
+                """);
+
+        Map<String, Score> scores = BaselineCheck.read(file);
+
+        assertThat(scores).containsOnlyKeys("EmiBenchmark.emi{rate=7.5, tenure=12}", "TransferBenchmark.transfer");
+        assertThat(scores.get("EmiBenchmark.emi{rate=7.5, tenure=12}")).isEqualTo(new Score("thrpt", 1500.5, "ops/ms"));
+        assertThat(scores.get("TransferBenchmark.transfer")).isEqualTo(new Score("avgt", 2.25, "ms/op"));
+    }
+
+    @Test
+    void passesWithinTheThreshold() {
+        assertThat(BaselineCheck.compare(Map.of("a", thrpt(95)), Map.of("a", thrpt(100)), 10)).isTrue();
+        assertThat(BaselineCheck.compare(Map.of("a", avgt(1.09)), Map.of("a", avgt(1.0)), 10)).isTrue();
+    }
+
+    @Test
+    void failsWhenThroughputFallsBeyondTheThreshold() {
+        assertThat(BaselineCheck.compare(Map.of("a", thrpt(85)), Map.of("a", thrpt(100)), 10)).isFalse();
+    }
+
+    @Test
+    void failsWhenTimePerOperationRisesBeyondTheThreshold() {
+        assertThat(BaselineCheck.compare(Map.of("a", avgt(1.2)), Map.of("a", avgt(1.0)), 10)).isFalse();
+    }
+
+    @Test
+    void improvementsPass() {
+        assertThat(BaselineCheck.compare(Map.of("a", thrpt(200)), Map.of("a", thrpt(100)), 10)).isTrue();
+        assertThat(BaselineCheck.compare(Map.of("a", avgt(0.5)), Map.of("a", avgt(1.0)), 10)).isTrue();
+    }
+
+    @Test
+    void newMissingAndChangedBenchmarksDoNotFail() {
+        Map<String, Score> results = Map.of("new", thrpt(1), "changed", avgt(50));
+        Map<String, Score> baseline = Map.of("missing", thrpt(100), "changed", thrpt(100));
+
+        assertThat(BaselineCheck.compare(results, baseline, 10)).isTrue();
+    }
+
+    private static Score thrpt(double value) {
+        return new Score("thrpt", value, "ops/ms");
+    }
+
+    private static Score avgt(double value) {
+        return new Score("avgt", value, "ms/op");
+    }
+}
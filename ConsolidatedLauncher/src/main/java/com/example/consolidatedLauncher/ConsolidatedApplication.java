@@ -0,0 +1,83 @@
+package com.example.consolidatedLauncher;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.bankingAppService.BankingAppServiceApplication;
+import com.serviceapp.elk.transactionService.TransactionServiceApplication;
+import com.serviceapp.elk.transactionService.controller.TransactionController;
+import com.serviceapp.elk.transactionService.service.AccountClient;
+import com.user.bankUserService.BankUserServiceApplication;
+import com.user.bankUserService.controller.AccountController;
+import com.user.bankUserService.service.TransactionClient;
+
+/**
+ * Runs BankUserService, TransactionService and BankingAppService in one JVM.
+ * <p>
+ * Each service keeps its own application context, web server, data source and
+ * configuration, read from {@code bank-user-service.properties},
+ * {@code transaction-service.properties} and
+ * {@code banking-app-service.properties}. Those set
+ * {@code deployment.mode=consolidated}, which switches off the HTTP clients
+ * between the account and transaction services; the in-process clients
+ * registered here take their place and call the other service's controller
+ * bean directly. The two services depend on each other, so each client looks
+ * the other context up when it is first used rather than at startup.
+ * BankingAppService still reaches the others through their HTTP endpoints on
+ * the loopback interface.
+ */
+public class ConsolidatedApplication {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConsolidatedApplication.class);
+
+    public static void main(String[] args) {
+        start(args);
+        logger.info("All services started in consolidated mode");
+    }
+
+    /**
+     * Starts the three services.
+     *
+     * @param args the command line arguments, passed to every service
+     * @return the application contexts of BankUserService,
+     *         TransactionService and BankingAppService
+     */
+    public static List<ConfigurableApplicationContext> start(String... args) {
+        AtomicReference<ConfigurableApplicationContext> bankUserContext = new AtomicReference<>();
+        AtomicReference<ConfigurableApplicationContext> transactionContext = new AtomicReference<>();
+
+        bankUserContext.set(new SpringApplicationBuilder(BankUserServiceApplication.class)
+                .properties("spring.config.name=bank-user-service")
+                .initializers(context -> context.getBeanFactory().registerSingleton("transactionClient",
+                        (TransactionClient) new InProcessTransactionClient(
+                                () -> bean(transactionContext, TransactionController.class))))
+                .run(args));
+
+        transactionContext.set(new SpringApplicationBuilder(TransactionServiceApplication.class)
+                .properties("spring.config.name=transaction-service")
+                .initializers(context -> context.getBeanFactory().registerSingleton("accountClient",
+                        (AccountClient) new InProcessAccountClient(
+                                () -> bean(bankUserContext, AccountController.class))))
+                .run(args));
+
+        ConfigurableApplicationContext bankingAppContext = new SpringApplicationBuilder(
+                BankingAppServiceApplication.class)
+                .properties("spring.config.name=banking-app-service")
+                .run(args);
+
+        return List.of(bankUserContext.get(), transactionContext.get(), bankingAppContext);
+    }
+
+    private static <T> T bean(AtomicReference<ConfigurableApplicationContext> context, Class<T> type) {
+        ConfigurableApplicationContext applicationContext = context.get();
+        if (applicationContext == null) {
+            throw new IllegalStateException(type.getSimpleName() + " is not available until its service has started");
+        }
+        return applicationContext.getBean(type);
+    }
+}
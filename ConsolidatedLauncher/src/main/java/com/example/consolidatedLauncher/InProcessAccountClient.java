@@ -0,0 +1,69 @@
+package com.example.consolidatedLauncher;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.serviceapp.elk.transactionService.request.AccountDetails;
+import com.serviceapp.elk.transactionService.request.DepositeRequest;
+import com.serviceapp.elk.transactionService.request.WithdrawRequest;
+import com.serviceapp.elk.transactionService.service.AccountClient;
+import com.user.bankUserService.controller.AccountController;
+import com.user.bankUserService.entity.Account;
+
+/**
+ * {@link AccountClient} that calls the account service's controller bean in
+ * the same JVM. Going through the controller keeps its idempotency handling
+ * and circuit breaker; only the HTTP round trip and the JSON encoding are
+ * skipped. Failures surface as exceptions carrying the response status, as
+ * they do over HTTP.
+ */
+public class InProcessAccountClient implements AccountClient {
+
+    private final Supplier<AccountController> accountController;
+
+    public InProcessAccountClient(Supplier<AccountController> accountController) {
+        this.accountController = accountController;
+    }
+
+    @Override
+    public void withdraw(UUID accountNumber, WithdrawRequest request, String idempotencyKey) {
+        com.user.bankUserService.request.WithdrawRequest withdrawRequest =
+                new com.user.bankUserService.request.WithdrawRequest();
+        withdrawRequest.setAccountNumber(request.getAccountNumber());
+        withdrawRequest.setBalance(request.getBalance());
+        check(accountController.get().withdrawFromAccount(accountNumber, idempotencyKey, withdrawRequest),
+                "Withdrawal", accountNumber);
+    }
+
+    @Override
+    public void deposit(UUID accountNumber, DepositeRequest request, String idempotencyKey) {
+        com.user.bankUserService.request.DepositeRequest depositRequest =
+                new com.user.bankUserService.request.DepositeRequest();
+        depositRequest.setAccountNumber(request.getAccountNumber());
+        depositRequest.setBalance(request.getBalance());
+        check(accountController.get().updateAccountBalance(accountNumber, idempotencyKey, depositRequest),
+                "Deposit", accountNumber);
+    }
+
+    @Override
+    public List<AccountDetails> getAccounts(List<UUID> accountNumbers) {
+        ResponseEntity<List<Account>> response = accountController.get().getAccountsByIds(accountNumbers);
+        check(response, "Account lookup", accountNumbers);
+        return response.getBody().stream()
+                .map(account -> new AccountDetails(account.getAccountNumber().toString(), account.getBalance()))
+                .toList();
+    }
+
+    private static void check(ResponseEntity<?> response, String operation, Object target) {
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            // The controller's fallbacks answer with an error message in place of the declared body.
+            // The status is kept, so a refused leg is told apart from an outage as it is over HTTP.
+            throw new ResponseStatusException(response.getStatusCode(),
+                    operation + " failed for " + target + ": " + response.getBody());
+        }
+    }
+}
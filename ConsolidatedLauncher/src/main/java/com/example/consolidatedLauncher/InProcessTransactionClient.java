@@ -0,0 +1,51 @@
+package com.example.consolidatedLauncher;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.ResponseEntity;
+
+import com.serviceapp.elk.transactionService.controller.TransactionController;
+import com.serviceapp.elk.transactionService.model.TransactionDetails;
+import com.serviceapp.elk.transactionService.model.TransactionStatus;
+import com.serviceapp.elk.transactionService.model.TransactionType;
+import com.user.bankUserService.request.TransactionRequest;
+import com.user.bankUserService.service.TransactionClient;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * {@link TransactionClient} that calls the transaction service's controller
+ * bean in the same JVM. The save is a blocking JPA call, so it runs on the
+ * bounded elastic scheduler like any other blocking work behind a Mono.
+ */
+public class InProcessTransactionClient implements TransactionClient {
+
+    private final Supplier<TransactionController> transactionController;
+
+    public InProcessTransactionClient(Supplier<TransactionController> transactionController) {
+        this.transactionController = transactionController;
+    }
+
+    @Override
+    public Mono<String> saveTransaction(TransactionRequest transactionRequest, String idempotencyKey) {
+        return Mono.fromCallable(() -> {
+            TransactionDetails transactionDetails = new TransactionDetails();
+            transactionDetails.setAccountNumber(transactionRequest.getAccountNumber());
+            transactionDetails.setTransactionType(transactionRequest.getTransactionType() == null ? null
+                    : TransactionType.fromLabel(transactionRequest.getTransactionType()));
+            transactionDetails.setTransactionDate(transactionRequest.getTransactionDate());
+            transactionDetails.setAmount(transactionRequest.getAmount());
+            transactionDetails.setStatus(transactionRequest.getStatus() == null ? null
+                    : TransactionStatus.fromLabel(transactionRequest.getStatus()));
+
+            ResponseEntity<String> response = transactionController.get().saveTransaction(idempotencyKey,
+                    transactionDetails);
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                throw new IllegalStateException("Saving transaction for " + transactionRequest.getAccountNumber()
+                        + " failed with status " + response.getStatusCode().value() + ": " + response.getBody());
+            }
+            return response.getBody();
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+}
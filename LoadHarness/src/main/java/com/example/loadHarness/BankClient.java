@@ -0,0 +1,148 @@
+package com.example.loadHarness;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Sends the harness's requests to the services' public endpoints as JSON,
+ * the way an external client would.
+ */
+final class BankClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient httpClient;
+
+    private final HarnessOptions options;
+
+    BankClient(HarnessOptions options, ExecutorService executor) {
+        this.options = options;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * Creates an account to run the load against.
+     *
+     * @param name         the holder name
+     * @param balanceMinor the opening balance in minor units
+     * @return the account number
+     */
+    UUID createAccount(String name, long balanceMinor) throws IOException, InterruptedException {
+        HttpResponse<String> response = send("POST", options.userServiceUrl() + "/account/create",
+                Map.of("accountHolderName", name, "accountType", "Savings", "panCardNumber", "LOAD" + name,
+                        "address", "Load test", "balance", BigDecimal.valueOf(balanceMinor, 2)));
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Account creation failed with status " + response.statusCode());
+        }
+        JsonNode account = objectMapper.readTree(response.body());
+        return UUID.fromString(account.path("accountNumber").asText());
+    }
+
+    /**
+     * Sends one request of the given operation.
+     *
+     * @return the HTTP status
+     */
+    int send(Operation operation, UUID account, UUID otherAccount, long amountMinor)
+            throws IOException, InterruptedException {
+        BigDecimal amount = BigDecimal.valueOf(amountMinor, 2);
+        HttpResponse<String> response = switch (operation) {
+            case DEPOSIT -> send("PUT", options.bankingAppUrl() + "/api/bank/depositAmount",
+                    Map.of("accountNumber", account, "balance", amount));
+            case WITHDRAW -> send("PUT", options.bankingAppUrl() + "/api/bank/withdrawAmount",
+                    Map.of("accountNumber", account, "balance", amount));
+            case TRANSFER -> send("PUT", options.transactionUrl() + "/api/transaction/transfer",
+                    Map.of("fromAccount", account, "toAccount", otherAccount, "amount", amount));
+            case HISTORY -> send("GET", options.transactionUrl() + "/api/transaction/history/" + account, null);
+            case ACCOUNT -> send("GET", options.bankingAppUrl() + "/api/bank/getAccountById/" + account, null);
+            case EMI -> send("POST", options.bankingAppUrl() + "/api/bank/calculate-emi",
+                    Map.of("principal", amountMinor * 100.0, "rateOfInterest", 0.0075, "tenure", 240));
+            case BRANCHES -> send("GET", options.bankingAppUrl() + "/api/bank/getAllBranches", null);
+        };
+        return response.statusCode();
+    }
+
+    /**
+     * Reads a gauge from a service's metrics endpoint.
+     *
+     * @return the gauge value, or NaN if it is not available
+     */
+    double gauge(String baseUrl, String name) {
+        try {
+            HttpResponse<String> response = send("GET", baseUrl + "/actuator/metrics/" + name, null);
+            if (response.statusCode() != 200) {
+                return Double.NaN;
+            }
+            return objectMapper.readTree(response.body()).path("measurements").path(0).path("value").asDouble();
+        } catch (IOException e) {
+            return Double.NaN;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Hibernate cache counters of BankingAppService since it started.
+     *
+     * @param hits            second-level and query cache hits
+     * @param misses          second-level and query cache misses
+     * @param queryExecutions queries that reached the database
+     */
+    record CacheCounters(long hits, long misses, long queryExecutions) {
+    }
+
+    /**
+     * Reads the Hibernate cache counters from {@code /api/bank/cache/stats}.
+     *
+     * @return the counters, or null if they are not available
+     */
+    CacheCounters cacheCounters() {
+        try {
+            HttpResponse<String> response = send("GET", options.bankingAppUrl() + "/api/bank/cache/stats", null);
+            if (response.statusCode() != 200) {
+                return null;
+            }
+            JsonNode stats = objectMapper.readTree(response.body());
+            return new CacheCounters(
+                    stats.path("secondLevelCacheHits").asLong() + stats.path("queryCacheHits").asLong(),
+                    stats.path("secondLevelCacheMisses").asLong() + stats.path("queryCacheMisses").asLong(),
+                    stats.path("queryExecutions").asLong());
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private HttpResponse<String> send(String method, String url, Object body)
+            throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = body == null ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .method(method, publisher)
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
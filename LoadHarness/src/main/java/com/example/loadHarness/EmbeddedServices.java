@@ -0,0 +1,98 @@
+package com.example.loadHarness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.elasticsearch.ReactiveElasticsearchRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.elasticsearch.ElasticsearchClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.elasticsearch.ElasticsearchRestClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.elasticsearch.ReactiveElasticsearchClientAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.bankingAppService.BankingAppServiceApplication;
+import com.example.consolidatedLauncher.ConsolidatedApplication;
+import com.serviceapp.elk.transactionService.TransactionServiceApplication;
+import com.user.bankUserService.BankUserServiceApplication;
+
+/**
+ * The three services started inside the harness JVM on their usual ports,
+ * each with its own in-memory H2 database instead of MySQL and without
+ * Elasticsearch.
+ * <p>
+ * The services read the per-service configuration files of
+ * ConsolidatedLauncher. In {@code embedded} mode {@code deployment.mode} is
+ * overridden to {@code standalone}, so the account and transaction services
+ * call each other over HTTP as they do in production; in
+ * {@code consolidated} mode they are started by
+ * {@link ConsolidatedApplication} and call each other in process. Running
+ * the same load against both shows what the HTTP hop costs.
+ */
+final class EmbeddedServices implements AutoCloseable {
+
+    private static final String ELASTICSEARCH = Stream.of(ElasticsearchClientAutoConfiguration.class,
+            ElasticsearchRestClientAutoConfiguration.class, ReactiveElasticsearchClientAutoConfiguration.class,
+            ElasticsearchDataAutoConfiguration.class, ElasticsearchRepositoriesAutoConfiguration.class,
+            ReactiveElasticsearchRepositoriesAutoConfiguration.class)
+            .map(Class::getName)
+            .collect(Collectors.joining(","));
+
+    private static final List<String> OVERRIDES = List.of(
+            "--spring.datasource.url=jdbc:h2:mem:${spring.application.name};MODE=MySQL;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.flyway.enabled=false",
+            "--spring.jpa.show-sql=false",
+            "--spring.autoconfigure.exclude=" + ELASTICSEARCH,
+            "--tracing.file.enabled=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.user=WARN",
+            "--logging.level.com.serviceapp=WARN",
+            "--logging.level.com.example=WARN");
+
+    private final List<ConfigurableApplicationContext> contexts;
+
+    private EmbeddedServices(List<ConfigurableApplicationContext> contexts) {
+        this.contexts = contexts;
+    }
+
+    /**
+     * Starts the services.
+     *
+     * @param consolidated whether the account and transaction services call
+     *                     each other in process
+     * @param extraArgs    further arguments for every service; they take
+     *                     precedence over the H2 settings
+     */
+    static EmbeddedServices start(boolean consolidated, String... extraArgs) {
+        List<String> args = new ArrayList<>(OVERRIDES);
+        args.addAll(List.of(extraArgs));
+        if (consolidated) {
+            return new EmbeddedServices(ConsolidatedApplication.start(args.toArray(String[]::new)));
+        }
+        args.add("--deployment.mode=standalone");
+        String[] serviceArgs = args.toArray(String[]::new);
+        List<ConfigurableApplicationContext> contexts = new ArrayList<>(3);
+        contexts.add(new SpringApplicationBuilder(BankUserServiceApplication.class)
+                .properties("spring.config.name=bank-user-service")
+                .run(serviceArgs));
+        contexts.add(new SpringApplicationBuilder(TransactionServiceApplication.class)
+                .properties("spring.config.name=transaction-service")
+                .run(serviceArgs));
+        contexts.add(new SpringApplicationBuilder(BankingAppServiceApplication.class)
+                .properties("spring.config.name=banking-app-service")
+                .run(serviceArgs));
+        return new EmbeddedServices(contexts);
+    }
+
+    @Override
+    public void close() {
+        contexts.reversed().forEach(ConfigurableApplicationContext::close);
+    }
+}
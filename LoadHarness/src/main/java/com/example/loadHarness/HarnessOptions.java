@@ -0,0 +1,83 @@
+package com.example.loadHarness;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Settings of one load test run, read from {@code --name=value} arguments.
+ * Arguments the harness does not know are passed on to the services it
+ * starts.
+ *
+ * @param target         {@code embedded} to start the services with HTTP
+ *                       calls between them, {@code consolidated} to start
+ *                       them in one JVM with in-process calls, or
+ *                       {@code external} to drive services already running
+ * @param userServiceUrl base URL of BankUserService
+ * @param transactionUrl base URL of TransactionService
+ * @param bankingAppUrl  base URL of BankingAppService
+ * @param rates          offered request rates per second, one step each, in
+ *                       increasing order
+ * @param step           the length of each step
+ * @param warmup         the length of the unrecorded warmup at the first rate
+ * @param accounts       the number of accounts created before the run
+ * @param mix            the relative weight of each operation
+ * @param sloP99         the 99th percentile response time a step must stay
+ *                       within to count as sustained
+ * @param maxOutstanding the number of requests that may be in flight before
+ *                       new ones are dropped
+ * @param seed           the seed for operation and account choice
+ * @param reportDir      the directory the report is written to
+ * @param serviceArgs    arguments passed on to embedded services
+ */
+record HarnessOptions(String target, String userServiceUrl, String transactionUrl, String bankingAppUrl,
+        double[] rates, Duration step, Duration warmup, int accounts, Map<Operation, Integer> mix,
+        Duration sloP99, int maxOutstanding, long seed, Path reportDir, String[] serviceArgs) {
+
+    static HarnessOptions parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        String[] serviceArgs = Arrays.stream(args).filter(arg -> {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith("--harness.") && separator > 0) {
+                options.put(arg.substring("--harness.".length(), separator), arg.substring(separator + 1));
+                return false;
+            }
+            return true;
+        }).toArray(String[]::new);
+
+        return new HarnessOptions(
+                options.getOrDefault("target", "embedded"),
+                options.getOrDefault("user-service-url", "http://localhost:9097"),
+                options.getOrDefault("transaction-service-url", "http://localhost:9098"),
+                options.getOrDefault("banking-app-service-url", "http://localhost:9099"),
+                Arrays.stream(options.getOrDefault("rates", "25,50,100,200,400,800").split(","))
+                        .mapToDouble(Double::parseDouble).sorted().toArray(),
+                duration(options.getOrDefault("step", "30s")),
+                duration(options.getOrDefault("warmup", "20s")),
+                Integer.parseInt(options.getOrDefault("accounts", "200")),
+                mix(options.getOrDefault("mix", "deposit=25,withdraw=15,transfer=15,history=20,account=15,emi=10,branches=5")),
+                duration(options.getOrDefault("slo-p99", "500ms")),
+                Integer.parseInt(options.getOrDefault("max-outstanding", "5000")),
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                Path.of(options.getOrDefault("report-dir", "target/load-report")),
+                serviceArgs);
+    }
+
+    private static Duration duration(String value) {
+        return DurationStyle.detectAndParse(value);
+    }
+
+    private static Map<Operation, Integer> mix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split("=");
+            mix.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.loadHarness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Drives an open-model traffic mix of deposits, withdrawals, transfers,
+ * history reads, account reads, EMI quotes and branch listings against the
+ * banking services at increasing rates, and reports the throughput at which they saturate.
+ * <p>
+ * Unless {@code --harness.target=external}, the services are started in
+ * this JVM against in-memory H2 databases, so no MySQL or Elasticsearch is
+ * needed. Accounts are created first, an unrecorded warmup runs at the
+ * first rate, and then each rate runs for one step. The ramp stops after
+ * two steps in a row are not sustained. See {@link HarnessOptions} for the
+ * settings.
+ */
+public class LoadHarnessApplication {
+
+    private static final long OPENING_BALANCE_MINOR = 100_000_000_000L;
+
+    public static void main(String[] args) throws Exception {
+        HarnessOptions options = HarnessOptions.parse(args);
+        EmbeddedServices services = switch (options.target()) {
+            case "embedded" -> EmbeddedServices.start(false, options.serviceArgs());
+            case "consolidated" -> EmbeddedServices.start(true, options.serviceArgs());
+            case "external" -> null;
+            default -> throw new IllegalArgumentException("Unknown target: " + options.target());
+        };
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            BankClient client = new BankClient(options, executor);
+            List<UUID> accounts = new ArrayList<>(options.accounts());
+            for (int i = 0; i < options.accounts(); i++) {
+                accounts.add(client.createAccount("load-" + i, OPENING_BALANCE_MINOR));
+            }
+            System.out.printf("Created %d accounts against %s services%n", accounts.size(), options.target());
+
+            OpenLoadGenerator generator = new OpenLoadGenerator(client, executor, accounts, options);
+            if (!options.warmup().isZero()) {
+                generator.run(options.rates()[0], options.warmup());
+            }
+
+            LoadReport report = new LoadReport(options);
+            int unsustained = 0;
+            for (double rate : options.rates()) {
+                BankClient.CacheCounters cacheBefore = client.cacheCounters();
+                OpenLoadGenerator.Step step = generator.run(rate, options.step());
+                double hitRatio = client.gauge(options.bankingAppUrl(), "bank.account.lookup.hit.ratio");
+                unsustained = report.add(step, hitRatio, cacheBefore, client.cacheCounters()) ? 0
+                        : unsustained + 1;
+                if (unsustained == 2) {
+                    break;
+                }
+            }
+            report.finish();
+        } finally {
+            if (services != null) {
+                services.close();
+            }
+        }
+    }
+}
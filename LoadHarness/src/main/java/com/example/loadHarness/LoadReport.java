@@ -0,0 +1,154 @@
+package com.example.loadHarness;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Summarises the steps of a run and finds the saturation knee.
+ * <p>
+ * A step is sustained when the services kept up with the offered rate
+ * (throughput within 5% of it), less than 1% of requests failed or were
+ * dropped, and the 99th percentile response time stayed within the SLO.
+ * Each step also reports the account lookup cache hit ratio, and the
+ * Hibernate cache hit ratio and database query count of BankingAppService
+ * during the step, taken from {@code /api/bank/cache/stats}.
+ * The knee is the last sustained step before the first one that is not:
+ * beyond it, extra load only builds queues. The report is printed and
+ * written to {@code report.json}, and the full response-time distribution
+ * of every step is written as an HdrHistogram {@code .hgrm} file for
+ * plotting.
+ */
+final class LoadReport {
+
+    private static final double THROUGHPUT_TOLERANCE = 0.05;
+
+    private static final double MAX_FAILURE_RATIO = 0.01;
+
+    private final HarnessOptions options;
+
+    private final List<StepSummary> steps = new ArrayList<>();
+
+    /**
+     * One step of the report. Latencies are in milliseconds.
+     */
+    record StepSummary(double offeredRate, double throughput, long requests, long errors, long dropped,
+            double p50, double p90, double p99, double p999, double max, double serviceTimeP99,
+            Map<String, Double> p99ByOperation, double accountLookupHitRatio, double hibernateCacheHitRatio,
+            long bankQueryExecutions, boolean sustained) {
+    }
+
+    LoadReport(HarnessOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Adds a step and writes its distribution.
+     *
+     * @param cacheBefore the Hibernate cache counters before the step, or null
+     * @param cacheAfter  the Hibernate cache counters after the step, or null
+     * @return whether the step was sustained
+     */
+    boolean add(OpenLoadGenerator.Step step, double accountLookupHitRatio, BankClient.CacheCounters cacheBefore,
+            BankClient.CacheCounters cacheAfter) throws IOException {
+        Histogram response = step.responseTime;
+        Map<String, Double> p99ByOperation = new LinkedHashMap<>();
+        step.responseTimeByOperation.forEach((operation, histogram) -> {
+            if (histogram.getTotalCount() > 0) {
+                p99ByOperation.put(operation.name().toLowerCase(), millis(histogram.getValueAtPercentile(99)));
+            }
+        });
+        double p99 = millis(response.getValueAtPercentile(99));
+        boolean sustained = step.throughput() >= step.offeredRate * (1 - THROUGHPUT_TOLERANCE)
+                && step.failureRatio() < MAX_FAILURE_RATIO
+                && p99 <= options.sloP99().toNanos() / 1e6;
+        double hibernateCacheHitRatio = Double.NaN;
+        long bankQueryExecutions = -1;
+        if (cacheBefore != null && cacheAfter != null) {
+            long hits = cacheAfter.hits() - cacheBefore.hits();
+            long lookups = hits + cacheAfter.misses() - cacheBefore.misses();
+            hibernateCacheHitRatio = lookups == 0 ? Double.NaN : (double) hits / lookups;
+            bankQueryExecutions = cacheAfter.queryExecutions() - cacheBefore.queryExecutions();
+        }
+        StepSummary summary = new StepSummary(step.offeredRate, step.throughput(), response.getTotalCount(),
+                step.errors.sum(), step.dropped.sum(), millis(response.getValueAtPercentile(50)),
+                millis(response.getValueAtPercentile(90)), p99, millis(response.getValueAtPercentile(99.9)),
+                millis(response.getMaxValue()), millis(step.serviceTime.getValueAtPercentile(99)), p99ByOperation,
+                accountLookupHitRatio, hibernateCacheHitRatio, bankQueryExecutions, sustained);
+        steps.add(summary);
+
+        Files.createDirectories(options.reportDir());
+        try (PrintStream out = new PrintStream(
+                Files.newOutputStream(options.reportDir().resolve("step-" + (long) step.offeredRate + ".hgrm")))) {
+            response.outputPercentileDistribution(out, 1000.0);
+        }
+        print(summary);
+        return sustained;
+    }
+
+    /**
+     * The last sustained step before the first unsustained one, or null if
+     * the first step was already unsustained.
+     */
+    StepSummary knee() {
+        StepSummary knee = null;
+        for (StepSummary step : steps) {
+            if (!step.sustained()) {
+                break;
+            }
+            knee = step;
+        }
+        return knee;
+    }
+
+    /**
+     * Prints the knee and writes {@code report.json}.
+     */
+    void finish() throws IOException {
+        StepSummary knee = knee();
+        if (knee == null) {
+            System.out.println("No step was sustained; lower the first rate");
+        } else if (knee == steps.get(steps.size() - 1)) {
+            System.out.printf("Every step was sustained up to %.0f req/s; raise the rates to find the knee%n",
+                    knee.offeredRate());
+        } else {
+            System.out.printf("Saturation knee: %.0f req/s offered, %.1f req/s achieved, p99 %.1f ms%n",
+                    knee.offeredRate(), knee.throughput(), knee.p99());
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("target", options.target());
+        report.put("stepSeconds", options.step().toSeconds());
+        report.put("sloP99Millis", options.sloP99().toMillis());
+        report.put("mix", options.mix());
+        report.put("steps", steps);
+        report.put("knee", knee);
+        Path file = options.reportDir().resolve("report.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        System.out.println("Report written to " + file.toAbsolutePath());
+    }
+
+    private static void print(StepSummary step) {
+        System.out.printf("%8.0f req/s offered %8.1f achieved | p50 %7.1f p99 %7.1f p99.9 %7.1f max %7.1f ms"
+                + " | service p99 %7.1f ms | errors %d dropped %d | hit ratio %.2f"
+                + " | hibernate hit ratio %.2f, %d bank queries | %s%n",
+                step.offeredRate(), step.throughput(), step.p50(), step.p99(), step.p999(), step.max(),
+                step.serviceTimeP99(), step.errors(), step.dropped(), step.accountLookupHitRatio(),
+                step.hibernateCacheHitRatio(), step.bankQueryExecutions(),
+                step.sustained() ? "sustained" : "NOT sustained");
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
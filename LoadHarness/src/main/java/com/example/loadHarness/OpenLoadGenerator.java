@@ -0,0 +1,190 @@
+package com.example.loadHarness;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Sends requests at a fixed average rate regardless of how fast the
+ * services answer.
+ * <p>
+ * Arrivals follow a Poisson process: each request is given an intended
+ * start time drawn from exponential gaps, and a dispatcher thread hands it
+ * to a virtual thread when that time comes without waiting for earlier
+ * requests to finish. Response time is measured from the intended start,
+ * not from when the request was actually sent, so a stall in the services
+ * or in the harness itself shows up in the latency of every request that
+ * should have been sent during it instead of being hidden (coordinated
+ * omission). Service time, measured from the actual send, is kept
+ * separately for comparison. When {@code maxOutstanding} requests are
+ * already in flight, further requests are dropped and counted.
+ */
+final class OpenLoadGenerator {
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final BankClient client;
+
+    private final ExecutorService executor;
+
+    private final List<UUID> accounts;
+
+    private final Map<Operation, Integer> mix;
+
+    private final int totalWeight;
+
+    private final Semaphore outstanding;
+
+    private final int maxOutstanding;
+
+    private final SplittableRandom random;
+
+    OpenLoadGenerator(BankClient client, ExecutorService executor, List<UUID> accounts, HarnessOptions options) {
+        this.client = client;
+        this.executor = executor;
+        this.accounts = accounts;
+        this.mix = options.mix();
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        this.maxOutstanding = options.maxOutstanding();
+        this.outstanding = new Semaphore(maxOutstanding);
+        this.random = new SplittableRandom(options.seed());
+    }
+
+    /**
+     * Runs one step and waits for its requests to finish.
+     *
+     * @param rate     the offered rate in requests per second
+     * @param duration the length of the step
+     * @return the measurements of the step
+     */
+    Step run(double rate, Duration duration) throws InterruptedException {
+        Step step = new Step(rate, duration);
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        step.startNanos = start;
+        step.endNanos = end;
+
+        long intended = start;
+        while (intended < end) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!outstanding.tryAcquire()) {
+                step.dropped.increment();
+            } else {
+                Operation operation = pick();
+                UUID account = accounts.get(random.nextInt(accounts.size()));
+                UUID otherAccount = accounts.get(random.nextInt(accounts.size()));
+                long amountMinor = 100 + random.nextLong(10_000);
+                long scheduledAt = intended;
+                executor.execute(() -> send(step, operation, account, otherAccount, amountMinor, scheduledAt));
+            }
+            intended += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+        }
+
+        // Let the requests of this step finish before the next one starts
+        outstanding.acquire(maxOutstanding);
+        outstanding.release(maxOutstanding);
+        return step;
+    }
+
+    private void send(Step step, Operation operation, UUID account, UUID otherAccount, long amountMinor,
+            long scheduledAt) {
+        long sentAt = System.nanoTime();
+        boolean ok = false;
+        try {
+            ok = client.send(operation, account, otherAccount, amountMinor) / 100 == 2;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Connection failures and timeouts count as errors
+        } finally {
+            long completedAt = System.nanoTime();
+            step.record(operation, ok, completedAt - scheduledAt, completedAt - sentAt, completedAt);
+            outstanding.release();
+        }
+    }
+
+    private Operation pick() {
+        int value = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty traffic mix");
+    }
+
+    /**
+     * Measurements of one step. Histograms are in microseconds.
+     */
+    static final class Step {
+
+        final double offeredRate;
+        final Duration duration;
+        final Histogram responseTime = histogram();
+        final Histogram serviceTime = histogram();
+        final Map<Operation, Histogram> responseTimeByOperation = new EnumMap<>(Operation.class);
+        final LongAdder completedInWindow = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        long startNanos;
+        long endNanos;
+
+        Step(double offeredRate, Duration duration) {
+            this.offeredRate = offeredRate;
+            this.duration = duration;
+            for (Operation operation : Operation.values()) {
+                responseTimeByOperation.put(operation, histogram());
+            }
+        }
+
+        void record(Operation operation, boolean ok, long responseNanos, long serviceNanos, long completedAt) {
+            if (!ok) {
+                errors.increment();
+                return;
+            }
+            long responseMicros = Math.min(TimeUnit.NANOSECONDS.toMicros(responseNanos), HIGHEST_MICROS);
+            responseTime.recordValue(responseMicros);
+            responseTimeByOperation.get(operation).recordValue(responseMicros);
+            serviceTime.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(serviceNanos), HIGHEST_MICROS));
+            if (completedAt <= endNanos) {
+                completedInWindow.increment();
+            }
+        }
+
+        /**
+         * Successful requests completed within the step, per second.
+         */
+        double throughput() {
+            return completedInWindow.sum() / (duration.toNanos() / 1e9);
+        }
+
+        /**
+         * Requests that failed or were dropped, as a fraction of those sent.
+         */
+        double failureRatio() {
+            long failed = errors.sum() + dropped.sum();
+            long total = responseTime.getTotalCount() + failed;
+            return total == 0 ? 0 : (double) failed / total;
+        }
+
+        private static Histogram histogram() {
+            return new ConcurrentHistogram(1, HIGHEST_MICROS, 3);
+        }
+    }
+}
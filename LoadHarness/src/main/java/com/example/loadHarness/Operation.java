@@ -0,0 +1,29 @@
+package com.example.loadHarness;
+
+/**
+ * The requests a load test sends, each through the service a client would
+ * call for it.
+ */
+enum Operation {
+
+    /** {@code PUT /api/bank/depositAmount} on BankingAppService. */
+    DEPOSIT,
+
+    /** {@code PUT /api/bank/withdrawAmount} on BankingAppService. */
+    WITHDRAW,
+
+    /** {@code PUT /api/transaction/transfer} on TransactionService. */
+    TRANSFER,
+
+    /** {@code GET /api/transaction/history/{accountNumber}} on TransactionService. */
+    HISTORY,
+
+    /** {@code GET /api/bank/getAccountById/{accountNumber}} on BankingAppService. */
+    ACCOUNT,
+
+    /** {@code POST /api/bank/calculate-emi} on BankingAppService. */
+    EMI,
+
+    /** {@code GET /api/bank/getAllBranches} on BankingAppService. */
+    BRANCHES
+}
@@ -2,11 +2,23 @@ package com.serviceapp.elk.transactionService;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.data.elasticsearch.repository.config.EnableElasticsearchRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@EnableJpaRepositories(basePackages = "com.serviceapp.elk.TransactionService.repo")
-@EnableElasticsearchRepositories(basePackages = "com.serviceapp.elk.TransactionService.repo")
+import com.example.bankCommon.config.IdempotencyConfig;
+import com.example.bankCommon.config.ProfilingConfig;
+import com.example.bankCommon.config.SmileCodecConfig;
+import com.example.bankCommon.config.StartupConfig;
+import com.example.bankCommon.config.TracingConfig;
+import com.serviceapp.elk.transactionService.repo.TransactionSQLRepo;
+
+@EnableJpaRepositories(basePackageClasses = TransactionSQLRepo.class)
+@EnableElasticsearchRepositories(basePackageClasses = TransactionSQLRepo.class)
+@EnableScheduling
+@Import({ IdempotencyConfig.class, ProfilingConfig.class, SmileCodecConfig.class, StartupConfig.class,
+        TracingConfig.class })
 @SpringBootApplication 
 public class TransactionServiceApplication {
 
@@ -0,0 +1,26 @@
+package com.serviceapp.elk.transactionService.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.bankCommon.config.RecordingSummary;
+import com.example.bankCommon.service.MoneyMovementEvent;
+import com.serviceapp.elk.transactionService.service.StandingInstructionScheduler;
+
+/**
+ * The service's own Flight Recorder events, so that
+ * {@code /actuator/profiling/summary} groups them by operation and account.
+ */
+@Configuration
+public class FlightRecorderConfig {
+
+    @Bean
+    public RecordingSummary.EventGroup moneyMovementEvents() {
+        return MoneyMovementEvent.EVENT_GROUP;
+    }
+
+    @Bean
+    public RecordingSummary.EventGroup standingInstructionEvents() {
+        return StandingInstructionScheduler.DRAIN_EVENT_GROUP;
+    }
+}
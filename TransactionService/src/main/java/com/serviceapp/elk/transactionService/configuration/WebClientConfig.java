@@ -1,9 +1,14 @@
 package com.serviceapp.elk.transactionService.configuration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.config.ResourceHandlerRegistry;
 import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.bankCommon.config.SmileCodecConfig;
+
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 
@@ -11,8 +16,12 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebClientConfig  implements WebMvcConfigurer {
 
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    public WebClient.Builder webClientBuilder(@Value("${inter-service.smile:true}") boolean smile,
+            ObservationRegistry observationRegistry) {
+        WebClient.Builder builder = WebClient.builder()
+                .observationRegistry(observationRegistry)
+                .codecs(SmileCodecConfig::registerCodecs);
+        return smile ? builder.filter(SmileCodecConfig.preferSmile()) : builder;
     }
 
    
@@ -1,6 +1,8 @@
 package com.serviceapp.elk.transactionService.constants;
 
 public class ServiceConstants {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     // Base URL for Account Service
     public static final String ACCOUNT_SERVICE_BASE_URL = "http://localhost:9097/account";
 
@@ -8,5 +10,6 @@ public class ServiceConstants {
     public static final String WITHDRAW_ENDPOINT = ACCOUNT_SERVICE_BASE_URL + "/withdraw/{accountNumber}";
     public static final String DEPOSIT_ENDPOINT = ACCOUNT_SERVICE_BASE_URL + "/depositAmount/{accountNumber}";
     public static final String GET_ACCOUNT_DETAILS_ENDPOINT = ACCOUNT_SERVICE_BASE_URL + "/getById/{accountNumber}";
+    public static final String GET_ACCOUNTS_BY_IDS_ENDPOINT = ACCOUNT_SERVICE_BASE_URL + "/getByIds";
 
 }
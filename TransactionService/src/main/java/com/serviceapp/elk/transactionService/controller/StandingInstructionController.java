@@ -0,0 +1,89 @@
+package com.serviceapp.elk.transactionService.controller;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.serviceapp.elk.transactionService.model.StandingInstruction;
+import com.serviceapp.elk.transactionService.service.StandingInstructionService;
+
+import io.micrometer.observation.annotation.Observed;
+
+/**
+ * Controller for creating, viewing and cancelling standing instructions
+ * (recurring transfers).
+ */
+@Observed(lowCardinalityKeyValues = { "layer", "controller" })
+@RestController
+@RequestMapping("/api/transaction/standing-instructions")
+public class StandingInstructionController {
+
+	private static final Logger logger = LoggerFactory.getLogger(StandingInstructionController.class);
+
+	@Autowired
+	private StandingInstructionService standingInstructionService;
+
+	/**
+	 * Creates a standing instruction.
+	 *
+	 * @param instruction The accounts, amount, frequency and optional first
+	 *                    execution time and end time.
+	 * @return A ResponseEntity containing the saved instruction, or 400 if it is
+	 *         invalid.
+	 */
+	@PostMapping
+	public ResponseEntity<StandingInstruction> createInstruction(@RequestBody StandingInstruction instruction) {
+		try {
+			return ResponseEntity.status(HttpStatus.CREATED)
+					.body(standingInstructionService.createInstruction(instruction));
+		} catch (IllegalArgumentException e) {
+			logger.warn("Rejected standing instruction: {}", e.getMessage());
+			return ResponseEntity.badRequest().build();
+		}
+	}
+
+	/**
+	 * Retrieves a standing instruction.
+	 *
+	 * @param id The instruction ID.
+	 * @return A ResponseEntity containing the instruction.
+	 */
+	@GetMapping("/{id}")
+	public ResponseEntity<StandingInstruction> getInstruction(@PathVariable Long id) {
+		return ResponseEntity.ok(standingInstructionService.getInstruction(id));
+	}
+
+	/**
+	 * Retrieves the standing instructions paid from an account.
+	 *
+	 * @param accountNumber The paying account.
+	 * @return A ResponseEntity containing the account's instructions.
+	 */
+	@GetMapping("/account/{accountNumber}")
+	public ResponseEntity<List<StandingInstruction>> getInstructionsForAccount(@PathVariable UUID accountNumber) {
+		return ResponseEntity.ok(standingInstructionService.getInstructionsForAccount(accountNumber));
+	}
+
+	/**
+	 * Cancels a standing instruction.
+	 *
+	 * @param id The instruction ID.
+	 * @return A ResponseEntity containing the cancelled instruction.
+	 */
+	@DeleteMapping("/{id}")
+	public ResponseEntity<StandingInstruction> cancelInstruction(@PathVariable Long id) {
+		return ResponseEntity.ok(standingInstructionService.cancelInstruction(id));
+	}
+}
@@ -2,16 +2,23 @@ package com.serviceapp.elk.transactionService.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.example.bankCommon.config.ClientErrorPredicate;
+import com.example.bankCommon.service.IdempotencyService;
+import com.serviceapp.elk.transactionService.constants.ServiceConstants;
 import com.serviceapp.elk.transactionService.model.TransactionDetails;
 import com.serviceapp.elk.transactionService.model.TransferTransaction;
+import com.serviceapp.elk.transactionService.request.AccountTransactionTotal;
 import com.serviceapp.elk.transactionService.request.TransactionRequest;
 import com.serviceapp.elk.transactionService.request.TransactionReversalRequest;
+import com.serviceapp.elk.transactionService.service.MoneyMovementMetrics;
 import com.serviceapp.elk.transactionService.service.TransactionService;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.micrometer.observation.annotation.Observed;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -23,6 +30,7 @@ import java.util.UUID;
  * and managing transactions. Circuit Breaker pattern is used to handle failures
  * gracefully.
  */
+@Observed(lowCardinalityKeyValues = { "layer", "controller" })
 @RestController
 @RequestMapping("/api/transaction")
 public class TransactionController {
@@ -30,32 +38,55 @@ public class TransactionController {
 	@Autowired
 	private TransactionService transactionService;
 
+	@Autowired
+	private IdempotencyService idempotencyService;
+
+	@Autowired
+	private MoneyMovementMetrics moneyMovementMetrics;
+
 	private static final String TRANSACTION_SERVICE = "transactionServiceCircuitBreaker";
 
 	/**
 	 * Transfers an amount from one account to another. Uses Circuit Breaker for
-	 * fault tolerance.
+	 * fault tolerance. A repeated request with the same Idempotency-Key header
+	 * returns the original response without transferring again.
 	 *
+	 * @param idempotencyKey     Optional client-supplied idempotency key.
 	 * @param transferRequestDTO The transfer request containing source account,
 	 *                           destination account, and amount to transfer.
 	 * @return A ResponseEntity<String> containing a success message.
 	 */
 	@PutMapping("/transfer")
 	@CircuitBreaker(name = TRANSACTION_SERVICE, fallbackMethod = "fallbackTransfer")
-	public ResponseEntity<String> transfer(@RequestBody TransactionRequest transferRequestDTO) {
-		transactionService.transfer(transferRequestDTO.getFromAccount(), transferRequestDTO.getToAccount(),
-				transferRequestDTO.getAmount());
-		return ResponseEntity.ok("Transfer completed successfully.");
+	public ResponseEntity<String> transfer(
+			@RequestHeader(value = ServiceConstants.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+			@RequestBody TransactionRequest transferRequestDTO) {
+		String fingerprint = transferRequestDTO.getFromAccount() + ":" + transferRequestDTO.getToAccount() + ":"
+				+ transferRequestDTO.getAmount();
+		return idempotencyService.execute("transfer", idempotencyKey, fingerprint, String.class, () -> {
+			// Waits for both legs, so a failed transfer reaches the fallback and is not stored
+			transactionService.transfer(transferRequestDTO.getFromAccount(), transferRequestDTO.getToAccount(),
+					transferRequestDTO.getAmount(), idempotencyKey).join();
+			return ResponseEntity.ok("Transfer completed successfully.");
+		});
 	}
 
 	/**
 	 * Fallback method for transfer operation.
 	 *
+	 * @param idempotencyKey     The idempotency key of the request, if any.
 	 * @param transferRequestDTO The transfer request.
 	 * @param throwable          The exception that caused the fallback.
-	 * @return A ResponseEntity<String> containing an error message.
+	 * @return A ResponseEntity<String> containing an error message, with the
+	 *         account service's 4xx status if it refused a leg, or 503.
 	 */
-	public ResponseEntity<String> fallbackTransfer(TransactionRequest transferRequestDTO, Throwable throwable) {
+	public ResponseEntity<String> fallbackTransfer(String idempotencyKey, TransactionRequest transferRequestDTO,
+			Throwable throwable) {
+		HttpStatusCode refused = ClientErrorPredicate.clientErrorStatus(throwable);
+		if (refused != null) {
+			return ResponseEntity.status(refused).body("Transfer refused: " + throwable.getMessage());
+		}
+		moneyMovementMetrics.fallback("transfer");
 		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
 				.body("Transfer failed due to: " + throwable.getMessage());
 	}
@@ -83,6 +114,7 @@ public class TransactionController {
 	 * @return A ResponseEntity<String> containing an error message.
 	 */
 	public ResponseEntity<String> fallbackTransactionHistory(UUID accountNumber, Throwable throwable) {
+		moneyMovementMetrics.fallback("getTransactionHistory");
 		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
 				.body("Failed to retrieve transaction history: " + throwable.getMessage());
 	}
@@ -107,6 +139,7 @@ public class TransactionController {
 	 * @return A ResponseEntity<String> containing an error message.
 	 */
 	public ResponseEntity<String> fallbackGetTransactionById(Long id, Throwable throwable) {
+		moneyMovementMetrics.fallback("getTransactionById");
 		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
 				.body("Failed to retrieve transaction by ID: " + throwable.getMessage());
 	}
@@ -125,17 +158,50 @@ public class TransactionController {
 	}
 
 	/**
-	 * Saves a new transaction.
+	 * Saves a new transaction. The account service sends an Idempotency-Key
+	 * header that stays the same across its retries, so a retried save is
+	 * recorded only once.
 	 *
+	 * @param idempotencyKey     Optional client-supplied idempotency key.
 	 * @param transactionDetails The details of the transaction to be saved.
 	 * @return A ResponseEntity<String> containing a success message with the
 	 *         transaction ID.
 	 */
 	@PostMapping("/saveTransaction")
-	public ResponseEntity<String> saveTransaction(@RequestBody TransactionDetails transactionDetails) {
-		TransactionDetails savedTransaction = transactionService.saveTransaction(transactionDetails);
-		return ResponseEntity.status(HttpStatus.CREATED)
-				.body("Transaction saved successfully with ID: " + savedTransaction.getId());
+	public ResponseEntity<String> saveTransaction(
+			@RequestHeader(value = ServiceConstants.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+			@RequestBody TransactionDetails transactionDetails) {
+		String fingerprint = transactionDetails.getAccountNumber() + ":" + transactionDetails.getTransactionType()
+				+ ":" + transactionDetails.getAmount();
+		return idempotencyService.execute("saveTransaction", idempotencyKey, fingerprint, String.class, () -> {
+			TransactionDetails savedTransaction = transactionService.saveTransaction(transactionDetails);
+			return ResponseEntity.status(HttpStatus.CREATED)
+					.body("Transaction saved successfully with ID: " + savedTransaction.getId());
+		});
+	}
+
+	/**
+	 * Saves many transactions at once, e.g. the interest postings of a batch
+	 * job. A repeated request with the same Idempotency-Key header is recorded
+	 * only once.
+	 *
+	 * @param idempotencyKey Optional client-supplied idempotency key.
+	 * @param transactions   The transactions to be saved.
+	 * @return A ResponseEntity<String> containing the number of transactions
+	 *         saved.
+	 */
+	@PostMapping("/saveTransactions")
+	public ResponseEntity<String> saveTransactions(
+			@RequestHeader(value = ServiceConstants.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+			@RequestBody List<TransactionDetails> transactions) {
+		// Keyed on the accounts rather than the amounts, so a batch job that resumes
+		// after a crash replays its earlier request even if a balance moved meanwhile
+		String fingerprint = transactions.size() + ":"
+				+ transactions.stream().mapToInt(transaction -> transaction.getAccountNumber().hashCode()).sum();
+		return idempotencyService.execute("saveTransactions", idempotencyKey, fingerprint, String.class, () -> {
+			int saved = transactionService.saveTransactions(transactions);
+			return ResponseEntity.status(HttpStatus.CREATED).body("Saved " + saved + " transactions");
+		});
 	}
 
 	/**
@@ -149,4 +215,20 @@ public class TransactionController {
 		List<TransactionDetails> statement = transactionService.statement(accountNumber);
 		return ResponseEntity.ok(statement);
 	}
+
+	/**
+	 * Retrieves net transaction totals per account for the account number range
+	 * {@code (after, upper]}, ordered by account number.
+	 *
+	 * @param after The exclusive lower bound of the account number range.
+	 * @param upper The inclusive upper bound of the account number range.
+	 * @param limit The maximum number of totals to return.
+	 * @return A ResponseEntity containing a list of AccountTransactionTotal objects.
+	 */
+	@GetMapping("/totals")
+	public ResponseEntity<List<AccountTransactionTotal>> transactionTotals(@RequestParam UUID after,
+			@RequestParam UUID upper, @RequestParam(defaultValue = "1000") int limit) {
+		List<AccountTransactionTotal> totals = transactionService.transactionTotals(after, upper, limit);
+		return ResponseEntity.ok(totals);
+	}
 }
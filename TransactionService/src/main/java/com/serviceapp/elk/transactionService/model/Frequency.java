@@ -0,0 +1,64 @@
+package com.serviceapp.elk.transactionService.model;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * How often a standing instruction repeats.
+ * <p>
+ * Execution times are counted from the instruction's anchor, its first
+ * execution, as the anchor plus a whole number of periods. They are never
+ * stepped from the previous execution, so a monthly instruction anchored on
+ * the 31st runs on the last day of shorter months and returns to the 31st
+ * afterwards instead of drifting to the 28th.
+ */
+public enum Frequency {
+
+	DAILY(ChronoUnit.DAYS), WEEKLY(ChronoUnit.WEEKS), MONTHLY(ChronoUnit.MONTHS);
+
+	private final ChronoUnit unit;
+
+	Frequency(ChronoUnit unit) {
+		this.unit = unit;
+	}
+
+	/**
+	 * @param anchor  the first execution time
+	 * @param periods the number of periods after the anchor
+	 * @return the execution time that many periods after the anchor
+	 */
+	public LocalDateTime at(LocalDateTime anchor, long periods) {
+		return anchor.plus(periods, unit);
+	}
+
+	/**
+	 * @param anchor the first execution time
+	 * @param time   any time
+	 * @return the number of whole periods from the anchor to the last
+	 *         execution time at or before {@code time}, or -1 if
+	 *         {@code time} is before the anchor
+	 */
+	public long periodsUntil(LocalDateTime anchor, LocalDateTime time) {
+		if (time.isBefore(anchor)) {
+			return -1;
+		}
+		// An estimate that can be one off around the ends of months
+		long periods = Math.max(0, unit.between(anchor, time));
+		while (at(anchor, periods).isAfter(time)) {
+			periods--;
+		}
+		while (!at(anchor, periods + 1).isAfter(time)) {
+			periods++;
+		}
+		return periods;
+	}
+
+	/**
+	 * @param anchor the first execution time
+	 * @param after  any time
+	 * @return the first execution time strictly after {@code after}
+	 */
+	public LocalDateTime next(LocalDateTime anchor, LocalDateTime after) {
+		return at(anchor, periodsUntil(anchor, after) + 1);
+	}
+}
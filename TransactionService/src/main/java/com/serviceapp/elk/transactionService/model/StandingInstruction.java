@@ -0,0 +1,62 @@
+package com.serviceapp.elk.transactionService.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.example.bankCommon.model.Money;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * A recurring transfer, such as rent or a SIP, that the scheduler executes
+ * every period until its end date. Execution times are counted in periods
+ * from {@link #anchorAt}, the first execution.
+ */
+@Entity
+@Data
+@Table(name = "standing_instructions", indexes = {
+		@Index(name = "idx_standing_instructions_due", columnList = "active, nextExecutionAt"),
+		@Index(name = "idx_standing_instructions_from_account", columnList = "fromAccount") })
+public class StandingInstruction {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "standing_instructions_seq")
+	@SequenceGenerator(name = "standing_instructions_seq", sequenceName = "standing_instructions_seq", allocationSize = 50)
+	private Long id;
+
+	private UUID fromAccount;
+	private UUID toAccount;
+	@JsonIgnore
+	@Column(name = "amount_minor")
+	private long amountMinor;
+	@Enumerated(EnumType.STRING)
+	private Frequency frequency;
+	private LocalDateTime anchorAt;
+	private LocalDateTime nextExecutionAt;
+	private LocalDateTime endAt;
+	private LocalDateTime lastExecutedAt;
+	private String lastStatus;
+	private long executionCount;
+	private boolean active = true;
+
+	@JsonProperty("amount")
+	public Money getAmount() {
+		return Money.ofMinor(amountMinor);
+	}
+
+	public void setAmount(Money amount) {
+		this.amountMinor = amount.minorUnits();
+	}
+}
@@ -3,22 +3,43 @@ package com.serviceapp.elk.transactionService.model;
 import java.util.Date;
 import java.util.UUID;
 
+import com.example.bankCommon.model.Money;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.Data;
 
 @Entity
 @Data
+@Table(indexes = @Index(name = "idx_transaction_details_account_number", columnList = "accountNumber"))
 public class TransactionDetails {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
-	private int Id;
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_details_seq")
+	@SequenceGenerator(name = "transaction_details_seq", sequenceName = "transaction_details_seq", allocationSize = 50)
+	private Long Id;
 	private UUID accountNumber;
-	private String TransactionType;
+	private TransactionType transactionType;
 	private Date transactionDate;
-	private double amount;
-	private String status;
+	@JsonIgnore
+	@Column(name = "amount_minor")
+	private long amountMinor;
+	private TransactionStatus status;
+
+	@JsonProperty("amount")
+	public Money getAmount() {
+		return Money.ofMinor(amountMinor);
+	}
+
+	public void setAmount(Money amount) {
+		this.amountMinor = amount.minorUnits();
+	}
 }
@@ -0,0 +1,51 @@
+package com.serviceapp.elk.transactionService.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Status of a single-account transaction record. Labels match what the account
+ * service sends when it records deposits and withdrawals.
+ */
+public enum TransactionStatus {
+
+	PENDING((short) 1, "Pending"),
+	SUCCESS((short) 2, "Success"),
+	FAILED((short) 3, "Failed");
+
+	private final short code;
+	private final String label;
+
+	TransactionStatus(short code, String label) {
+		this.code = code;
+		this.label = label;
+	}
+
+	public short getCode() {
+		return code;
+	}
+
+	@JsonValue
+	public String getLabel() {
+		return label;
+	}
+
+	@JsonCreator
+	public static TransactionStatus fromLabel(String label) {
+		for (TransactionStatus status : values()) {
+			if (status.label.equalsIgnoreCase(label)) {
+				return status;
+			}
+		}
+		throw new IllegalArgumentException("Unknown status: " + label);
+	}
+
+	public static TransactionStatus fromCode(short code) {
+		for (TransactionStatus status : values()) {
+			if (status.code == code) {
+				return status;
+			}
+		}
+		throw new IllegalArgumentException("Unknown status code: " + code);
+	}
+}
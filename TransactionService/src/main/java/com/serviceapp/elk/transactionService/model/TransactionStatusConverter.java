@@ -0,0 +1,18 @@
+package com.serviceapp.elk.transactionService.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class TransactionStatusConverter implements AttributeConverter<TransactionStatus, Short> {
+
+	@Override
+	public Short convertToDatabaseColumn(TransactionStatus attribute) {
+		return attribute == null ? null : attribute.getCode();
+	}
+
+	@Override
+	public TransactionStatus convertToEntityAttribute(Short dbData) {
+		return dbData == null ? null : TransactionStatus.fromCode(dbData);
+	}
+}
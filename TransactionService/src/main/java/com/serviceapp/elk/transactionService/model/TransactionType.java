@@ -0,0 +1,52 @@
+package com.serviceapp.elk.transactionService.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Kind of money movement recorded by the transaction service. Stored as a
+ * small integer code and serialized as the label clients already send.
+ */
+public enum TransactionType {
+
+	DEPOSIT((short) 1, "Deposit"),
+	WITHDRAW((short) 2, "Withdraw"),
+	ACCOUNT_TO_ACCOUNT((short) 3, "account-to-account"),
+	INTEREST((short) 4, "Interest");
+
+	private final short code;
+	private final String label;
+
+	TransactionType(short code, String label) {
+		this.code = code;
+		this.label = label;
+	}
+
+	public short getCode() {
+		return code;
+	}
+
+	@JsonValue
+	public String getLabel() {
+		return label;
+	}
+
+	@JsonCreator
+	public static TransactionType fromLabel(String label) {
+		for (TransactionType type : values()) {
+			if (type.label.equalsIgnoreCase(label) || type.name().equalsIgnoreCase(label)) {
+				return type;
+			}
+		}
+		throw new IllegalArgumentException("Unknown transaction type: " + label);
+	}
+
+	public static TransactionType fromCode(short code) {
+		for (TransactionType type : values()) {
+			if (type.code == code) {
+				return type;
+			}
+		}
+		throw new IllegalArgumentException("Unknown transaction type code: " + code);
+	}
+}
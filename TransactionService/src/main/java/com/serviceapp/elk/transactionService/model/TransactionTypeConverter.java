@@ -0,0 +1,18 @@
+package com.serviceapp.elk.transactionService.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class TransactionTypeConverter implements AttributeConverter<TransactionType, Short> {
+
+	@Override
+	public Short convertToDatabaseColumn(TransactionType attribute) {
+		return attribute == null ? null : attribute.getCode();
+	}
+
+	@Override
+	public TransactionType convertToEntityAttribute(Short dbData) {
+		return dbData == null ? null : TransactionType.fromCode(dbData);
+	}
+}
@@ -0,0 +1,51 @@
+package com.serviceapp.elk.transactionService.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Status of an account-to-account transfer. Labels match the lowercase values
+ * transfers have always been reported with.
+ */
+public enum TransferStatus {
+
+	PENDING((short) 1, "pending"),
+	SUCCESS((short) 2, "success"),
+	FAILED((short) 3, "failed");
+
+	private final short code;
+	private final String label;
+
+	TransferStatus(short code, String label) {
+		this.code = code;
+		this.label = label;
+	}
+
+	public short getCode() {
+		return code;
+	}
+
+	@JsonValue
+	public String getLabel() {
+		return label;
+	}
+
+	@JsonCreator
+	public static TransferStatus fromLabel(String label) {
+		for (TransferStatus status : values()) {
+			if (status.label.equalsIgnoreCase(label)) {
+				return status;
+			}
+		}
+		throw new IllegalArgumentException("Unknown status: " + label);
+	}
+
+	public static TransferStatus fromCode(short code) {
+		for (TransferStatus status : values()) {
+			if (status.code == code) {
+				return status;
+			}
+		}
+		throw new IllegalArgumentException("Unknown status code: " + code);
+	}
+}
@@ -0,0 +1,18 @@
+package com.serviceapp.elk.transactionService.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class TransferStatusConverter implements AttributeConverter<TransferStatus, Short> {
+
+	@Override
+	public Short convertToDatabaseColumn(TransferStatus attribute) {
+		return attribute == null ? null : attribute.getCode();
+	}
+
+	@Override
+	public TransferStatus convertToEntityAttribute(Short dbData) {
+		return dbData == null ? null : TransferStatus.fromCode(dbData);
+	}
+}
@@ -3,26 +3,48 @@ package com.serviceapp.elk.transactionService.model;
 import java.util.Date;
 import java.util.UUID;
 
+import com.example.bankCommon.model.Money;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.Data;
 
 @Entity
 @Data
+@Table(indexes = { @Index(name = "idx_transfer_transaction_from_account", columnList = "fromAccount"),
+		@Index(name = "idx_transfer_transaction_to_account", columnList = "toAccount") })
 public class TransferTransaction {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transfer_transaction_seq")
+	@SequenceGenerator(name = "transfer_transaction_seq", sequenceName = "transfer_transaction_seq", allocationSize = 50)
 	private Long id;
 
 	private UUID fromAccount;
 	private UUID toAccount;
-	private double amount;
+	@JsonIgnore
+	@Column(name = "amount_minor")
+	private long amountMinor;
 	private Date transactionDate;
-	private String transactionType; // e.g., "account-to-account"
-	private String status;
+	private TransactionType transactionType; // e.g., ACCOUNT_TO_ACCOUNT
+	private TransferStatus status;
 	private boolean isReversed;
 	private String reversalReason;
 
+	@JsonProperty("amount")
+	public Money getAmount() {
+		return Money.ofMinor(amountMinor);
+	}
+
+	public void setAmount(Money amount) {
+		this.amountMinor = amount.minorUnits();
+	}
+
 }
@@ -0,0 +1,44 @@
+package com.serviceapp.elk.transactionService.repo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.serviceapp.elk.transactionService.model.StandingInstruction;
+
+@Repository
+public interface StandingInstructionRepository extends JpaRepository<StandingInstruction, Long> {
+
+	List<StandingInstruction> findByActiveTrueAndNextExecutionAtBeforeOrderByNextExecutionAt(LocalDateTime horizon);
+
+	List<StandingInstruction> findByFromAccount(UUID fromAccount);
+
+	/**
+	 * Saves the outcome of an execution unless the instruction was cancelled
+	 * while its transfer ran, so a cancellation is never overwritten.
+	 *
+	 * @return 1 if saved, 0 if the instruction is no longer active
+	 */
+	@Modifying
+	@Transactional
+	@Query("update StandingInstruction s set s.anchorAt = :anchorAt, s.nextExecutionAt = :nextExecutionAt,"
+			+ " s.lastExecutedAt = :lastExecutedAt, s.lastStatus = :lastStatus, s.executionCount = :executionCount,"
+			+ " s.active = :active where s.id = :id and s.active = true")
+	int saveExecution(@Param("id") Long id, @Param("anchorAt") LocalDateTime anchorAt,
+			@Param("nextExecutionAt") LocalDateTime nextExecutionAt, @Param("lastExecutedAt") LocalDateTime lastExecutedAt,
+			@Param("lastStatus") String lastStatus, @Param("executionCount") long executionCount,
+			@Param("active") boolean active);
+
+	@Modifying
+	@Transactional
+	@Query("update StandingInstruction s set s.active = false where s.id = :id")
+	int deactivate(@Param("id") Long id);
+
+}
@@ -1,15 +1,39 @@
 package com.serviceapp.elk.transactionService.repo;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.serviceapp.elk.transactionService.model.TransactionDetails;
+import com.serviceapp.elk.transactionService.model.TransactionStatus;
+import com.serviceapp.elk.transactionService.model.TransactionType;
+import com.serviceapp.elk.transactionService.request.AccountTransactionTotal;
 
 import java.util.*;
 
 @Repository
-public interface TransactionDetailsRepository extends JpaRepository<TransactionDetails, Integer> {
+public interface TransactionDetailsRepository extends JpaRepository<TransactionDetails, Long> {
 
 	List<TransactionDetails> findByAccountNumber(UUID accountNumber);
 
+	/**
+	 * Returns per-account net totals for accounts in the key range
+	 * {@code (after, upper]}, ordered by account number so callers can page
+	 * through with keyset pagination.
+	 */
+	default List<AccountTransactionTotal> findTotalsInRange(UUID after, UUID upper, Pageable pageable) {
+		return findTotalsInRange(after, upper, TransactionType.WITHDRAW, TransactionStatus.SUCCESS, pageable);
+	}
+
+	@Query("select new com.serviceapp.elk.transactionService.request.AccountTransactionTotal(t.accountNumber, "
+			+ "sum(case when t.transactionType = :withdraw then -t.amountMinor else t.amountMinor end)) "
+			+ "from TransactionDetails t "
+			+ "where t.accountNumber > :after and t.accountNumber <= :upper and t.status = :success "
+			+ "group by t.accountNumber order by t.accountNumber")
+	List<AccountTransactionTotal> findTotalsInRange(@Param("after") UUID after, @Param("upper") UUID upper,
+			@Param("withdraw") TransactionType withdraw, @Param("success") TransactionStatus success,
+			Pageable pageable);
+
 }
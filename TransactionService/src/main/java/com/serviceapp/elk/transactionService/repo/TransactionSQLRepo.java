@@ -3,7 +3,9 @@ package com.serviceapp.elk.transactionService.repo;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.serviceapp.elk.transactionService.model.TransactionDetails;
@@ -16,4 +18,11 @@ public interface TransactionSQLRepo extends JpaRepository<TransferTransaction, L
 
 	List<TransferTransaction> findByFromAccountOrToAccount(UUID accountNumber, UUID accountNumber2);
 
+	/**
+	 * Source accounts of the most recent transactions, newest first. An account
+	 * appears once per transaction.
+	 */
+	@Query("select t.fromAccount from TransferTransaction t order by t.id desc")
+	List<UUID> findRecentFromAccounts(Pageable pageable);
+
 }
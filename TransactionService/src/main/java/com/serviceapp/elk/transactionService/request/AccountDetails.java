@@ -1,5 +1,7 @@
 package com.serviceapp.elk.transactionService.request;
 
+import com.example.bankCommon.model.Money;
+
 import lombok.AllArgsConstructor;
 
 import lombok.Getter;
@@ -12,5 +14,5 @@ import lombok.Setter;
 public class AccountDetails {
     
     private String accountNumber;
-    private double balance;
+    private Money balance;
 }
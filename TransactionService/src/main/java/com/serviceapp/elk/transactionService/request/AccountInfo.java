@@ -2,6 +2,8 @@ package com.serviceapp.elk.transactionService.request;
 
 import java.util.UUID;
 
+import com.example.bankCommon.model.Money;
+
 import lombok.Data;
 
 
@@ -12,5 +14,5 @@ public class AccountInfo {
     private String accountType;
     private String panCardNumber;
     private String address;
-    private double balance;
+    private Money balance;
 }
@@ -0,0 +1,26 @@
+package com.serviceapp.elk.transactionService.request;
+
+import java.util.UUID;
+
+import com.example.bankCommon.model.Money;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Net amount of all successful transactions recorded for one account.
+ * Deposits count as positive, withdrawals as negative.
+ */
+@Data
+@NoArgsConstructor
+public class AccountTransactionTotal {
+
+    private UUID accountNumber;
+    private Money total;
+
+    public AccountTransactionTotal(UUID accountNumber, Long totalMinorUnits) {
+        this.accountNumber = accountNumber;
+        this.total = totalMinorUnits == null ? Money.ZERO : Money.ofMinor(totalMinorUnits);
+    }
+
+}
@@ -1,6 +1,8 @@
 package com.serviceapp.elk.transactionService.request;
 import java.util.UUID;
 
+import com.example.bankCommon.model.Money;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,7 +13,7 @@ import lombok.NoArgsConstructor;
 public class DepositeRequest {
     
     private UUID accountNumber;
-    private double balance;
+    private Money balance;
 
 
     
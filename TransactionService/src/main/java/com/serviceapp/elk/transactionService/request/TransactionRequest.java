@@ -2,11 +2,13 @@ package com.serviceapp.elk.transactionService.request;
 
 import java.util.UUID;
 
+import com.example.bankCommon.model.Money;
+
 import lombok.Data;
 
 @Data
 public class TransactionRequest {
     private UUID fromAccount;
     private UUID toAccount;
-    private double amount;
+    private Money amount;
 }
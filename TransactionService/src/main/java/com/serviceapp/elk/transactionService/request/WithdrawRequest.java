@@ -2,6 +2,8 @@ package com.serviceapp.elk.transactionService.request;
 
 import java.util.UUID;
 
+import com.example.bankCommon.model.Money;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -12,7 +14,7 @@ import lombok.NoArgsConstructor;
 public class WithdrawRequest {
       
     private UUID accountNumber;
-    private double balance;
+    private Money balance;
    
       
 
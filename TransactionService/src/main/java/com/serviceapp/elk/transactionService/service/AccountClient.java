@@ -0,0 +1,36 @@
+package com.serviceapp.elk.transactionService.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.serviceapp.elk.transactionService.request.AccountDetails;
+import com.serviceapp.elk.transactionService.request.DepositeRequest;
+import com.serviceapp.elk.transactionService.request.WithdrawRequest;
+
+/**
+ * Calls from the transaction service to the account service. The standalone
+ * deployment uses {@link HttpAccountClient}; a deployment that runs both
+ * services in one JVM can provide an in-process implementation instead.
+ */
+public interface AccountClient {
+
+    /**
+     * @param accountNumber
+     * @param request
+     * @param idempotencyKey
+     */
+    void withdraw(UUID accountNumber, WithdrawRequest request, String idempotencyKey);
+
+    /**
+     * @param accountNumber
+     * @param request
+     * @param idempotencyKey
+     */
+    void deposit(UUID accountNumber, DepositeRequest request, String idempotencyKey);
+
+    /**
+     * @param accountNumbers
+     * @return
+     */
+    List<AccountDetails> getAccounts(List<UUID> accountNumbers);
+}
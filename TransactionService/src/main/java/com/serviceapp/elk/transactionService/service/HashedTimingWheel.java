@@ -0,0 +1,158 @@
+package com.serviceapp.elk.transactionService.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hashed timing wheel holding items until their deadline.
+ * <p>
+ * The wheel is a ring of buckets, each covering one tick. An item goes into
+ * the bucket its deadline falls in, together with the number of full turns
+ * of the wheel still to pass, so scheduling is O(1) whatever the deadline.
+ * A single worker thread advances one bucket per tick and hands every item
+ * whose turn has come to the expiry callback as one list. Only the worker
+ * touches the buckets; other threads add items through a queue that the
+ * worker drains at the start of each tick.
+ *
+ * @param <T> the type of item scheduled
+ */
+public class HashedTimingWheel<T> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+    private final long tickMillis;
+
+    private final int mask;
+
+    private final List<Entry<T>>[] buckets;
+
+    private final Queue<Entry<T>> pending = new ConcurrentLinkedQueue<>();
+
+    private final Consumer<List<T>> onExpired;
+
+    private final Thread worker;
+
+    private volatile long startTime;
+
+    private volatile boolean running;
+
+    private long tick;
+
+    private static final class Entry<T> {
+        final T item;
+        final long deadline;
+        long remainingRounds;
+
+        Entry(T item, long deadline) {
+            this.item = item;
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * @param name       the worker thread name
+     * @param tickMillis the length of one tick in milliseconds
+     * @param wheelSize  the number of buckets, rounded up to a power of two
+     * @param onExpired  called on the worker thread with the items due in a
+     *                   tick; it should hand the work off rather than run it
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, long tickMillis, int wheelSize, Consumer<List<T>> onExpired) {
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.buckets = new List[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.onExpired = onExpired;
+        this.worker = Thread.ofPlatform().name(name).daemon().unstarted(this::run);
+    }
+
+    /**
+     * Starts the worker thread. Items scheduled before this are kept.
+     */
+    public synchronized void start() {
+        if (!running) {
+            startTime = System.currentTimeMillis();
+            running = true;
+            worker.start();
+        }
+    }
+
+    /**
+     * Schedules an item. Deadlines in the past expire on the next tick.
+     *
+     * @param item           the item
+     * @param deadlineMillis the epoch millisecond at which the item is due
+     */
+    public void schedule(T item, long deadlineMillis) {
+        pending.add(new Entry<>(item, deadlineMillis));
+    }
+
+    /**
+     * Stops the worker thread. Items still in the wheel are dropped.
+     */
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long tickEnd = startTime + (tick + 1) * tickMillis;
+            long sleep = tickEnd - System.currentTimeMillis();
+            if (sleep > 0) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(sleep);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            transferPending();
+            List<T> expired = expire(buckets[(int) (tick & mask)]);
+            if (!expired.isEmpty()) {
+                try {
+                    onExpired.accept(expired);
+                } catch (RuntimeException e) {
+                    logger.error("Timing wheel callback failed for {} items: {}", expired.size(), e.getMessage(), e);
+                }
+            }
+            tick++;
+        }
+    }
+
+    private void transferPending() {
+        Entry<T> entry;
+        while ((entry = pending.poll()) != null) {
+            long dueTick = Math.max(tick, (entry.deadline - startTime) / tickMillis);
+            entry.remainingRounds = (dueTick - tick) / buckets.length;
+            buckets[(int) (dueTick & mask)].add(entry);
+        }
+    }
+
+    private List<T> expire(List<Entry<T>> bucket) {
+        List<T> expired = new ArrayList<>();
+        Iterator<Entry<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Entry<T> entry = iterator.next();
+            if (entry.remainingRounds <= 0) {
+                expired.add(entry.item);
+                iterator.remove();
+            } else {
+                entry.remainingRounds--;
+            }
+        }
+        return expired;
+    }
+}
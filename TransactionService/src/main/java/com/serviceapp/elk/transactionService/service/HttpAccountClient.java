@@ -0,0 +1,70 @@
+package com.serviceapp.elk.transactionService.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.serviceapp.elk.transactionService.constants.ServiceConstants;
+import com.serviceapp.elk.transactionService.request.AccountDetails;
+import com.serviceapp.elk.transactionService.request.DepositeRequest;
+import com.serviceapp.elk.transactionService.request.WithdrawRequest;
+
+/**
+ * {@link AccountClient} that calls the account service over HTTP at the URLs
+ * in {@link ServiceConstants}.
+ */
+@Component
+@ConditionalOnProperty(name = "deployment.mode", havingValue = "standalone", matchIfMissing = true)
+public class HttpAccountClient implements AccountClient {
+
+    @Autowired
+    private WebClient.Builder webClientBuilder;
+
+    @Override
+    public void withdraw(UUID accountNumber, WithdrawRequest request, String idempotencyKey) {
+        webClientBuilder.build()
+                .put()
+                .uri(ServiceConstants.WITHDRAW_ENDPOINT, accountNumber)
+                .headers(headers -> {
+                    if (idempotencyKey != null) {
+                        headers.set(ServiceConstants.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+                    }
+                })
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(Void.class)
+                .block();
+    }
+
+    @Override
+    public void deposit(UUID accountNumber, DepositeRequest request, String idempotencyKey) {
+        webClientBuilder.build()
+                .put()
+                .uri(ServiceConstants.DEPOSIT_ENDPOINT, accountNumber)
+                .headers(headers -> {
+                    if (idempotencyKey != null) {
+                        headers.set(ServiceConstants.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+                    }
+                })
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(Void.class)
+                .block();
+    }
+
+    @Override
+    public List<AccountDetails> getAccounts(List<UUID> accountNumbers) {
+        return webClientBuilder.build()
+                .post()
+                .uri(ServiceConstants.GET_ACCOUNTS_BY_IDS_ENDPOINT)
+                .bodyValue(accountNumbers)
+                .retrieve()
+                .bodyToFlux(AccountDetails.class)
+                .collectList()
+                .block();
+    }
+}
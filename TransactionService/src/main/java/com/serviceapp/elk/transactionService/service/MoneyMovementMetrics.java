@@ -0,0 +1,19 @@
+package com.serviceapp.elk.transactionService.service;
+
+import org.springframework.stereotype.Component;
+
+import com.example.bankCommon.service.AbstractMoneyMovementMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Metrics for transfers, reversals and transaction records. The service has
+ * no counters of its own beyond the shared ones.
+ */
+@Component
+public class MoneyMovementMetrics extends AbstractMoneyMovementMetrics {
+
+    public MoneyMovementMetrics(MeterRegistry meterRegistry) {
+        super(meterRegistry);
+    }
+}
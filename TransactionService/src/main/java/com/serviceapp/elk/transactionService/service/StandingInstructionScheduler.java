@@ -0,0 +1,321 @@
+package com.serviceapp.elk.transactionService.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.bankCommon.config.RecordingSummary;
+import com.example.bankCommon.service.MoneyMovementEvent;
+import com.serviceapp.elk.transactionService.model.Frequency;
+import com.serviceapp.elk.transactionService.model.StandingInstruction;
+import com.serviceapp.elk.transactionService.repo.StandingInstructionRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Executes standing instructions when they fall due.
+ * <p>
+ * Instructions due within {@code standing-instructions.horizon} are loaded
+ * into a {@link HashedTimingWheel}, and the horizon is topped up by one
+ * query every {@code standing-instructions.refill-interval} instead of the
+ * database being polled every second. When a tick fires, its instructions
+ * are read back in one query and their transfers run together on virtual
+ * threads, at most {@code standing-instructions.max-concurrent-transfers} at
+ * a time.
+ * <p>
+ * Instructions that fell due while the service was down are spread out at
+ * {@code standing-instructions.catch-up-per-second}, and each runs once for
+ * all of its missed periods, so a restart after downtime does not flood the
+ * account service.
+ * <p>
+ * A transfer that fails is retried {@code standing-instructions.retry-delay}
+ * later, with the same idempotency key, for as long as the retry falls
+ * before the next period is due and within
+ * {@code standing-instructions.retry-window} of the period's due time. The
+ * window must stay below the account service's {@code idempotency.ttl}, so
+ * that a retry still finds the keys of the legs that already went through.
+ * After that the period is given up and the instruction moves on to the
+ * next one, so a payment is never made twice in one period.
+ * <p>
+ * Each tick is emitted as a {@link DrainEvent} for Flight Recorder
+ * recordings, and its transfers as {@link MoneyMovementEvent}s.
+ */
+@Component
+public class StandingInstructionScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(StandingInstructionScheduler.class);
+
+    /**
+     * Counts ticks in recording summaries.
+     */
+    public static final RecordingSummary.EventGroup DRAIN_EVENT_GROUP = new RecordingSummary.EventGroup(
+            DrainEvent.NAME, "standing instructions", event -> "tick", null);
+
+    @Autowired
+    private StandingInstructionRepository standingInstructionRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Value("${standing-instructions.horizon:PT10M}")
+    private Duration horizon;
+
+    @Value("${standing-instructions.catch-up-per-second:20}")
+    private int catchUpPerSecond;
+
+    @Value("${standing-instructions.retry-delay:PT15M}")
+    private Duration retryDelay;
+
+    @Value("${standing-instructions.retry-window:PT12H}")
+    private Duration retryWindow;
+
+    private final HashedTimingWheel<Long> wheel;
+
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+
+    private final Semaphore transferPermits;
+
+    private final ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public StandingInstructionScheduler(@Value("${standing-instructions.tick:1s}") Duration tick,
+            @Value("${standing-instructions.wheel-size:1024}") int wheelSize,
+            @Value("${standing-instructions.max-concurrent-transfers:16}") int maxConcurrentTransfers,
+            MeterRegistry meterRegistry) {
+        this.wheel = new HashedTimingWheel<>("standing-instructions-wheel", tick.toMillis(), wheelSize,
+                ids -> virtualThreadExecutor.execute(() -> executeDue(ids)));
+        this.transferPermits = new Semaphore(maxConcurrentTransfers);
+        Gauge.builder("standing.instructions.scheduled", scheduled, Set::size)
+                .description("Standing instructions waiting in the timing wheel")
+                .register(meterRegistry);
+        Gauge.builder("standing.instructions.transfers.waiting", transferPermits, Semaphore::getQueueLength)
+                .description("Due standing instructions waiting for a transfer slot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts the wheel and loads the instructions due within the horizon,
+     * including any missed while the service was down.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        wheel.start();
+        refill();
+    }
+
+    /**
+     * Loads instructions that fall due within the horizon and are not in the
+     * wheel yet.
+     */
+    @Scheduled(fixedDelayString = "${standing-instructions.refill-interval:PT5M}",
+            initialDelayString = "${standing-instructions.refill-interval:PT5M}")
+    public void refill() {
+        LocalDateTime now = LocalDateTime.now();
+        List<StandingInstruction> due = standingInstructionRepository
+                .findByActiveTrueAndNextExecutionAtBeforeOrderByNextExecutionAt(now.plus(horizon));
+        long nowMillis = System.currentTimeMillis();
+        int overdue = 0;
+        int added = 0;
+        for (StandingInstruction instruction : due) {
+            if (!scheduled.add(instruction.getId())) {
+                continue;
+            }
+            long deadline = toMillis(instruction.getNextExecutionAt());
+            if (deadline < nowMillis) {
+                deadline = nowMillis + overdue++ * 1000L / catchUpPerSecond;
+            }
+            wheel.schedule(instruction.getId(), deadline);
+            added++;
+        }
+        if (added > 0) {
+            logger.info("Scheduled {} standing instructions, {} of them overdue", added, overdue);
+        }
+    }
+
+    /**
+     * Puts a new or changed instruction in the wheel if it falls due within
+     * the horizon; later ones are picked up by a refill.
+     *
+     * @param instruction the saved instruction
+     */
+    public void schedule(StandingInstruction instruction) {
+        LocalDateTime next = instruction.getNextExecutionAt();
+        if (instruction.isActive() && next.isBefore(LocalDateTime.now().plus(horizon))
+                && scheduled.add(instruction.getId())) {
+            wheel.schedule(instruction.getId(), toMillis(next));
+        }
+    }
+
+    /**
+     * Runs the instructions of one tick. Their IDs leave {@link #scheduled}
+     * however the tick ends, so an instruction whose tick failed is loaded
+     * again by the next refill. A transfer that ran but whose new execution
+     * time was not saved is then replayed under its idempotency key rather
+     * than paid again.
+     */
+    private void executeDue(List<Long> ids) {
+        DrainEvent event = new DrainEvent();
+        event.begin();
+        List<StandingInstruction> executed = List.of();
+        try {
+            List<StandingInstruction> instructions = standingInstructionRepository.findAllById(ids);
+            logger.info("Executing {} standing instructions", instructions.size());
+            LocalDateTime now = LocalDateTime.now();
+
+            List<CompletableFuture<StandingInstruction>> executions = new ArrayList<>(instructions.size());
+            for (StandingInstruction instruction : instructions) {
+                if (!instruction.isActive() || instruction.getNextExecutionAt().isAfter(now)) {
+                    // Cancelled or rescheduled since it was put in the wheel
+                    continue;
+                }
+                executions.add(CompletableFuture.supplyAsync(() -> execute(instruction, now), virtualThreadExecutor));
+            }
+            executed = executions.stream().map(CompletableFuture::join).toList();
+            for (StandingInstruction instruction : executed) {
+                save(instruction);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Standing instructions {} were not executed: {}", ids, e.getMessage(), e);
+            executed = List.of();
+        } finally {
+            ids.forEach(scheduled::remove);
+        }
+
+        for (StandingInstruction instruction : executed) {
+            schedule(instruction);
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.instructions = executed.size();
+            event.failed = (int) executed.stream().filter(i -> !"Success".equals(i.getLastStatus())).count();
+            event.commit();
+        }
+    }
+
+    private StandingInstruction execute(StandingInstruction instruction, LocalDateTime now) {
+        Frequency frequency = instruction.getFrequency();
+        if (instruction.getAnchorAt() == null) {
+            instruction.setAnchorAt(instruction.getNextExecutionAt());
+        }
+        LocalDateTime anchor = instruction.getAnchorAt();
+        // The due time of the period being paid, which a retry keeps in its key
+        long period = Math.max(0, frequency.periodsUntil(anchor, instruction.getNextExecutionAt()));
+        LocalDateTime dueAt = frequency.at(anchor, period);
+        String idempotencyKey = "standing-instruction:" + instruction.getId() + ":" + dueAt;
+        boolean succeeded = false;
+        try {
+            transferPermits.acquire();
+            try {
+                transactionService.transfer(instruction.getFromAccount(), instruction.getToAccount(),
+                        instruction.getAmount(), idempotencyKey).join();
+                instruction.setLastStatus("Success");
+                succeeded = true;
+            } finally {
+                transferPermits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            instruction.setLastStatus("Interrupted");
+            return instruction;
+        } catch (RuntimeException e) {
+            logger.error("Standing instruction {} failed: {}", instruction.getId(), e.getMessage());
+            instruction.setLastStatus("Failed");
+        }
+        instruction.setLastExecutedAt(now);
+        instruction.setExecutionCount(instruction.getExecutionCount() + 1);
+
+        LocalDateTime next = frequency.next(anchor, now);
+        LocalDateTime retryAt = now.plus(retryDelay);
+        if (!succeeded && retryAt.isBefore(next) && retryAt.isBefore(dueAt.plus(retryWindow))) {
+            logger.warn("Standing instruction {} will retry the period due {} at {}", instruction.getId(), dueAt,
+                    retryAt);
+            instruction.setNextExecutionAt(retryAt);
+            return instruction;
+        }
+        if (!succeeded) {
+            logger.warn("Standing instruction {} gave up the period due {}", instruction.getId(), dueAt);
+        }
+        long skipped = frequency.periodsUntil(anchor, now) - period;
+        if (skipped > 0) {
+            logger.warn("Standing instruction {} skipped {} missed periods", instruction.getId(), skipped);
+        }
+        instruction.setNextExecutionAt(next);
+        if (instruction.getEndAt() != null && next.isAfter(instruction.getEndAt())) {
+            instruction.setActive(false);
+        }
+        return instruction;
+    }
+
+    /**
+     * Saves the outcome of an execution. An instruction cancelled while its
+     * transfer ran stays cancelled, and is not scheduled again.
+     */
+    private void save(StandingInstruction instruction) {
+        int updated = standingInstructionRepository.saveExecution(instruction.getId(), instruction.getAnchorAt(),
+                instruction.getNextExecutionAt(), instruction.getLastExecutedAt(), instruction.getLastStatus(),
+                instruction.getExecutionCount(), instruction.isActive());
+        if (updated == 0) {
+            logger.info("Standing instruction {} was cancelled during its transfer", instruction.getId());
+            instruction.setActive(false);
+        }
+    }
+
+    /**
+     * Flight Recorder event for one tick, from reading its instructions back
+     * to saving their next execution times.
+     */
+    @Name(DrainEvent.NAME)
+    @Label("Standing Instruction Drain")
+    @Category({ "Banking", "Standing Instructions" })
+    @Description("Due standing instructions executed in one tick")
+    @StackTrace(false)
+    static final class DrainEvent extends Event {
+
+        static final String NAME = "bank.StandingInstructionDrain";
+
+        @Label("Instructions")
+        int instructions;
+
+        @Label("Failed")
+        int failed;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Stops the wheel and the executor during application shutdown.
+     */
+    @PreDestroy
+    public void close() {
+        logger.info("Shutting down standing instruction scheduler");
+        wheel.close();
+        virtualThreadExecutor.shutdown();
+    }
+}
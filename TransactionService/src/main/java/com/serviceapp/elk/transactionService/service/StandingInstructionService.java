@@ -0,0 +1,36 @@
+package com.serviceapp.elk.transactionService.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.serviceapp.elk.transactionService.model.StandingInstruction;
+
+/**
+ * Service interface for managing standing instructions.
+ */
+public interface StandingInstructionService {
+
+    /**
+     * @param instruction
+     * @return
+     */
+    StandingInstruction createInstruction(StandingInstruction instruction);
+
+    /**
+     * @param id
+     * @return
+     */
+    StandingInstruction getInstruction(Long id);
+
+    /**
+     * @param accountNumber
+     * @return
+     */
+    List<StandingInstruction> getInstructionsForAccount(UUID accountNumber);
+
+    /**
+     * @param id
+     * @return
+     */
+    StandingInstruction cancelInstruction(Long id);
+}
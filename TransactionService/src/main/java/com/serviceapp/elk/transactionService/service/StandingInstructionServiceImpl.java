@@ -0,0 +1,102 @@
+package com.serviceapp.elk.transactionService.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.serviceapp.elk.transactionService.model.StandingInstruction;
+import com.serviceapp.elk.transactionService.repo.StandingInstructionRepository;
+
+/**
+ * Implementation of the StandingInstructionService interface. Instructions
+ * are persisted here and executed by {@link StandingInstructionScheduler}.
+ */
+@Service
+public class StandingInstructionServiceImpl implements StandingInstructionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StandingInstructionServiceImpl.class);
+
+    @Autowired
+    private StandingInstructionRepository standingInstructionRepository;
+
+    @Autowired
+    private StandingInstructionScheduler standingInstructionScheduler;
+
+    /**
+     * Validates and saves a new standing instruction. The first execution
+     * defaults to now, and anchors the times of later ones.
+     *
+     * @param instruction The instruction to create.
+     * @return The saved instruction.
+     */
+    @Override
+    public StandingInstruction createInstruction(StandingInstruction instruction) {
+        if (instruction.getFromAccount() == null || instruction.getToAccount() == null
+                || instruction.getFromAccount().equals(instruction.getToAccount())) {
+            throw new IllegalArgumentException("Two different accounts are required");
+        }
+        if (instruction.getAmountMinor() <= 0) {
+            throw new IllegalArgumentException("Amount must be positive");
+        }
+        if (instruction.getFrequency() == null) {
+            throw new IllegalArgumentException("Frequency is required");
+        }
+        if (instruction.getNextExecutionAt() == null) {
+            instruction.setNextExecutionAt(LocalDateTime.now());
+        }
+        instruction.setAnchorAt(instruction.getNextExecutionAt());
+        instruction.setId(null);
+        instruction.setActive(true);
+        instruction.setExecutionCount(0);
+        StandingInstruction saved = standingInstructionRepository.save(instruction);
+        logger.info("Created standing instruction {} for {} from {} to {}", saved.getId(), saved.getAmount(),
+                saved.getFromAccount(), saved.getToAccount());
+        standingInstructionScheduler.schedule(saved);
+        return saved;
+    }
+
+    /**
+     * Retrieves a standing instruction by ID.
+     *
+     * @param id The instruction ID.
+     * @return The instruction.
+     */
+    @Override
+    public StandingInstruction getInstruction(Long id) {
+        return standingInstructionRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Standing instruction not found"));
+    }
+
+    /**
+     * Retrieves the standing instructions paid from an account.
+     *
+     * @param accountNumber The paying account.
+     * @return The account's instructions.
+     */
+    @Override
+    public List<StandingInstruction> getInstructionsForAccount(UUID accountNumber) {
+        return standingInstructionRepository.findByFromAccount(accountNumber);
+    }
+
+    /**
+     * Cancels a standing instruction. An execution already in the timing
+     * wheel is skipped when it fires, and one whose transfer is running does
+     * not reactivate the instruction when its outcome is saved.
+     *
+     * @param id The instruction ID.
+     * @return The cancelled instruction.
+     */
+    @Override
+    public StandingInstruction cancelInstruction(Long id) {
+        if (standingInstructionRepository.deactivate(id) == 0) {
+            throw new RuntimeException("Standing instruction not found");
+        }
+        logger.info("Cancelled standing instruction {}", id);
+        return getInstruction(id);
+    }
+}
@@ -6,8 +6,10 @@ import java.util.concurrent.CompletableFuture;
 
 import org.springframework.web.bind.annotation.PathVariable;
 
+import com.example.bankCommon.model.Money;
 import com.serviceapp.elk.transactionService.model.TransactionDetails;
 import com.serviceapp.elk.transactionService.model.TransferTransaction;
+import com.serviceapp.elk.transactionService.request.AccountTransactionTotal;
 import com.serviceapp.elk.transactionService.request.TransactionReversalRequest;
 
 import reactor.core.publisher.Flux;
@@ -19,9 +21,10 @@ public interface TransactionService {
      * @param fromAccount
      * @param toAccount
      * @param amount
+     * @param idempotencyKey
      * @return
      */
-    CompletableFuture<Object> transfer(UUID fromAccount, UUID toAccount, double amount);
+    CompletableFuture<Object> transfer(UUID fromAccount, UUID toAccount, Money amount, String idempotencyKey);
 
     /**
      * @param accountNumber
@@ -47,9 +50,23 @@ public interface TransactionService {
      */
     TransactionDetails saveTransaction(TransactionDetails transactionDetails);
 
+    /**
+     * @param transactions
+     * @return
+     */
+    int saveTransactions(List<TransactionDetails> transactions);
+
     /**
      * @param accountNumber
      * @return
      */
     List<TransactionDetails> statement(UUID accountNumber);
+
+    /**
+     * @param after
+     * @param upper
+     * @param limit
+     * @return
+     */
+    List<AccountTransactionTotal> transactionTotals(UUID after, UUID upper, int limit);
 }
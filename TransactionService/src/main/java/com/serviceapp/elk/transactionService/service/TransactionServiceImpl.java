@@ -2,27 +2,42 @@ package com.serviceapp.elk.transactionService.service;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 
-import com.serviceapp.elk.transactionService.constants.ServiceConstants;
+import com.example.bankCommon.config.TracingConfig;
+import com.example.bankCommon.model.Money;
+import com.example.bankCommon.service.MoneyMovementEvent;
 import com.serviceapp.elk.transactionService.model.TransactionDetails;
+import com.serviceapp.elk.transactionService.model.TransactionType;
+import com.serviceapp.elk.transactionService.model.TransferStatus;
 import com.serviceapp.elk.transactionService.model.TransferTransaction;
 import com.serviceapp.elk.transactionService.repo.TransactionDetailsRepository;
 import com.serviceapp.elk.transactionService.repo.TransactionSQLRepo;
 import com.serviceapp.elk.transactionService.request.AccountDetails;
+import com.serviceapp.elk.transactionService.request.AccountTransactionTotal;
 import com.serviceapp.elk.transactionService.request.DepositeRequest;
 import com.serviceapp.elk.transactionService.request.TransactionReversalRequest;
 import com.serviceapp.elk.transactionService.request.WithdrawRequest;
 
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.annotation.PreDestroy;
 import reactor.core.publisher.Mono;
 
 /**
@@ -30,6 +45,7 @@ import reactor.core.publisher.Mono;
  * This service handles operations such as transfer, transaction history retrieval,
  * and transaction reversal.
  */
+@Observed(lowCardinalityKeyValues = { "layer", "service" })
 @Service
 public class TransactionServiceImpl implements TransactionService {
 
@@ -42,19 +58,38 @@ public class TransactionServiceImpl implements TransactionService {
     private TransactionDetailsRepository transactionDetailRepo;
 
     @Autowired
-    private WebClient.Builder webClientBuilder;
+    private AccountClient accountClient;
+
+    @Autowired
+    private MoneyMovementMetrics moneyMovementMetrics;
+
+    // Runs the account legs of transfers and reversals with the caller's trace context
+    private final ExecutorService virtualThreadExecutor;
+
+    public TransactionServiceImpl(MeterRegistry meterRegistry) {
+        ExecutorService executor = ExecutorServiceMetrics.monitor(meterRegistry,
+                Executors.newVirtualThreadPerTaskExecutor(), "transaction-service");
+        this.virtualThreadExecutor = TracingConfig.propagatingContext(executor);
+    }
 
     /**
      * Transfers an amount from one account to another.
      * This operation includes a withdrawal from the source account and a deposit to the destination account.
+     * The deposit is only made once the withdrawal has succeeded, so a payer who is short of funds never
+     * leaves the payee credited.
      *
      * @param fromAccount The account number from which the amount will be withdrawn.
      * @param toAccount The account number to which the amount will be deposited.
      * @param amount The amount to transfer.
+     * @param idempotencyKey The client's idempotency key, or null. Each leg is sent to the account service
+     *                       with a key derived from it, so a retried transfer never moves money twice.
      * @return A CompletableFuture that signifies the completion of the transfer.
      */
     @Override
-    public CompletableFuture transfer(UUID fromAccount, UUID toAccount, double amount) {
+    public CompletableFuture transfer(UUID fromAccount, UUID toAccount, Money amount, String idempotencyKey) {
+        Timer.Sample sample = moneyMovementMetrics.start();
+        MoneyMovementEvent event = MoneyMovementEvent.start("transfer", fromAccount, amount);
+        String legKey = idempotencyKey != null ? idempotencyKey : UUID.randomUUID().toString();
         WithdrawRequest withdrawRequest = new WithdrawRequest(fromAccount, amount);
         DepositeRequest depositRequest = new DepositeRequest(toAccount, amount);
 
@@ -63,53 +98,55 @@ public class TransactionServiceImpl implements TransactionService {
         transaction.setToAccount(toAccount);
         transaction.setAmount(amount);
         transaction.setTransactionDate(new Date());
-        transaction.setTransactionType("account-to-account");
-        transaction.setStatus("pending");
+        transaction.setTransactionType(TransactionType.ACCOUNT_TO_ACCOUNT);
+        transaction.setStatus(TransferStatus.PENDING);
 
         logger.info("Initiating transfer of {} from {} to {}", amount, fromAccount, toAccount);
 
         CompletableFuture<Void> withdrawFuture = CompletableFuture.runAsync(() -> {
+            MoneyMovementEvent leg = MoneyMovementEvent.start("transferWithdraw", fromAccount, amount);
+            String outcome = "error";
             try {
-                webClientBuilder.build()
-                        .put()
-                        .uri(ServiceConstants.WITHDRAW_ENDPOINT, fromAccount)
-                        .bodyValue(withdrawRequest)
-                        .retrieve()
-                        .bodyToMono(Void.class)
-                        .block();
+                accountClient.withdraw(fromAccount, withdrawRequest, "transfer:" + legKey + ":withdraw");
+                outcome = "success";
                 logger.info("Withdrawal from account {} successful", fromAccount);
             } catch (Exception e) {
                 logger.error("Withdrawal failed for account {}: {}", fromAccount, e.getMessage());
                 throw new RuntimeException("Withdrawal failed", e);
+            } finally {
+                leg.finish(outcome);
             }
-        });
+        }, virtualThreadExecutor);
 
-        CompletableFuture<Void> depositFuture = CompletableFuture.runAsync(() -> {
+        CompletableFuture<Void> depositFuture = withdrawFuture.thenRunAsync(() -> {
+            MoneyMovementEvent leg = MoneyMovementEvent.start("transferDeposit", toAccount, amount);
+            String outcome = "error";
             try {
-                webClientBuilder.build()
-                        .put()
-                        .uri(ServiceConstants.DEPOSIT_ENDPOINT, toAccount)
-                        .bodyValue(depositRequest)
-                        .retrieve()
-                        .bodyToMono(Void.class)
-                        .block();
+                accountClient.deposit(toAccount, depositRequest, "transfer:" + legKey + ":deposit");
+                outcome = "success";
                 logger.info("Deposit to account {} successful", toAccount);
             } catch (Exception e) {
                 logger.error("Deposit failed for account {}: {}", toAccount, e.getMessage());
                 throw new RuntimeException("Deposit failed", e);
+            } finally {
+                leg.finish(outcome);
             }
-        });
+        }, virtualThreadExecutor);
 
-        return withdrawFuture.thenCombine(depositFuture, (withdrawResult, depositResult) -> {
-            transaction.setStatus("success");
+        return depositFuture.thenApply(depositResult -> {
+            transaction.setStatus(TransferStatus.SUCCESS);
             transactionSQLRepo.save(transaction);
             logger.info("Transfer of {} from account {} to account {} successful", amount, fromAccount, toAccount);
             return null;
         }).exceptionally(ex -> {
-            transaction.setStatus("failed");
+            transaction.setStatus(TransferStatus.FAILED);
             transactionSQLRepo.save(transaction);
             logger.error("Transfer failed for transaction from {} to {}: {}", fromAccount, toAccount, ex.getMessage());
             throw new RuntimeException("Transfer failed", ex);
+        }).whenComplete((result, ex) -> {
+            String outcome = ex == null ? "success" : moneyMovementMetrics.outcomeOf(ex);
+            moneyMovementMetrics.stop(sample, "transfer", outcome);
+            event.finish(outcome);
         });
     }
 
@@ -144,7 +181,7 @@ public class TransactionServiceImpl implements TransactionService {
     @Transactional
     @Override
     public Mono<Void> reverseTransaction(TransactionReversalRequest reversalRequest) {
-        return Mono.fromRunnable(() -> {
+        return moneyMovementMetrics.record("reverseTransaction", Mono.fromRunnable(() -> {
             try {
                 TransferTransaction originalTransaction = transactionSQLRepo.findById(reversalRequest.getTransactionId())
                         .orElseThrow(() -> new RuntimeException("Transaction not found"));
@@ -153,46 +190,31 @@ public class TransactionServiceImpl implements TransactionService {
                     throw new RuntimeException("Transaction already reversed");
                 }
 
-                CompletableFuture<AccountDetails> fromAccountFuture = CompletableFuture.supplyAsync(() -> {
-                    return webClientBuilder.build()
-                            .get()
-                            .uri(ServiceConstants.GET_ACCOUNT_DETAILS_ENDPOINT, originalTransaction.getFromAccount())
-                            .retrieve()
-                            .bodyToMono(AccountDetails.class)
-                            .block();
-                });
-
-                CompletableFuture<AccountDetails> toAccountFuture = CompletableFuture.supplyAsync(() -> {
-                    return webClientBuilder.build()
-                            .get()
-                            .uri(ServiceConstants.GET_ACCOUNT_DETAILS_ENDPOINT, originalTransaction.getToAccount())
-                            .retrieve()
-                            .bodyToMono(AccountDetails.class)
-                            .block();
-                });
-
-                AccountDetails fromAccount = fromAccountFuture.join();
-                AccountDetails toAccount = toAccountFuture.join();
+                // Both accounts are fetched with a single batch lookup
+                Map<String, AccountDetails> accounts = accountClient
+                        .getAccounts(List.of(originalTransaction.getFromAccount(), originalTransaction.getToAccount()))
+                        .stream()
+                        .collect(Collectors.toMap(AccountDetails::getAccountNumber, Function.identity()));
 
+                AccountDetails fromAccount = accounts.get(originalTransaction.getFromAccount().toString());
+                AccountDetails toAccount = accounts.get(originalTransaction.getToAccount().toString());
+                if (fromAccount == null || toAccount == null) {
+                    throw new RuntimeException("Account not found for transaction");
+                }
+
+                // Keys derived from the transaction make a retried reversal move money only once
+                String legKey = "reversal:" + originalTransaction.getId();
                 CompletableFuture<Void> debitToAccountFuture = CompletableFuture.runAsync(() -> {
-                    webClientBuilder.build()
-                            .put()
-                            .uri(ServiceConstants.WITHDRAW_ENDPOINT, originalTransaction.getToAccount())
-                            .bodyValue(new WithdrawRequest(UUID.fromString(toAccount.getAccountNumber()), originalTransaction.getAmount()))
-                            .retrieve()
-                            .bodyToMono(Void.class)
-                            .block();
-                });
+                    accountClient.withdraw(originalTransaction.getToAccount(),
+                            new WithdrawRequest(UUID.fromString(toAccount.getAccountNumber()), originalTransaction.getAmount()),
+                            legKey + ":withdraw");
+                }, virtualThreadExecutor);
 
                 CompletableFuture<Void> creditFromAccountFuture = CompletableFuture.runAsync(() -> {
-                    webClientBuilder.build()
-                            .put()
-                            .uri(ServiceConstants.DEPOSIT_ENDPOINT, originalTransaction.getFromAccount())
-                            .bodyValue(new DepositeRequest(UUID.fromString(fromAccount.getAccountNumber()), originalTransaction.getAmount()))
-                            .retrieve()
-                            .bodyToMono(Void.class)
-                            .block();
-                });
+                    accountClient.deposit(originalTransaction.getFromAccount(),
+                            new DepositeRequest(UUID.fromString(fromAccount.getAccountNumber()), originalTransaction.getAmount()),
+                            legKey + ":deposit");
+                }, virtualThreadExecutor);
 
                 CompletableFuture.allOf(debitToAccountFuture, creditFromAccountFuture).join();
 
@@ -205,7 +227,7 @@ public class TransactionServiceImpl implements TransactionService {
                 logger.error("Error reversing transaction: {}", e.getMessage(), e);
                 throw new RuntimeException("Error reversing transaction", e);
             }
-        });
+        }));
     }
 
     /**
@@ -217,7 +239,22 @@ public class TransactionServiceImpl implements TransactionService {
     @Override
     public TransactionDetails saveTransaction(TransactionDetails transactionDetails) {
         logger.info("Saving transaction: {}", transactionDetails);
-        return transactionDetailRepo.save(transactionDetails);
+        return moneyMovementMetrics.record("saveTransaction", transactionDetails.getAccountNumber(),
+                transactionDetails.getAmount(), () -> transactionDetailRepo.save(transactionDetails));
+    }
+
+    /**
+     * Saves many transactions in one database transaction. Inserts are sent
+     * to the database in JDBC batches.
+     *
+     * @param transactions The transactions to save.
+     * @return The number of transactions saved.
+     */
+    @Transactional
+    @Override
+    public int saveTransactions(List<TransactionDetails> transactions) {
+        logger.info("Saving {} transactions", transactions.size());
+        return transactionDetailRepo.saveAll(transactions).size();
     }
 
     /**
@@ -230,4 +267,30 @@ public class TransactionServiceImpl implements TransactionService {
     public List<TransactionDetails> statement(UUID accountNumber) {
         return transactionDetailRepo.findByAccountNumber(accountNumber);
     }
+
+    /**
+     * Retrieves net transaction totals per account for a slice of the account key
+     * space, ordered by account number. Used by the balance reconciliation job
+     * in the account service to page through all accounts with keyset
+     * pagination.
+     *
+     * @param after The exclusive lower bound of the account number range.
+     * @param upper The inclusive upper bound of the account number range.
+     * @param limit The maximum number of totals to return.
+     * @return A list of AccountTransactionTotal objects ordered by account number.
+     */
+    @Override
+    public List<AccountTransactionTotal> transactionTotals(UUID after, UUID upper, int limit) {
+        logger.debug("Fetching transaction totals in range ({}, {}] limit {}", after, upper, limit);
+        return transactionDetailRepo.findTotalsInRange(after, upper, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Shuts down the virtual thread executor during application shutdown.
+     */
+    @PreDestroy
+    public void closeVirtualThreadExecutor() {
+        logger.info("Shutting down transaction service executor");
+        virtualThreadExecutor.shutdown();
+    }
 }
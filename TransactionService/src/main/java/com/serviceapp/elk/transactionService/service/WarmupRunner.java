@@ -0,0 +1,210 @@
+package com.serviceapp.elk.transactionService.service;
+
+import java.net.URI;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.serviceapp.elk.transactionService.constants.ServiceConstants;
+import com.serviceapp.elk.transactionService.repo.TransactionSQLRepo;
+import com.zaxxer.hikari.HikariDataSource;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Warms the service up before it reports ready.
+ * <p>
+ * Spring Boot marks the application as accepting traffic only after every
+ * {@link ApplicationReadyEvent} listener has returned, so the readiness
+ * probe ({@code /actuator/health/readiness}) reports
+ * {@code OUT_OF_SERVICE} while this runs. The warmup opens every connection
+ * of the Hikari pool, opens pooled WebClient connections to the account
+ * service that transfer legs are sent over, and then sends history and
+ * statement reads for the accounts of up to {@code warmup.sample-accounts}
+ * recent transactions to this service's own endpoints over the loopback
+ * interface, in both JSON and Smile. That takes the request path, the
+ * codecs, the Hibernate query plans and the JIT through the transaction
+ * reads before real traffic arrives.
+ * <p>
+ * All of it must finish within {@code warmup.budget}; whatever is left is
+ * abandoned and the service becomes ready anyway. The lookups use account
+ * numbers of existing accounts, so they succeed like real traffic and leave
+ * the circuit breakers' windows as real traffic would; no breaker is reset.
+ * Failures, such as the account service not being up yet, are logged and
+ * skipped.
+ */
+@Component
+public class WarmupRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private WebClient.Builder webClientBuilder;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private TransactionSQLRepo transactionSQLRepo;
+
+    @Value("${warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${warmup.budget:30s}")
+    private Duration budget;
+
+    @Value("${warmup.iterations:300}")
+    private int iterations;
+
+    @Value("${warmup.concurrency:8}")
+    private int concurrency;
+
+    @Value("${warmup.sample-accounts:100}")
+    private int sampleAccounts;
+
+    /**
+     * Runs the warmup on a virtual thread and waits for it up to the budget.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        long deadline = started + budget.toNanos();
+        Thread warmup = Thread.ofVirtual().name("warmup").start(() -> runWarmup(deadline));
+        try {
+            if (warmup.join(budget)) {
+                logger.info("Warmup finished in {} ms", (System.nanoTime() - started) / 1_000_000);
+            } else {
+                warmup.interrupt();
+                logger.warn("Warmup did not finish within {}; accepting traffic anyway", budget);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            warmup.interrupt();
+        }
+    }
+
+    private void runWarmup(long deadline) {
+        step("database connections", this::openDatabaseConnections);
+        step("account service connections", () -> openConnections(
+                URI.create(ServiceConstants.ACCOUNT_SERVICE_BASE_URL), deadline));
+        step("transaction reads", () -> {
+            List<UUID> accounts = transactionSQLRepo.findRecentFromAccounts(PageRequest.of(0, sampleAccounts))
+                    .stream()
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+            if (accounts.isEmpty()) {
+                logger.info("No transactions to read during warmup");
+                return;
+            }
+            String base = "http://localhost:" + environment.getRequiredProperty("local.server.port")
+                    + "/api/transaction";
+            call(deadline, i -> get(i, base + "/history/" + accounts.get(i % accounts.size())));
+            call(deadline, i -> get(i, base + "/statement/" + accounts.get(i % accounts.size())));
+        });
+    }
+
+    private void step(String name, Runnable action) {
+        long started = System.nanoTime();
+        try {
+            action.run();
+            logger.info("Warmed up {} in {} ms", name, (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            logger.warn("Warmup of {} failed: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * Borrows every connection of the pool at once, so none is opened while
+     * serving a request.
+     */
+    private void openDatabaseConnections() {
+        List<Connection> connections = new ArrayList<>();
+        try {
+            int size = dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize()
+                    : 1;
+            for (int i = 0; i < size; i++) {
+                connections.add(dataSource.getConnection());
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    logger.debug("Could not return warmup connection: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends concurrent health checks to another service, which leaves that
+     * many open connections in the WebClient pool for its host and port.
+     */
+    private void openConnections(URI service, long deadline) {
+        String health = UriComponentsBuilder.fromUri(service).replacePath("/actuator/health").replaceQuery(null)
+                .toUriString();
+        Flux.range(0, concurrency)
+                .flatMap(i -> webClientBuilder.build().get().uri(health).retrieve().toBodilessEntity(), concurrency)
+                .then()
+                .block(remaining(deadline));
+    }
+
+    /**
+     * Sends {@code warmup.iterations} requests, {@code warmup.concurrency} at
+     * a time. Error responses, such as for an account closed since it was
+     * sampled, are ignored.
+     */
+    private void call(long deadline, IntFunction<Mono<?>> request) {
+        Flux.range(0, iterations)
+                .flatMap(i -> request.apply(i).onErrorResume(e -> Mono.empty()), concurrency)
+                .then()
+                .block(remaining(deadline));
+    }
+
+    private Mono<?> get(int i, String uri) {
+        WebClient.RequestHeadersSpec<?> request = webClientBuilder.build().get().uri(uri);
+        // Even requests use JSON like external clients, odd ones Smile like the other services
+        if (i % 2 == 0) {
+            request = request.accept(MediaType.APPLICATION_JSON);
+        }
+        return request.retrieve().toBodilessEntity();
+    }
+
+    private static Duration remaining(long deadline) {
+        return Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+    }
+}
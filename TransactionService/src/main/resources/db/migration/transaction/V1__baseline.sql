@@ -0,0 +1,25 @@
+-- Schema as created by Hibernate before migrations were introduced. IF NOT
+-- EXISTS keeps this a no-op on databases that already have it.
+
+CREATE TABLE IF NOT EXISTS transaction_details (
+    id INT NOT NULL AUTO_INCREMENT,
+    account_number BINARY(16),
+    amount FLOAT(53) NOT NULL,
+    status VARCHAR(255),
+    transaction_date DATETIME(6),
+    transaction_type VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS transfer_transaction (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    amount FLOAT(53) NOT NULL,
+    from_account BINARY(16),
+    is_reversed BIT NOT NULL,
+    reversal_reason VARCHAR(255),
+    status VARCHAR(255),
+    to_account BINARY(16),
+    transaction_date DATETIME(6),
+    transaction_type VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
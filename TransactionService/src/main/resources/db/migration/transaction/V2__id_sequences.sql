@@ -0,0 +1,19 @@
+-- Transaction ids come from pooled sequences with an allocation size of 50.
+-- MySQL has no sequences, so Hibernate keeps each next value in a one-row
+-- table. Each starts a full block above the highest existing id.
+
+CREATE TABLE transaction_details_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO transaction_details_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM transaction_details;
+
+CREATE TABLE transfer_transaction_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO transfer_transaction_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM transfer_transaction;
+
+ALTER TABLE transaction_details MODIFY id BIGINT NOT NULL;
+
+ALTER TABLE transfer_transaction MODIFY id BIGINT NOT NULL;
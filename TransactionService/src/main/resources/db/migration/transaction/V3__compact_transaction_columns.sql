@@ -0,0 +1,70 @@
+-- Amounts move from FLOAT(53) major units to BIGINT minor units, and types and
+-- statuses from labels to the SMALLINT codes of TransactionType,
+-- TransactionStatus and TransferStatus. Labels are matched case-insensitively;
+-- a label no enum knows becomes NULL.
+
+ALTER TABLE transaction_details
+    ADD COLUMN amount_minor BIGINT,
+    ADD COLUMN transaction_type_code SMALLINT,
+    ADD COLUMN status_code SMALLINT;
+
+UPDATE transaction_details SET
+    amount_minor = ROUND(amount * 100),
+    transaction_type_code = CASE LOWER(transaction_type)
+        WHEN 'deposit' THEN 1
+        WHEN 'withdraw' THEN 2
+        WHEN 'account-to-account' THEN 3
+        WHEN 'account_to_account' THEN 3
+        WHEN 'interest' THEN 4
+    END,
+    status_code = CASE LOWER(status)
+        WHEN 'pending' THEN 1
+        WHEN 'success' THEN 2
+        WHEN 'failed' THEN 3
+    END;
+
+ALTER TABLE transaction_details
+    DROP COLUMN amount,
+    DROP COLUMN transaction_type,
+    DROP COLUMN status;
+
+ALTER TABLE transaction_details
+    MODIFY amount_minor BIGINT NOT NULL,
+    RENAME COLUMN transaction_type_code TO transaction_type,
+    RENAME COLUMN status_code TO status;
+
+CREATE INDEX idx_transaction_details_account_number ON transaction_details (account_number);
+
+ALTER TABLE transfer_transaction
+    ADD COLUMN amount_minor BIGINT,
+    ADD COLUMN transaction_type_code SMALLINT,
+    ADD COLUMN status_code SMALLINT;
+
+UPDATE transfer_transaction SET
+    amount_minor = ROUND(amount * 100),
+    transaction_type_code = CASE LOWER(transaction_type)
+        WHEN 'deposit' THEN 1
+        WHEN 'withdraw' THEN 2
+        WHEN 'account-to-account' THEN 3
+        WHEN 'account_to_account' THEN 3
+        WHEN 'interest' THEN 4
+    END,
+    status_code = CASE LOWER(status)
+        WHEN 'pending' THEN 1
+        WHEN 'success' THEN 2
+        WHEN 'failed' THEN 3
+    END;
+
+ALTER TABLE transfer_transaction
+    DROP COLUMN amount,
+    DROP COLUMN transaction_type,
+    DROP COLUMN status;
+
+ALTER TABLE transfer_transaction
+    MODIFY amount_minor BIGINT NOT NULL,
+    RENAME COLUMN transaction_type_code TO transaction_type,
+    RENAME COLUMN status_code TO status;
+
+CREATE INDEX idx_transfer_transaction_from_account ON transfer_transaction (from_account);
+
+CREATE INDEX idx_transfer_transaction_to_account ON transfer_transaction (to_account);
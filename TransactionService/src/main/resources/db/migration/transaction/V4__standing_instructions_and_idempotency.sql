@@ -0,0 +1,38 @@
+-- Tables of standing instructions and of Idempotency-Key handling.
+
+CREATE TABLE standing_instructions (
+    id BIGINT NOT NULL,
+    active BIT NOT NULL,
+    amount_minor BIGINT NOT NULL,
+    end_at DATETIME(6),
+    execution_count BIGINT NOT NULL,
+    frequency ENUM('DAILY', 'MONTHLY', 'WEEKLY'),
+    from_account BINARY(16),
+    last_executed_at DATETIME(6),
+    last_status VARCHAR(255),
+    next_execution_at DATETIME(6),
+    to_account BINARY(16),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_standing_instructions_due ON standing_instructions (active, next_execution_at);
+
+CREATE INDEX idx_standing_instructions_from_account ON standing_instructions (from_account);
+
+CREATE TABLE standing_instructions_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO standing_instructions_seq (next_val) VALUES (1);
+
+CREATE TABLE idempotency_keys (
+    id VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    expires_at DATETIME(6),
+    fingerprint VARCHAR(255),
+    response_body TEXT,
+    response_status INT NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
@@ -0,0 +1,7 @@
+-- Execution times are counted in periods from the first execution. Existing
+-- instructions are anchored on their next execution, the earliest time
+-- still known.
+
+ALTER TABLE standing_instructions ADD COLUMN anchor_at DATETIME(6);
+
+UPDATE standing_instructions SET anchor_at = next_execution_at;
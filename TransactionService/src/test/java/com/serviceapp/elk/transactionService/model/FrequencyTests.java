@@ -0,0 +1,67 @@
+package com.serviceapp.elk.transactionService.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+class FrequencyTests {
+
+    private final LocalDateTime endOfJanuary = LocalDateTime.of(2026, 1, 31, 9, 0);
+
+    @Test
+    void monthlyFromTheEndOfAMonthDoesNotDrift() {
+        LocalDateTime february = Frequency.MONTHLY.next(endOfJanuary, endOfJanuary);
+        LocalDateTime march = Frequency.MONTHLY.next(endOfJanuary, february);
+        LocalDateTime april = Frequency.MONTHLY.next(endOfJanuary, march);
+
+        assertThat(february).isEqualTo(LocalDateTime.of(2026, 2, 28, 9, 0));
+        assertThat(march).isEqualTo(LocalDateTime.of(2026, 3, 31, 9, 0));
+        assertThat(april).isEqualTo(LocalDateTime.of(2026, 4, 30, 9, 0));
+    }
+
+    @Test
+    void monthlyRunsOnTheLastDayOfEveryShorterMonth() {
+        LocalDateTime anchor = LocalDateTime.of(2024, 1, 31, 9, 0);
+        LocalDateTime execution = anchor;
+        for (int month = 1; month <= 36; month++) {
+            execution = Frequency.MONTHLY.next(anchor, execution);
+            YearMonth expected = YearMonth.from(anchor).plusMonths(month);
+            assertThat(execution).isEqualTo(expected.atEndOfMonth().atTime(9, 0));
+        }
+    }
+
+    @Test
+    void nextIsStrictlyAfterTheGivenTime() {
+        LocalDateTime march = LocalDateTime.of(2026, 3, 31, 9, 0);
+
+        assertThat(Frequency.MONTHLY.next(endOfJanuary, march.minusNanos(1))).isEqualTo(march);
+        assertThat(Frequency.MONTHLY.next(endOfJanuary, march)).isEqualTo(LocalDateTime.of(2026, 4, 30, 9, 0));
+        assertThat(Frequency.MONTHLY.next(endOfJanuary, endOfJanuary.minusDays(3))).isEqualTo(endOfJanuary);
+    }
+
+    @Test
+    void nextSkipsMissedPeriods() {
+        LocalDateTime anchor = LocalDateTime.of(2026, 10, 1, 6, 30);
+        LocalDateTime muchLater = anchor.plusDays(10).plusHours(1);
+
+        assertThat(Frequency.DAILY.next(anchor, muchLater)).isEqualTo(anchor.plusDays(11));
+        assertThat(Frequency.WEEKLY.next(anchor, muchLater)).isEqualTo(anchor.plusWeeks(2));
+        assertThat(Frequency.MONTHLY.next(anchor, muchLater)).isEqualTo(anchor.plusMonths(1));
+    }
+
+    @Test
+    void periodsUntilCountsWholePeriodsFromTheAnchor() {
+        LocalDateTime february = LocalDateTime.of(2026, 2, 28, 9, 0);
+
+        assertThat(Frequency.MONTHLY.periodsUntil(endOfJanuary, endOfJanuary.minusNanos(1))).isEqualTo(-1);
+        assertThat(Frequency.MONTHLY.periodsUntil(endOfJanuary, endOfJanuary)).isZero();
+        assertThat(Frequency.MONTHLY.periodsUntil(endOfJanuary, february.minusMinutes(1))).isZero();
+        assertThat(Frequency.MONTHLY.periodsUntil(endOfJanuary, february)).isEqualTo(1);
+        assertThat(Frequency.MONTHLY.periodsUntil(endOfJanuary, LocalDateTime.of(2027, 1, 31, 9, 0)))
+                .isEqualTo(12);
+        assertThat(Frequency.WEEKLY.periodsUntil(endOfJanuary, endOfJanuary.plusDays(20))).isEqualTo(2);
+    }
+}
@@ -0,0 +1,89 @@
+package com.serviceapp.elk.transactionService.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class HashedTimingWheelTests {
+
+    private static final long TICK_MILLIS = 10;
+
+    private final Map<String, Long> firedAt = new ConcurrentHashMap<>();
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    private CountDownLatch expected;
+
+    // Four buckets of 10 ms, so deadlines beyond 40 ms need more than one round
+    private final HashedTimingWheel<String> wheel = new HashedTimingWheel<>("test-wheel", TICK_MILLIS, 4, items -> {
+        long now = System.currentTimeMillis();
+        batches.add(List.copyOf(items));
+        items.forEach(item -> {
+            firedAt.put(item, now);
+            expected.countDown();
+        });
+    });
+
+    @AfterEach
+    void close() {
+        wheel.close();
+    }
+
+    @Test
+    void itemsExpireNotBeforeTheirDeadlineEvenAfterSeveralRounds() throws InterruptedException {
+        expected = new CountDownLatch(4);
+        wheel.start();
+        long start = System.currentTimeMillis();
+        Map<String, Long> deadlines = Map.of("first", start + 25, "second", start + 45, "rounds", start + 135,
+                "same-bucket-next-round", start + 65);
+        deadlines.forEach(wheel::schedule);
+
+        assertThat(expected.await(5, TimeUnit.SECONDS)).isTrue();
+        deadlines.forEach((item, deadline) -> assertThat(firedAt.get(item)).as(item)
+                .isGreaterThanOrEqualTo(deadline)
+                .isLessThan(deadline + 1000));
+        assertThat(firedAt.get("first")).isLessThan(firedAt.get("second"));
+        assertThat(firedAt.get("same-bucket-next-round")).isLessThan(firedAt.get("rounds"));
+    }
+
+    @Test
+    void pastDeadlinesExpireOnTheNextTick() throws InterruptedException {
+        expected = new CountDownLatch(1);
+        wheel.start();
+        long start = System.currentTimeMillis();
+        wheel.schedule("overdue", start - 60_000);
+
+        assertThat(expected.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(firedAt.get("overdue") - start).isLessThan(1000);
+    }
+
+    @Test
+    void itemsDueInTheSameTickAreHandedOverTogether() throws InterruptedException {
+        expected = new CountDownLatch(2);
+        wheel.start();
+        long deadline = System.currentTimeMillis() + 55;
+        wheel.schedule("a", deadline);
+        wheel.schedule("b", deadline);
+
+        assertThat(expected.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches).containsExactly(List.of("a", "b"));
+    }
+
+    @Test
+    void itemsScheduledBeforeStartAreKept() throws InterruptedException {
+        expected = new CountDownLatch(1);
+        wheel.schedule("early", System.currentTimeMillis() + 20);
+        wheel.start();
+
+        assertThat(expected.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(firedAt).containsKey("early");
+    }
+}
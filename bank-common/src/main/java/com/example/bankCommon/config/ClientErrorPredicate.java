@@ -0,0 +1,43 @@
+package com.example.bankCommon.config;
+
+import java.util.function.Predicate;
+
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Matches failures caused by a request the other side refused with a 4xx
+ * status, such as a withdrawal without enough funds, rather than by a
+ * service that is down. Circuit breakers ignore them when it is set as
+ * {@code resilience4j.circuitbreaker.configs.default.ignoreExceptionPredicate},
+ * and fallbacks pass their status on instead of answering 503.
+ */
+public class ClientErrorPredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable t) {
+        return clientErrorStatus(t) != null;
+    }
+
+    /**
+     * The 4xx status a failure or one of its causes carries, if any.
+     *
+     * @param t the failure
+     * @return the status, or null if the failure is not a client error
+     */
+    public static HttpStatusCode clientErrorStatus(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            HttpStatusCode status = null;
+            if (cause instanceof ErrorResponse errorResponse) {
+                status = errorResponse.getStatusCode();
+            } else if (cause instanceof WebClientResponseException responseException) {
+                status = responseException.getStatusCode();
+            }
+            if (status != null && status.is4xxClientError()) {
+                return status;
+            }
+        }
+        return null;
+    }
+}
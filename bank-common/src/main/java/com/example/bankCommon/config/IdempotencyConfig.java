@@ -0,0 +1,24 @@
+package com.example.bankCommon.config;
+
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.example.bankCommon.model.IdempotencyRecord;
+import com.example.bankCommon.repository.IdempotencyRecordRepository;
+import com.example.bankCommon.service.IdempotencyServiceImpl;
+
+/**
+ * Support for {@code Idempotency-Key} headers, for a service whose database
+ * has the {@code idempotency_keys} table. Importing it from the application
+ * class adds {@link IdempotencyRecord} to the entities Hibernate manages,
+ * next to the service's own, and registers its repository and
+ * {@link IdempotencyServiceImpl}.
+ */
+@Configuration
+@AutoConfigurationPackage(basePackageClasses = IdempotencyRecord.class)
+@EnableJpaRepositories(basePackageClasses = IdempotencyRecordRepository.class)
+@Import(IdempotencyServiceImpl.class)
+public class IdempotencyConfig {
+}
@@ -0,0 +1,72 @@
+package com.example.bankCommon.config;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import net.ttddyy.observation.tracing.QueryContext;
+
+/**
+ * Emits a Flight Recorder event for every JDBC statement, timed by the query
+ * observations of datasource-micrometer. Its stack trace shows which code ran
+ * the statement. The SQL is the prepared statement text, so it holds
+ * placeholders and no values. Nothing is done when no recording is running.
+ */
+@Component
+public class JdbcEventRecorder implements ObservationHandler<QueryContext> {
+
+    private static final int MAX_SQL_LENGTH = 500;
+
+    @Override
+    public void onStart(QueryContext context) {
+        JdbcEvent event = new JdbcEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            context.put(JdbcEvent.class, event);
+        }
+    }
+
+    @Override
+    public void onStop(QueryContext context) {
+        JdbcEvent event = context.get(JdbcEvent.class);
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            String sql = String.join("; ", context.getQueries());
+            event.dataSource = context.getDataSourceName();
+            event.sql = sql.length() > MAX_SQL_LENGTH ? sql.substring(0, MAX_SQL_LENGTH) + "..." : sql;
+            event.failed = context.getError() != null;
+            event.commit();
+        }
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof QueryContext;
+    }
+
+    @Name(JdbcEvent.NAME)
+    @Label("JDBC Statement")
+    @Category({ "Banking", "Database" })
+    @Description("A JDBC statement or batch")
+    static final class JdbcEvent extends Event {
+
+        static final String NAME = "bank.Jdbc";
+
+        @Label("Data Source")
+        String dataSource;
+
+        @Label("SQL")
+        String sql;
+
+        @Label("Failed")
+        boolean failed;
+    }
+}
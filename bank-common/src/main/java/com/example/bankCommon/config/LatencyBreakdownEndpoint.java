@@ -0,0 +1,189 @@
+package com.example.bankCommon.config;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+/**
+ * Actuator endpoint {@code /actuator/latencybreakdown} that splits the time
+ * of each HTTP endpoint into database, network, serialization and
+ * application time, averaged over the requests seen since startup or the
+ * last reset.
+ * <p>
+ * It works as a span processor: every span is attributed to the local root
+ * span of its request, and when the root ends the request's totals are
+ * added to the endpoint's figures.
+ * <ul>
+ * <li>database: JDBC query and result-set spans</li>
+ * <li>network: outgoing HTTP client spans, including retries</li>
+ * <li>serialization: time of the request outside the controller method,
+ * which is mostly reading and writing the bodies; database and network time
+ * after a reactive controller method returned is not counted here</li>
+ * <li>application: the rest</li>
+ * </ul>
+ * Spans that run in parallel are added up, so for endpoints that fan out the
+ * parts can exceed the total.
+ */
+@Component
+@Endpoint(id = "latencybreakdown")
+public class LatencyBreakdownEndpoint implements SpanProcessor {
+
+    private static final AttributeKey<String> LAYER = AttributeKey.stringKey("layer");
+
+    private static final AttributeKey<String> DATASOURCE = AttributeKey.stringKey("jdbc.datasource.name");
+
+    private static final AttributeKey<String> HTTP_URL = AttributeKey.stringKey("http.url");
+
+    private final Map<String, String> localRoots = new ConcurrentHashMap<>();
+
+    private final Map<String, RequestTimes> openRequests = new ConcurrentHashMap<>();
+
+    private final Map<String, EndpointTimes> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Per-endpoint figures, in milliseconds.
+     */
+    public record Breakdown(long requests, double meanTotalMs, double maxTotalMs, double meanDatabaseMs,
+            double meanNetworkMs, double meanSerializationMs, double meanApplicationMs) {
+    }
+
+    @ReadOperation
+    public Map<String, Breakdown> breakdown() {
+        Map<String, Breakdown> result = new TreeMap<>();
+        endpoints.forEach((endpoint, times) -> result.put(endpoint, times.toBreakdown()));
+        return result;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        endpoints.clear();
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        String spanId = span.getSpanContext().getSpanId();
+        SpanContext parent = span.getParentSpanContext();
+        String root = parent.isValid() && !parent.isRemote() ? localRoots.get(parent.getSpanId()) : null;
+        if (root == null) {
+            if (span.getKind() != SpanKind.SERVER) {
+                return;
+            }
+            root = spanId;
+            openRequests.put(root, new RequestTimes());
+        }
+        localRoots.put(spanId, root);
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return true;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        String spanId = span.getSpanContext().getSpanId();
+        String root = localRoots.remove(spanId);
+        if (root == null) {
+            return;
+        }
+        if (root.equals(spanId)) {
+            RequestTimes request = openRequests.remove(root);
+            if (request != null) {
+                endpoints.computeIfAbsent(span.getName(), name -> new EndpointTimes())
+                        .add(span.getLatencyNanos(), request);
+            }
+            return;
+        }
+        RequestTimes request = openRequests.get(root);
+        if (request == null) {
+            return;
+        }
+        long duration = span.getLatencyNanos();
+        long start = span.toSpanData().getStartEpochNanos();
+        String name = span.getName();
+        if (span.getAttribute(DATASOURCE) != null && ("query".equals(name) || "result-set".equals(name))) {
+            request.database.add(duration);
+            request.addIfAfterController(start, duration);
+        } else if (span.getKind() == SpanKind.CLIENT && span.getAttribute(HTTP_URL) != null) {
+            request.network.add(duration);
+            request.addIfAfterController(start, duration);
+        } else if ("controller".equals(span.getAttribute(LAYER))) {
+            request.controller.add(duration);
+            request.controllerEnd = start + duration;
+        } else if ("service".equals(span.getAttribute(LAYER))) {
+            request.addIfAfterController(start, duration);
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    private static final class RequestTimes {
+        final LongAdder database = new LongAdder();
+        final LongAdder network = new LongAdder();
+        final LongAdder controller = new LongAdder();
+        final LongAdder afterController = new LongAdder();
+        volatile long controllerEnd;
+
+        void addIfAfterController(long start, long duration) {
+            long end = controllerEnd;
+            if (end != 0 && start >= end) {
+                afterController.add(duration);
+            }
+        }
+    }
+
+    private static final class EndpointTimes {
+        final LongAdder requests = new LongAdder();
+        final LongAdder total = new LongAdder();
+        final LongAccumulator maxTotal = new LongAccumulator(Math::max, 0);
+        final LongAdder database = new LongAdder();
+        final LongAdder network = new LongAdder();
+        final LongAdder serialization = new LongAdder();
+        final LongAdder application = new LongAdder();
+
+        void add(long totalNanos, RequestTimes request) {
+            long database = request.database.sum();
+            long network = request.network.sum();
+            long controller = request.controller.sum();
+            long serialization = controller > 0
+                    ? Math.max(0, totalNanos - controller - request.afterController.sum())
+                    : 0;
+            requests.increment();
+            total.add(totalNanos);
+            maxTotal.accumulate(totalNanos);
+            this.database.add(database);
+            this.network.add(network);
+            this.serialization.add(serialization);
+            application.add(Math.max(0, totalNanos - database - network - serialization));
+        }
+
+        Breakdown toBreakdown() {
+            long count = Math.max(1, requests.sum());
+            return new Breakdown(requests.sum(), meanMillis(total, count), maxTotal.get() / 1e6,
+                    meanMillis(database, count), meanMillis(network, count), meanMillis(serialization, count),
+                    meanMillis(application, count));
+        }
+
+        private static double meanMillis(LongAdder nanos, long count) {
+            return nanos.sum() / 1e6 / count;
+        }
+    }
+}
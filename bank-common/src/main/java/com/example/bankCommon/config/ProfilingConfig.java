@@ -0,0 +1,16 @@
+package com.example.bankCommon.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * On-demand Flight Recorder recordings through {@link ProfilingEndpoint},
+ * with a JDBC event per statement from {@link JdbcEventRecorder}. A service
+ * that emits events of its own registers a
+ * {@link RecordingSummary.EventGroup} bean for each type, so recording
+ * summaries count them.
+ */
+@Configuration
+@Import({ ProfilingEndpoint.class, JdbcEventRecorder.class })
+public class ProfilingConfig {
+}
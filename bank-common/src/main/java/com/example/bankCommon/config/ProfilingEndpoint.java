@@ -0,0 +1,201 @@
+package com.example.bankCommon.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Actuator endpoint {@code /actuator/profiling} that starts and stops Java
+ * Flight Recorder recordings, so evidence of a latency spike can be taken
+ * from a running service without attaching a profiler.
+ * <ul>
+ * <li>{@code POST} with an optional {@code duration}, such as
+ * {@code {"duration":"2m"}}, starts a recording. It stops by itself after
+ * the duration, capped at {@code profiling.max-duration}, and keeps at most
+ * {@code profiling.max-size} of data. Only one recording runs at a time.</li>
+ * <li>{@code DELETE} stops the running recording early.</li>
+ * <li>{@code GET} shows the current recording and the recordings on disk.</li>
+ * <li>{@code GET /actuator/profiling/{file}} summarises a recording with
+ * {@link RecordingSummary}.</li>
+ * </ul>
+ * Recordings use the JDK's {@code profiling.settings} configuration and are
+ * written to {@code profiling.directory} when they stop. Besides the JDK
+ * events they hold the service's JDBC events and any events of its own;
+ * the summary counts the latter as the service's
+ * {@link RecordingSummary.EventGroup} beans describe.
+ */
+@Component
+@Endpoint(id = "profiling")
+public class ProfilingEndpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfilingEndpoint.class);
+
+    private static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9._-]+\\.jfr");
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private static final int SUMMARY_LIMIT = 20;
+
+    @Autowired
+    private ObjectProvider<RecordingSummary.EventGroup> eventGroups;
+
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    @Value("${profiling.directory:recordings}")
+    private Path directory;
+
+    @Value("${profiling.max-duration:5m}")
+    private Duration maxDuration;
+
+    @Value("${profiling.max-size:250MB}")
+    private DataSize maxSize;
+
+    @Value("${profiling.settings:profile}")
+    private String settings;
+
+    private Recording recording;
+
+    private Path file;
+
+    /**
+     * A recording. Its file is complete once the state is {@code STOPPED}.
+     */
+    public record RecordingStatus(String file, RecordingState state, Instant startTime, Duration duration,
+            long sizeBytes) {
+    }
+
+    /**
+     * The current or last recording, if any, and the recordings on disk.
+     */
+    public record ProfilingStatus(RecordingStatus recording, List<String> files) {
+    }
+
+    @ReadOperation
+    public synchronized ProfilingStatus status() {
+        List<String> files = List.of();
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> paths = Files.list(directory)) {
+                files = paths.map(path -> path.getFileName().toString())
+                        .filter(name -> FILE_NAME.matcher(name).matches())
+                        .sorted()
+                        .toList();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot list " + directory, e);
+            }
+        }
+        return new ProfilingStatus(recordingStatus(), files);
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<RecordingStatus> start(@Nullable Duration duration) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(recordingStatus(), 409);
+        }
+        Duration length = duration == null || duration.compareTo(maxDuration) > 0 ? maxDuration : duration;
+        if (length.isNegative() || length.isZero()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        try {
+            Files.createDirectories(directory);
+            Recording next = new Recording(Configuration.getConfiguration(settings));
+            String name = applicationName + "-" + LocalDateTime.now().format(TIMESTAMP);
+            next.setName(name);
+            next.setToDisk(true);
+            next.setDuration(length);
+            next.setMaxSize(maxSize.toBytes());
+            next.setDestination(directory.resolve(name + ".jfr"));
+            next.start();
+            if (recording != null) {
+                recording.close();
+            }
+            recording = next;
+            file = directory.resolve(name + ".jfr");
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot start recording with settings " + settings, e);
+        }
+        logger.info("Started flight recording {} for {}", file, length);
+        return new WebEndpointResponse<>(recordingStatus());
+    }
+
+    @DeleteOperation
+    public synchronized WebEndpointResponse<RecordingStatus> stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        recording.stop();
+        logger.info("Stopped flight recording {}", file);
+        return new WebEndpointResponse<>(recordingStatus());
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<RecordingSummary> summary(@Selector String name) {
+        if (!FILE_NAME.matcher(name).matches()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        Path path = directory.resolve(name);
+        if (!Files.isRegularFile(path)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            RecordingSummary summary = RecordingSummary.read(path, SUMMARY_LIMIT,
+                    eventGroups.orderedStream().toList());
+            return new WebEndpointResponse<>(summary);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read recording " + path, e);
+        }
+    }
+
+    private RecordingStatus recordingStatus() {
+        if (recording == null) {
+            return null;
+        }
+        return new RecordingStatus(file.getFileName().toString(), recording.getState(), recording.getStartTime(),
+                recording.getDuration(), recording.getSize());
+    }
+
+    /**
+     * Stops a running recording during application shutdown, which writes
+     * its file.
+     */
+    @PreDestroy
+    public synchronized void close() {
+        if (recording == null) {
+            return;
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            logger.info("Stopped flight recording {} at shutdown", file);
+        }
+        recording.close();
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.bankCommon.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * What a Flight Recorder recording says about where the time went.
+ * <p>
+ * Timed events are grouped into contributors and ranked by their total time:
+ * JDBC statements by SQL, blocked monitor entries by monitor class, socket
+ * reads by remote host and garbage collections by collector (pause time
+ * only). The service's own events, such as money movements, are grouped as
+ * the {@link EventGroup}s it passes in describe, and those with an account
+ * are also ranked by account to show hot accounts. CPU samples are ranked by
+ * their top frame to show hot methods. Overlapping events are all counted,
+ * so a transfer and its legs both contribute.
+ */
+public record RecordingSummary(String file, Instant start, Instant end, long events,
+        List<Contributor> topContributors, List<Contributor> hotAccounts, List<HotMethod> hotMethods) {
+
+    /**
+     * Time spent in one kind of work. Times are in milliseconds.
+     */
+    public record Contributor(String kind, String name, long count, double totalMs, double meanMs,
+            double maxMs) {
+    }
+
+    /**
+     * A method that was on top of the stack in CPU samples.
+     */
+    public record HotMethod(String method, long samples, double percent) {
+    }
+
+    /**
+     * How the events of one of the service's own event types are counted: as
+     * contributors of {@code kind} named by {@code name}, and as hot accounts
+     * by {@code account}, which is null for events without an account.
+     */
+    public record EventGroup(String eventType, String kind, Function<RecordedEvent, String> name,
+            Function<RecordedEvent, String> account) {
+    }
+
+    /**
+     * Reads a recording and keeps the top {@code limit} entries of each list.
+     *
+     * @param file   the recording
+     * @param limit  the number of entries per list
+     * @param groups the service's own event types
+     * @return the summary
+     * @throws IOException if the file cannot be read or is not a recording
+     */
+    static RecordingSummary read(Path file, int limit, List<EventGroup> groups) throws IOException {
+        Map<String, EventGroup> groupsByType = new HashMap<>();
+        for (EventGroup group : groups) {
+            groupsByType.put(group.eventType(), group);
+        }
+        Map<String, Totals> contributors = new HashMap<>();
+        Map<String, Totals> accounts = new HashMap<>();
+        Map<String, Long> methods = new HashMap<>();
+        long events = 0;
+        long samples = 0;
+        Instant start = null;
+        Instant end = null;
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                events++;
+                if (start == null || event.getStartTime().isBefore(start)) {
+                    start = event.getStartTime();
+                }
+                if (end == null || event.getEndTime().isAfter(end)) {
+                    end = event.getEndTime();
+                }
+                Duration duration = event.getDuration();
+                EventGroup group = groupsByType.get(event.getEventType().getName());
+                if (group != null) {
+                    add(contributors, group.kind(), group.name().apply(event), duration);
+                    String account = group.account() == null ? null : group.account().apply(event);
+                    if (account != null) {
+                        add(accounts, "account", account, duration);
+                    }
+                    continue;
+                }
+                switch (event.getEventType().getName()) {
+                    case "bank.Jdbc" -> add(contributors, "jdbc", event.getString("sql"), duration);
+                    case "jdk.JavaMonitorEnter" -> add(contributors, "monitor",
+                            event.getClass("monitorClass").getName(), duration);
+                    case "jdk.SocketRead" -> add(contributors, "socket read",
+                            event.getString("host") + ":" + event.getInt("port"), duration);
+                    case "jdk.GarbageCollection" -> add(contributors, "gc", event.getString("name"),
+                            event.getDuration("sumOfPauses"));
+                    case "jdk.ExecutionSample" -> {
+                        samples++;
+                        methods.merge(topFrame(event.getStackTrace()), 1L, Long::sum);
+                    }
+                    default -> {
+                        // Not a latency contributor
+                    }
+                }
+            }
+        }
+
+        long totalSamples = samples;
+        List<HotMethod> hotMethods = methods.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(limit)
+                .map(entry -> new HotMethod(entry.getKey(), entry.getValue(),
+                        100.0 * entry.getValue() / totalSamples))
+                .toList();
+        return new RecordingSummary(file.getFileName().toString(), start, end, events, top(contributors, limit),
+                top(accounts, limit), hotMethods);
+    }
+
+    private static void add(Map<String, Totals> totals, String kind, String name, Duration duration) {
+        totals.computeIfAbsent(kind + "\n" + name, key -> new Totals(kind, name)).add(duration.toNanos());
+    }
+
+    private static List<Contributor> top(Map<String, Totals> totals, int limit) {
+        List<Totals> sorted = new ArrayList<>(totals.values());
+        sorted.sort(Comparator.comparingLong((Totals t) -> t.totalNanos).reversed());
+        return sorted.stream().limit(limit).map(Totals::toContributor).toList();
+    }
+
+    private static String topFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        RecordedMethod method = stackTrace.getFrames().get(0).getMethod();
+        return method.getType().getName() + "." + method.getName();
+    }
+
+    private static final class Totals {
+        final String kind;
+        final String name;
+        long count;
+        long totalNanos;
+        long maxNanos;
+
+        Totals(String kind, String name) {
+            this.kind = kind;
+            this.name = name;
+        }
+
+        void add(long nanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        Contributor toContributor() {
+            return new Contributor(kind, name, count, totalNanos / 1e6, totalNanos / 1e6 / count, maxNanos / 1e6);
+        }
+    }
+}
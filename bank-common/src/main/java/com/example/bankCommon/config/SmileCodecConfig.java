@@ -0,0 +1,69 @@
+package com.example.bankCommon.config;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ClientCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Jackson Smile support for calls between the services.
+ * <p>
+ * On the server side, controllers can read and write
+ * {@code application/x-jackson-smile} in addition to JSON. JSON stays the
+ * default whenever the client does not ask for Smile. On the client side,
+ * WebClient can encode and decode Smile, and {@link #preferSmile()} makes
+ * requests send Smile bodies and accept Smile responses, with JSON as the
+ * fallback for servers that do not support it.
+ */
+@Configuration
+public class SmileCodecConfig implements WebMvcConfigurer {
+
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private static final MediaType JSON_FALLBACK = new MediaType(MediaType.APPLICATION_JSON, Map.of("q", "0.9"));
+
+    private static final ObjectMapper SMILE_MAPPER = Jackson2ObjectMapperBuilder.smile().build();
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new MappingJackson2SmileHttpMessageConverter(SMILE_MAPPER));
+    }
+
+    /**
+     * Registers the Smile encoder and decoder with a WebClient.
+     */
+    public static void registerCodecs(ClientCodecConfigurer configurer) {
+        configurer.customCodecs().register(new Jackson2SmileEncoder(SMILE_MAPPER));
+        configurer.customCodecs().register(new Jackson2SmileDecoder(SMILE_MAPPER));
+    }
+
+    /**
+     * Sends request bodies as Smile and asks for Smile responses, unless the
+     * call sets its own Content-Type or Accept header.
+     */
+    public static ExchangeFilterFunction preferSmile() {
+        return (request, next) -> next.exchange(ClientRequest.from(request).headers(headers -> {
+            if (headers.getAccept().isEmpty()) {
+                headers.setAccept(List.of(APPLICATION_SMILE, JSON_FALLBACK));
+            }
+            HttpMethod method = request.method();
+            boolean hasBody = method == HttpMethod.POST || method == HttpMethod.PUT || method == HttpMethod.PATCH;
+            if (hasBody && headers.getContentType() == null) {
+                headers.setContentType(APPLICATION_SMILE);
+            }
+        }).build());
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.bankCommon.config;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Startup settings for the {@code fast-startup} profile.
+ * <p>
+ * The profile turns on lazy initialization, so most beans are created when
+ * first used rather than at startup. Beans with {@code @Scheduled} methods
+ * are kept eager, because their jobs are only registered once the bean
+ * exists and would otherwise not run until the first request touched them.
+ * It is imported by the services that have the profile.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null && hasScheduledMethods(beanType);
+    }
+
+    /**
+     * Applies the migrations at startup, before Hibernate validates the
+     * schema, rather than when the first repository is used.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter flywayExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(FlywayMigrationInitializer.class);
+    }
+
+    private static boolean hasScheduledMethods(Class<?> type) {
+        Method[] methods = ReflectionUtils.getAllDeclaredMethods(type);
+        return Arrays.stream(methods).anyMatch(method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+    }
+}
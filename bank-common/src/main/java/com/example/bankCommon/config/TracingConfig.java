@@ -0,0 +1,57 @@
+package com.example.bankCommon.config;
+
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+
+/**
+ * Distributed tracing setup.
+ * <p>
+ * Spring Boot creates spans for incoming requests, and the WebClient builder
+ * of each service creates spans for outgoing calls and sends the trace
+ * context along with them. JDBC spans come from datasource-micrometer.
+ * Classes annotated with {@code @Observed} get a span per method call. Spans
+ * are written to a local file by {@link FileSpanExporter}, and to an OTLP
+ * collector as well when {@code management.otlp.tracing.endpoint} is set.
+ * {@link LatencyBreakdownEndpoint} sees every span to break request times
+ * down.
+ */
+@Configuration
+@Import(LatencyBreakdownEndpoint.class)
+public class TracingConfig {
+
+    private static final ContextSnapshotFactory CONTEXT_SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.file.enabled", havingValue = "true", matchIfMissing = true)
+    public FileSpanExporter fileSpanExporter(@Value("${tracing.file.path:traces/spans.jsonl}") Path path) {
+        return new FileSpanExporter(path);
+    }
+
+    /**
+     * Wraps an executor so that tasks run with the trace context of the
+     * thread that submitted them. Without this, work handed to another
+     * thread starts a new trace.
+     *
+     * @param executor the executor to wrap
+     * @return the wrapped executor
+     */
+    public static ExecutorService propagatingContext(ExecutorService executor) {
+        return ContextExecutorService.wrap(executor, CONTEXT_SNAPSHOTS::captureAll);
+    }
+}
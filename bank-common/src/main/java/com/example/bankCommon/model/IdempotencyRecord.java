@@ -0,0 +1,49 @@
+package com.example.bankCommon.model;
+
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Stored outcome of a request made with an {@code Idempotency-Key} header, kept
+ * until {@link #expiresAt} so replays can be answered without re-executing.
+ * <p>
+ * The record is inserted as {@code PENDING} before the request runs, which
+ * claims the key for one request across all instances, and becomes
+ * {@code COMPLETED} when the response is stored. While pending,
+ * {@link #expiresAt} is the end of the claim and {@link #owner} identifies
+ * the request holding it.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expiresAt"))
+public class IdempotencyRecord {
+
+	@Id
+	private String id;
+	private String fingerprint;
+	@Enumerated(EnumType.STRING)
+	private State state;
+	private String owner;
+	private int responseStatus;
+	@Lob
+	@Column(columnDefinition = "TEXT")
+	private String responseBody;
+	private Date createdAt;
+	private Date expiresAt;
+
+	public enum State {
+		PENDING, COMPLETED
+	}
+
+}
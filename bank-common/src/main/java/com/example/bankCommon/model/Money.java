@@ -0,0 +1,93 @@
+package com.example.bankCommon.model;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Fixed-point monetary amount held as a whole number of minor units (paise).
+ * <p>
+ * Arithmetic is plain {@code long} arithmetic with overflow checks, so it is
+ * exact and does not allocate intermediate decimals. Sums are associative,
+ * which makes parallel aggregation deterministic. In JSON the amount is
+ * written and read as a plain decimal number, so payloads keep their
+ * existing shape. In the database it is stored as a BIGINT of minor units.
+ * The deployment has a single currency, rupees, so no currency is carried.
+ */
+public record Money(long minorUnits) implements Comparable<Money> {
+
+	public static final int SCALE = 2;
+	public static final Money ZERO = new Money(0);
+
+	public static Money ofMinor(long minorUnits) {
+		return minorUnits == 0 ? ZERO : new Money(minorUnits);
+	}
+
+	/**
+	 * Converts a decimal amount to minor units.
+	 *
+	 * @throws IllegalArgumentException if the amount has more than two decimal
+	 *                                  places or does not fit in a long
+	 */
+	@JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+	public static Money of(BigDecimal amount) {
+		try {
+			return ofMinor(amount.movePointRight(SCALE).longValueExact());
+		} catch (ArithmeticException e) {
+			throw new IllegalArgumentException("Amount must have at most " + SCALE + " decimal places: " + amount, e);
+		}
+	}
+
+	public static Money of(String amount) {
+		return of(new BigDecimal(amount));
+	}
+
+	/**
+	 * Sums amounts exactly. The reduction is associative, so the result is the
+	 * same for sequential and parallel streams.
+	 */
+	public static Money sum(Collection<Money> amounts) {
+		return ofMinor(amounts.stream().mapToLong(Money::minorUnits).reduce(0L, Math::addExact));
+	}
+
+	@JsonValue
+	public BigDecimal toDecimal() {
+		return BigDecimal.valueOf(minorUnits, SCALE);
+	}
+
+	public Money plus(Money other) {
+		return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+	}
+
+	public Money minus(Money other) {
+		return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+	}
+
+	public Money negate() {
+		return ofMinor(Math.negateExact(minorUnits));
+	}
+
+	public boolean isPositive() {
+		return minorUnits > 0;
+	}
+
+	public boolean isNegative() {
+		return minorUnits < 0;
+	}
+
+	public boolean isZero() {
+		return minorUnits == 0;
+	}
+
+	@Override
+	public int compareTo(Money other) {
+		return Long.compare(minorUnits, other.minorUnits);
+	}
+
+	@Override
+	public String toString() {
+		return toDecimal().toPlainString();
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.bankCommon.repository;
+
+import java.util.Date;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.bankCommon.model.IdempotencyRecord;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Modifying
+    @Transactional
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Date now);
+
+    /**
+     * Claims a key with a pending record. Throws a
+     * DataIntegrityViolationException if the key already has a record.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "insert into idempotency_keys (id, fingerprint, state, owner, response_status, created_at, expires_at)"
+            + " values (:id, :fingerprint, 'PENDING', :owner, 0, :now, :claimedUntil)", nativeQuery = true)
+    int insertPending(@Param("id") String id, @Param("fingerprint") String fingerprint, @Param("owner") String owner,
+            @Param("now") Date now, @Param("claimedUntil") Date claimedUntil);
+
+    /**
+     * Claims a key whose record has expired, such as a pending record left by
+     * a request that did not finish in time.
+     */
+    @Modifying
+    @Transactional
+    @Query("update IdempotencyRecord r set r.state = :state, r.fingerprint = :fingerprint, r.owner = :owner,"
+            + " r.responseStatus = 0, r.responseBody = null, r.createdAt = :now, r.expiresAt = :claimedUntil"
+            + " where r.id = :id and r.expiresAt < :now")
+    int claimExpired(@Param("id") String id, @Param("fingerprint") String fingerprint, @Param("owner") String owner,
+            @Param("now") Date now, @Param("claimedUntil") Date claimedUntil,
+            @Param("state") IdempotencyRecord.State state);
+
+    @Modifying
+    @Transactional
+    @Query("update IdempotencyRecord r set r.state = :state, r.responseStatus = :status, r.responseBody = :body,"
+            + " r.expiresAt = :expiresAt where r.id = :id and r.owner = :owner")
+    int complete(@Param("id") String id, @Param("owner") String owner, @Param("status") int status,
+            @Param("body") String body, @Param("expiresAt") Date expiresAt,
+            @Param("state") IdempotencyRecord.State state);
+
+    @Modifying
+    @Transactional
+    @Query("delete from IdempotencyRecord r where r.id = :id and r.owner = :owner")
+    int release(@Param("id") String id, @Param("owner") String owner);
+
+}
@@ -0,0 +1,166 @@
+package com.example.bankCommon.service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.example.bankCommon.model.Money;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+/**
+ * Metrics for money movements, shared by the services that move money.
+ * <p>
+ * {@code bank.money.movement} times each operation, tagged with the
+ * operation and its outcome. Its percentiles and histogram buckets are set
+ * with {@code management.metrics.distribution.*} in the application
+ * properties, so they can be tuned without a code change. Circuit breaker
+ * fallbacks have their own counter. Meters are looked up once per operation
+ * and outcome and then reused.
+ * <p>
+ * Every timed operation is also emitted as a {@link MoneyMovementEvent} for
+ * Flight Recorder recordings.
+ * <p>
+ * Each service adds its own counters and maps its own exceptions to
+ * outcomes by overriding {@link #outcomeOfCause(Throwable)}.
+ */
+public abstract class AbstractMoneyMovementMetrics {
+
+    static final String TIMER = "bank.money.movement";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    protected AbstractMoneyMovementMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Times an operation. A null result counts as {@code not_found}, and
+     * exceptions are classified by {@link #outcomeOf(Throwable)} and rethrown.
+     *
+     * @param operation the operation name
+     * @param action    the operation
+     * @return the result of the operation
+     */
+    public <T> T record(String operation, Supplier<T> action) {
+        return record(operation, null, null, action);
+    }
+
+    /**
+     * Times an operation on an account, like {@link #record(String, Supplier)},
+     * and records the account and amount in its Flight Recorder event.
+     *
+     * @param operation the operation name
+     * @param account   the account
+     * @param amount    the amount moved
+     * @param action    the operation
+     * @return the result of the operation
+     */
+    public <T> T record(String operation, UUID account, Money amount, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        MoneyMovementEvent event = MoneyMovementEvent.start(operation, account, amount);
+        String outcome = "success";
+        try {
+            T result = action.get();
+            if (result == null) {
+                outcome = "not_found";
+            }
+            return result;
+        } catch (RuntimeException e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            sample.stop(timer(operation, outcome));
+            event.finish(outcome);
+        }
+    }
+
+    /**
+     * Times a Mono from subscription until it completes or fails.
+     *
+     * @param operation the operation name
+     * @param action    the operation
+     * @return the timed Mono
+     */
+    public <T> Mono<T> record(String operation, Mono<T> action) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            MoneyMovementEvent event = MoneyMovementEvent.start(operation, null, null);
+            return action.doOnSuccess(result -> {
+                sample.stop(timer(operation, "success"));
+                event.finish("success");
+            }).doOnError(error -> {
+                String outcome = outcomeOf(error);
+                sample.stop(timer(operation, outcome));
+                event.finish(outcome);
+            });
+        });
+    }
+
+    /**
+     * Starts timing an operation that completes asynchronously.
+     */
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Stops timing an operation started with {@link #start()}.
+     */
+    public void stop(Timer.Sample sample, String operation, String outcome) {
+        sample.stop(timer(operation, outcome));
+    }
+
+    public void fallback(String operation) {
+        counter("bank.money.fallback", operation).increment();
+    }
+
+    /**
+     * Outcome tag for a failed operation.
+     */
+    public String outcomeOf(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return outcomeOfCause(cause);
+    }
+
+    /**
+     * Outcome tag for the exception that made an operation fail, after
+     * unwrapping a {@link CompletionException}.
+     *
+     * @param cause the exception
+     * @return {@code invalid} for an {@link IllegalArgumentException},
+     *         otherwise {@code error}
+     */
+    protected String outcomeOfCause(Throwable cause) {
+        if (cause instanceof IllegalArgumentException) {
+            return "invalid";
+        }
+        return "error";
+    }
+
+    /**
+     * Counter with the given name, tagged with the operation.
+     */
+    protected Counter counter(String name, String operation) {
+        return counters.computeIfAbsent(name + ":" + operation, key -> Counter.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry));
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return timers.computeIfAbsent(operation + ":" + outcome, key -> Timer.builder(TIMER)
+                .description("Time taken by money movements")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.bankCommon.service;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 
+ */
+public interface IdempotencyService {
+
+    /**
+     * @param scope
+     * @param idempotencyKey
+     * @param fingerprint
+     * @param responseType
+     * @param action
+     * @return
+     */
+    <T> ResponseEntity<T> execute(String scope, String idempotencyKey, String fingerprint, Class<T> responseType,
+            Supplier<ResponseEntity<T>> action);
+
+    /**
+     * 
+     */
+    void purgeExpired();
+}
@@ -0,0 +1,250 @@
+package com.example.bankCommon.service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.bankCommon.model.IdempotencyRecord;
+import com.example.bankCommon.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Implementation of {@link IdempotencyService} that remembers the response to
+ * each request made with an {@code Idempotency-Key} header and replays it for
+ * repeated requests with the same key.
+ * <p>
+ * Before the action runs, the key is claimed by inserting a pending record,
+ * so only one request executes a key even across instances. Successful
+ * responses are stored in that record with a TTL; failed requests delete it,
+ * so the client can retry them with the same key. A claim whose request does
+ * not finish within {@code idempotency.pending-timeout}, for instance
+ * because its instance crashed, can be taken over by the next request.
+ * <p>
+ * While a key is claimed, a request with the same key in the same instance
+ * waits for the first to finish and then replays its response, or executes
+ * itself if the first failed. A request in another instance gets
+ * {@code 409 Conflict} and can retry. Recent responses are also held in a
+ * bounded in-memory LRU map, so replays of recent requests are answered
+ * without touching the database.
+ */
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyServiceImpl.class);
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${idempotency.ttl:24h}")
+    private Duration ttl;
+
+    @Value("${idempotency.pending-timeout:1m}")
+    private Duration pendingTimeout;
+
+    private final Map<String, StoredResponse> recentResponses;
+
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    private record StoredResponse(String fingerprint, int status, Object body, long expiresAt) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+
+    public IdempotencyServiceImpl(@Value("${idempotency.cache-size:10000}") int cacheSize) {
+        this.recentResponses = Collections.synchronizedMap(new LinkedHashMap<>(cacheSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * Executes the action once per idempotency key. Requests without a key are
+     * executed directly.
+     *
+     * @param scope          the operation the key belongs to, e.g. "deposit"
+     * @param idempotencyKey the client-supplied key, may be null
+     * @param fingerprint    a summary of the request used to detect a key being
+     *                       reused for a different request
+     * @param responseType   the response body type, used to read persisted
+     *                       responses back
+     * @param action         the operation to execute
+     * @return the response of the first successful execution for this key,
+     *         {@code 422} if the key was used for a different request, or
+     *         {@code 409} while another instance executes the key
+     */
+    @Override
+    public <T> ResponseEntity<T> execute(String scope, String idempotencyKey, String fingerprint,
+            Class<T> responseType, Supplier<ResponseEntity<T>> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        String id = scope + ":" + idempotencyKey;
+
+        while (true) {
+            StoredResponse recent = recentResponses.get(id);
+            if (recent != null && !recent.isExpired()) {
+                logger.info("Replaying response for idempotency key {} from memory", id);
+                return replay(recent, fingerprint, responseType);
+            }
+
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            CompletableFuture<Void> running = inFlight.putIfAbsent(id, done);
+            if (running != null) {
+                // Completes normally however the other request ended; the
+                // next pass replays its response or claims the key again
+                logger.info("Waiting for in-flight request with idempotency key {}", id);
+                running.join();
+                continue;
+            }
+
+            try {
+                String owner = UUID.randomUUID().toString();
+                if (claim(id, fingerprint, owner)) {
+                    return executeClaimed(id, owner, fingerprint, action);
+                }
+
+                IdempotencyRecord record = idempotencyRecordRepository.findById(id).orElse(null);
+                if (record == null) {
+                    // Released since the claim failed
+                    continue;
+                }
+                if (!record.getFingerprint().equals(fingerprint)) {
+                    logger.warn("Idempotency key reused with a different request");
+                    return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+                }
+                if (record.getState() == IdempotencyRecord.State.PENDING) {
+                    logger.info("Idempotency key {} is being executed by another instance", id);
+                    return ResponseEntity.status(HttpStatus.CONFLICT).header(HttpHeaders.RETRY_AFTER, "1").build();
+                }
+
+                logger.info("Replaying response for idempotency key {} from store", id);
+                StoredResponse persisted = read(record, responseType);
+                recentResponses.put(id, persisted);
+                return replay(persisted, fingerprint, responseType);
+            } finally {
+                inFlight.remove(id, done);
+                done.complete(null);
+            }
+        }
+    }
+
+    /**
+     * Deletes persisted idempotency records whose TTL has passed, and pending
+     * records whose claim has run out.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:PT10M}")
+    public void purgeExpired() {
+        int deleted = idempotencyRecordRepository.deleteExpired(new Date());
+        if (deleted > 0) {
+            logger.info("Purged {} expired idempotency records", deleted);
+        }
+    }
+
+    private boolean claim(String id, String fingerprint, String owner) {
+        Date now = new Date();
+        Date claimedUntil = new Date(now.getTime() + pendingTimeout.toMillis());
+        try {
+            idempotencyRecordRepository.insertPending(id, fingerprint, owner, now, claimedUntil);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return idempotencyRecordRepository.claimExpired(id, fingerprint, owner, now, claimedUntil,
+                    IdempotencyRecord.State.PENDING) == 1;
+        }
+    }
+
+    private <T> ResponseEntity<T> executeClaimed(String id, String owner, String fingerprint,
+            Supplier<ResponseEntity<T>> action) {
+        ResponseEntity<T> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            release(id, owner);
+            throw e;
+        }
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            release(id, owner);
+            return response;
+        }
+
+        StoredResponse stored = new StoredResponse(fingerprint, response.getStatusCode().value(),
+                response.getBody(), System.currentTimeMillis() + ttl.toMillis());
+        int updated = idempotencyRecordRepository.complete(id, owner, stored.status(), write(id, stored.body()),
+                new Date(stored.expiresAt()), IdempotencyRecord.State.COMPLETED);
+        if (updated == 1) {
+            recentResponses.put(id, stored);
+        } else {
+            logger.warn("Request with idempotency key {} finished after its claim ran out", id);
+        }
+        return response;
+    }
+
+    private void release(String id, String owner) {
+        try {
+            idempotencyRecordRepository.release(id, owner);
+        } catch (RuntimeException e) {
+            // The claim runs out after the pending timeout instead
+            logger.error("Could not release idempotency key {}: {}", id, e.getMessage());
+        }
+    }
+
+    private <T> ResponseEntity<T> replay(StoredResponse stored, String fingerprint, Class<T> responseType) {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            logger.warn("Idempotency key reused with a different request");
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+        }
+        return ResponseEntity.status(stored.status())
+                .header(REPLAYED_HEADER, "true")
+                .body(responseType.cast(stored.body()));
+    }
+
+    private <T> StoredResponse read(IdempotencyRecord record, Class<T> responseType) {
+        Object body = null;
+        if (record.getResponseBody() != null) {
+            try {
+                body = objectMapper.readValue(record.getResponseBody(), responseType);
+            } catch (JsonProcessingException e) {
+                logger.error("Unreadable response in idempotency record {}: {}", record.getId(), e.getMessage());
+            }
+        }
+        return new StoredResponse(record.getFingerprint(), record.getResponseStatus(), body,
+                record.getExpiresAt().getTime());
+    }
+
+    private String write(String id, Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            // The status is still stored, so the request is not executed twice
+            logger.error("Could not store response for idempotency key {}: {}", id, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.bankCommon.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import com.example.bankCommon.config.RecordingSummary;
+import com.example.bankCommon.model.Money;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one money movement, such as a deposit, a
+ * withdrawal, a transfer or one of its legs. The event's duration is the
+ * time the operation took.
+ * <p>
+ * Account numbers do not go into recordings. The account is identified by
+ * a short SHA-256 hash instead, which is the same in every service, so hot
+ * accounts can still be spotted and followed across services. Amounts are
+ * reduced to a power-of-ten bucket. When no recording is running, starting
+ * and finishing an event does nothing.
+ */
+@Name(MoneyMovementEvent.NAME)
+@Label("Money Movement")
+@Category({ "Banking", "Money Movement" })
+@Description("A deposit, withdrawal, transfer, transfer leg, reversal or transaction record")
+@StackTrace(false)
+public class MoneyMovementEvent extends Event {
+
+    public static final String NAME = "bank.MoneyMovement";
+
+    /**
+     * Counts money movements in recording summaries by operation, and by
+     * account to show hot accounts.
+     */
+    public static final RecordingSummary.EventGroup EVENT_GROUP = new RecordingSummary.EventGroup(NAME,
+            "money movement", event -> event.getString("operation"), event -> event.getString("accountHash"));
+
+    private static final String[] AMOUNT_BUCKETS = { "<1", "1-10", "10-100", "100-1K", "1K-10K", "10K-100K",
+            "100K-1M", "1M-10M", ">=10M" };
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Account Hash")
+    String accountHash;
+
+    @Label("Amount Bucket")
+    @Description("Power-of-ten range of the amount in major units")
+    String amountBucket;
+
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * Starts timing an operation.
+     *
+     * @param operation the operation name
+     * @param account   the account, or null
+     * @param amount    the amount moved, or null
+     * @return the event to finish when the operation ends
+     */
+    public static MoneyMovementEvent start(String operation, UUID account, Money amount) {
+        MoneyMovementEvent event = new MoneyMovementEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.accountHash = accountHash(account);
+            event.amountBucket = amountBucket(amount);
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Ends the operation and records it if a recording wants it.
+     *
+     * @param outcome the outcome, named like the outcome tag of the
+     *                service's money movement metrics
+     */
+    public void finish(String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            commit();
+        }
+    }
+
+    static String accountHash(UUID account) {
+        if (account == null) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(account.toString().getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest, 0, 6);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String amountBucket(Money amount) {
+        if (amount == null) {
+            return null;
+        }
+        long major = Math.abs(amount.minorUnits() / 100);
+        int bucket = 0;
+        for (long limit = 1; major >= limit && bucket < AMOUNT_BUCKETS.length - 1; limit *= 10) {
+            bucket++;
+        }
+        return AMOUNT_BUCKETS[bucket];
+    }
+}
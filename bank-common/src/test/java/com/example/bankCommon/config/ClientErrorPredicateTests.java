@@ -0,0 +1,43 @@
+package com.example.bankCommon.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+
+class ClientErrorPredicateTests {
+
+    private final ClientErrorPredicate predicate = new ClientErrorPredicate();
+
+    @Test
+    void findsARefusalWrappedByTheTransferLegs() {
+        WebClientResponseException refused = WebClientResponseException.create(422, "Unprocessable Entity", null,
+                null, null);
+        Throwable transferFailure = new RuntimeException("Transfer failed",
+                new CompletionException(new RuntimeException("Withdrawal failed", refused)));
+
+        assertThat(predicate.test(transferFailure)).isTrue();
+        assertThat(ClientErrorPredicate.clientErrorStatus(transferFailure))
+                .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    void matchesResponseStatusExceptions() {
+        assertThat(ClientErrorPredicate.clientErrorStatus(new ResponseStatusException(HttpStatus.BAD_REQUEST)))
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void outagesAreNotClientErrors() {
+        WebClientResponseException unavailable = WebClientResponseException.create(503, "Service Unavailable", null,
+                null, null);
+
+        assertThat(predicate.test(unavailable)).isFalse();
+        assertThat(predicate.test(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE))).isFalse();
+        assertThat(predicate.test(new IllegalStateException("Connection refused"))).isFalse();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.bankCommon.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class MoneyTests {
+
+    @Test
+    void parsesDecimalAmountsIntoMinorUnits() {
+        assertThat(Money.of("10.25").minorUnits()).isEqualTo(1025);
+        assertThat(Money.of("10.2").minorUnits()).isEqualTo(1020);
+        assertThat(Money.of("10.200").minorUnits()).isEqualTo(1020);
+        assertThat(Money.of("-0.01").minorUnits()).isEqualTo(-1);
+        assertThat(Money.of(new BigDecimal("1E+3")).minorUnits()).isEqualTo(100_000);
+    }
+
+    @Test
+    void rejectsFractionsOfAPaisaInsteadOfRounding() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Money.of("1.005"));
+        assertThatIllegalArgumentException().isThrownBy(() -> Money.of("0.001"));
+    }
+
+    @Test
+    void rejectsAmountsThatDoNotFitInMinorUnits() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Money.of("92233720368547758.08"));
+    }
+
+    @Test
+    void addsAndSubtractsExactly() {
+        assertThat(Money.of("0.10").plus(Money.of("0.20"))).isEqualTo(Money.of("0.30"));
+        assertThat(Money.of("100.00").minus(Money.of("99.99"))).isEqualTo(Money.of("0.01"));
+        assertThat(Money.of("5.00").negate()).isEqualTo(Money.of("-5.00"));
+        assertThat(Money.of("5.00").minus(Money.of("5.00"))).isSameAs(Money.ZERO);
+    }
+
+    @Test
+    void arithmeticFailsOnOverflowInsteadOfWrapping() {
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> max.plus(Money.ofMinor(1)));
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> Money.ofMinor(Long.MIN_VALUE).negate());
+    }
+
+    @Test
+    void sumIsExactWhereDoublesDrift() {
+        List<Money> amounts = LongStream.range(0, 10_000).mapToObj(i -> Money.of("0.10")).toList();
+
+        double doubleSum = 0;
+        for (int i = 0; i < amounts.size(); i++) {
+            doubleSum += 0.10;
+        }
+
+        assertThat(Money.sum(amounts)).isEqualTo(Money.of("1000.00"));
+        assertThat(doubleSum).isNotEqualTo(1000.0);
+        assertThat(Money.sum(List.of())).isEqualTo(Money.ZERO);
+    }
+
+    @Test
+    void comparesBySignAndSize() {
+        assertThat(Money.of("-1.00").isNegative()).isTrue();
+        assertThat(Money.of("0.01").isPositive()).isTrue();
+        assertThat(Money.of("0.00").isZero()).isTrue();
+        assertThat(Money.of("2.00")).isGreaterThan(Money.of("1.99"));
+    }
+
+    @Test
+    void serializesAsAPlainDecimal() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        assertThat(objectMapper.writeValueAsString(Money.of("10.20"))).isEqualTo("10.20");
+        assertThat(objectMapper.readValue("10.2", Money.class)).isEqualTo(Money.of("10.20"));
+        assertThat(objectMapper.readValue("\"7.05\"", Money.class)).isEqualTo(Money.of("7.05"));
+        assertThat(Money.of("10.20")).hasToString("10.20");
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.bankCommon.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.bankCommon.model.IdempotencyRecord;
+import com.example.bankCommon.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class IdempotencyServiceImplTests {
+
+    // Stands in for the idempotency_keys table, shared by all "instances"
+    private final Map<String, IdempotencyRecord> table = new ConcurrentHashMap<>();
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private IdempotencyServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = newInstance();
+    }
+
+    @Test
+    void executesOnceAndReplaysTheResponse() {
+        ResponseEntity<String> first = service.execute("deposit", "key-1", "acc:10.00", String.class, this::succeed);
+        ResponseEntity<String> second = service.execute("deposit", "key-1", "acc:10.00", String.class, this::succeed);
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getBody()).isEqualTo("done 1");
+        assertThat(first.getHeaders().containsKey(IdempotencyServiceImpl.REPLAYED_HEADER)).isFalse();
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getBody()).isEqualTo("done 1");
+        assertThat(second.getHeaders().getFirst(IdempotencyServiceImpl.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(table.get("deposit:key-1").getState()).isEqualTo(IdempotencyRecord.State.COMPLETED);
+    }
+
+    @Test
+    void replaysFromTheStoreInAnotherInstance() {
+        service.execute("deposit", "key-1", "acc:10.00", String.class, this::succeed);
+
+        ResponseEntity<String> replayed = newInstance().execute("deposit", "key-1", "acc:10.00", String.class,
+                this::succeed);
+
+        assertThat(executions).hasValue(1);
+        assertThat(replayed.getBody()).isEqualTo("done 1");
+        assertThat(replayed.getHeaders().getFirst(IdempotencyServiceImpl.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    void keysAreScopedToTheOperation() {
+        service.execute("deposit", "key-1", "acc:10.00", String.class, this::succeed);
+        service.execute("withdraw", "key-1", "acc:10.00", String.class, this::succeed);
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void rejectsAKeyReusedForADifferentRequest() {
+        service.execute("deposit", "key-1", "acc:10.00", String.class, this::succeed);
+
+        ResponseEntity<String> memory = service.execute("deposit", "key-1", "acc:99.00", String.class, this::succeed);
+        ResponseEntity<String> store = newInstance().execute("deposit", "key-1", "acc:99.00", String.class,
+                this::succeed);
+
+        assertThat(executions).hasValue(1);
+        assertThat(memory.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(store.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    void answersConflictWhileAnotherInstanceHoldsTheKey() {
+        table.put("deposit:key-1", pending("acc:10.00", "other-instance", Duration.ofMinutes(1)));
+
+        ResponseEntity<String> response = service.execute("deposit", "key-1", "acc:10.00", String.class,
+                this::succeed);
+
+        assertThat(executions).hasValue(0);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(table.get("deposit:key-1").getOwner()).isEqualTo("other-instance");
+    }
+
+    @Test
+    void takesOverAClaimThatRanOut() {
+        table.put("deposit:key-1", pending("acc:10.00", "crashed-instance", Duration.ofMinutes(-1)));
+
+        ResponseEntity<String> response = service.execute("deposit", "key-1", "acc:10.00", String.class,
+                this::succeed);
+
+        assertThat(executions).hasValue(1);
+        assertThat(response.getBody()).isEqualTo("done 1");
+        assertThat(table.get("deposit:key-1").getState()).isEqualTo(IdempotencyRecord.State.COMPLETED);
+    }
+
+    @Test
+    void doesNotStoreAFailureSoTheClientCanRetry() {
+        assertThatIllegalStateException().isThrownBy(() -> service.execute("deposit", "key-1", "acc:10.00",
+                String.class, () -> {
+                    executions.incrementAndGet();
+                    throw new IllegalStateException("downstream failed");
+                }));
+        ResponseEntity<String> rejected = service.execute("deposit", "key-1", "acc:10.00", String.class, () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.badRequest().body("insufficient funds");
+        });
+
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(table).isEmpty();
+
+        ResponseEntity<String> retried = service.execute("deposit", "key-1", "acc:10.00", String.class,
+                this::succeed);
+
+        assertThat(executions).hasValue(3);
+        assertThat(retried.getBody()).isEqualTo("done 3");
+    }
+
+    @Test
+    void waiterExecutesItselfWhenTheFirstRequestFails() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        FutureTask<ResponseEntity<String>> first = new FutureTask<>(() -> service.execute("deposit", "key-1",
+                "acc:10.00", String.class, () -> {
+                    executions.incrementAndGet();
+                    started.countDown();
+                    awaitQuietly(finish);
+                    throw new IllegalStateException("downstream failed");
+                }));
+        FutureTask<ResponseEntity<String>> second = new FutureTask<>(
+                () -> service.execute("deposit", "key-1", "acc:10.00", String.class, this::succeed));
+
+        Thread.ofVirtual().start(first);
+        started.await();
+        Thread waiter = Thread.ofPlatform().start(second);
+        waitUntilParked(waiter);
+        finish.countDown();
+
+        assertThatThrownBy(first::get).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(second.get().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.get().getBody()).isEqualTo("done 2");
+    }
+
+    @Test
+    void executesRequestsWithoutAKeyEveryTime() {
+        service.execute("deposit", null, "acc:10.00", String.class, this::succeed);
+        service.execute("deposit", " ", "acc:10.00", String.class, this::succeed);
+
+        assertThat(executions).hasValue(2);
+        assertThat(table).isEmpty();
+    }
+
+    private ResponseEntity<String> succeed() {
+        return ResponseEntity.ok("done " + executions.incrementAndGet());
+    }
+
+    private IdempotencyServiceImpl newInstance() {
+        IdempotencyServiceImpl instance = new IdempotencyServiceImpl(100);
+        ReflectionTestUtils.setField(instance, "idempotencyRecordRepository", repository());
+        ReflectionTestUtils.setField(instance, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(instance, "ttl", Duration.ofHours(24));
+        ReflectionTestUtils.setField(instance, "pendingTimeout", Duration.ofMinutes(1));
+        return instance;
+    }
+
+    private IdempotencyRecordRepository repository() {
+        IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+        when(repository.findById(anyString())).thenAnswer(call -> Optional.ofNullable(table.get(call.getArgument(0))));
+        when(repository.insertPending(anyString(), anyString(), anyString(), any(), any())).thenAnswer(call -> {
+            IdempotencyRecord record = pending(call.getArgument(1), call.getArgument(2), Duration.ZERO);
+            record.setExpiresAt(call.getArgument(4));
+            if (table.putIfAbsent(call.getArgument(0), record) != null) {
+                throw new DuplicateKeyException("Duplicate entry " + call.getArgument(0));
+            }
+            return 1;
+        });
+        when(repository.claimExpired(anyString(), anyString(), anyString(), any(), any(), any())).thenAnswer(call -> {
+            Date now = call.getArgument(3);
+            IdempotencyRecord claimed = table.computeIfPresent(call.getArgument(0),
+                    (id, record) -> record.getExpiresAt().before(now) ? pending(call.getArgument(1),
+                            call.getArgument(2), Duration.ZERO) : record);
+            if (claimed == null || !claimed.getOwner().equals(call.getArgument(2))) {
+                return 0;
+            }
+            claimed.setExpiresAt(call.getArgument(4));
+            return 1;
+        });
+        when(repository.complete(anyString(), anyString(), anyInt(), any(), any(), any())).thenAnswer(call -> {
+            IdempotencyRecord record = table.get(call.getArgument(0));
+            if (record == null || !record.getOwner().equals(call.getArgument(1))) {
+                return 0;
+            }
+            record.setResponseStatus(call.getArgument(2));
+            record.setResponseBody(call.getArgument(3));
+            record.setExpiresAt(call.getArgument(4));
+            record.setState(call.getArgument(5));
+            return 1;
+        });
+        when(repository.release(anyString(), anyString())).thenAnswer(call -> {
+            IdempotencyRecord record = table.get(call.getArgument(0));
+            return record != null && record.getOwner().equals(call.getArgument(1))
+                    && table.remove(call.getArgument(0), record) ? 1 : 0;
+        });
+        return repository;
+    }
+
+    private static IdempotencyRecord pending(String fingerprint, String owner, Duration claimLeft) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setFingerprint(fingerprint);
+        record.setOwner(owner);
+        record.setState(IdempotencyRecord.State.PENDING);
+        record.setCreatedAt(new Date());
+        record.setExpiresAt(new Date(System.currentTimeMillis() + claimLeft.toMillis()));
+        return record;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntilParked(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(thread.getState()).isEqualTo(Thread.State.WAITING);
+    }
+}
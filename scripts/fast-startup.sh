@@ -0,0 +1,29 @@
+#!/usr/bin/env bash
+# Builds a service for the fast-startup mode: AOT-processed bean definitions,
+# the extracted jar layout and an AppCDS archive recorded by a training run.
+#
+# The training run starts the application with the fast-startup profile and
+# exits once the context has been refreshed, so it needs the same database
+# the service will use. Extra arguments are passed to the training run.
+#
+# Usage: scripts/fast-startup.sh <BankUserService|TransactionService> [args...]
+set -euo pipefail
+
+service=${1:?"usage: $0 <BankUserService|TransactionService> [args...]"}
+shift
+cd "$(dirname "$0")/../$service"
+
+mvn -B -q -Pfast-startup -DskipTests package
+jar=$(ls target/*-exec.jar)
+name=$(basename "$jar")
+
+rm -rf target/fast-startup
+java -Djarmode=tools -jar "$jar" extract --destination target/fast-startup
+cd target/fast-startup
+
+java -XX:ArchiveClassesAtExit=application.jsa -Dspring.context.exit=onRefresh -Dspring.aot.enabled=true \
+    -jar "$name" --spring.profiles.active=fast-startup "$@"
+
+echo
+echo "Start $service from $(pwd) with:"
+echo "  java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar $name --spring.profiles.active=fast-startup"